@@ -0,0 +1,349 @@
+package com.ki11erwolf.shoppery.bank;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks saving & loading banks of synthetic wallets in the
+ * current save file format ({@link BankSaveFile}, pretty printed
+ * json), compact json, and a binary format, so storage format
+ * decisions can be made from data.
+ *
+ * <p/>Besides the save & load time, reports the bytes written and
+ * the peak heap used above the bank itself at the end of each
+ * trial. Runs entirely in a temp directory, with detached Wallets
+ * standing in for player wallets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BankPersistenceBenchmark {
+
+    /**
+     * A bank save file format.
+     */
+    public enum Format {
+
+        /**
+         * The current format: pretty printed json.
+         */
+        PRETTY_JSON {
+            @Override
+            void save(SyntheticBank bank, File file) throws IOException {
+                try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+                    BankSaveFile.write(bank.toJsonObject(), writer);
+                }
+            }
+
+            @Override
+            Map<UUID, Wallet> load(File file) throws IOException {
+                try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+                    return SyntheticBank.fromJsonObject(BankSaveFile.read(reader));
+                }
+            }
+        },
+
+        /**
+         * The current json structure, without whitespace,
+         * streamed to & from file.
+         */
+        COMPACT_JSON {
+            @Override
+            void save(SyntheticBank bank, File file) throws IOException {
+                try (Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+                    COMPACT_GSON.toJson(bank.toJsonObject(), writer);
+                }
+            }
+
+            @Override
+            Map<UUID, Wallet> load(File file) throws IOException {
+                try (Reader reader = new BufferedReader(
+                        new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+                    return SyntheticBank.fromJsonObject(COMPACT_GSON.fromJson(reader, JsonObject.class));
+                }
+            }
+        },
+
+        /**
+         * A binary format: a header, followed by the UUID,
+         * player name, balance & cents of each wallet.
+         */
+        BINARY {
+            @Override
+            void save(SyntheticBank bank, File file) throws IOException {
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(file)))) {
+                    out.writeInt(BINARY_MAGIC);
+                    out.writeUTF(bank.worldName);
+                    out.writeInt(bank.uuids.length);
+
+                    for(int i = 0; i < bank.uuids.length; i++){
+                        Wallet wallet = bank.wallets[i];
+
+                        out.writeLong(bank.uuids[i].getMostSignificantBits());
+                        out.writeLong(bank.uuids[i].getLeastSignificantBits());
+                        out.writeUTF(bank.names[i]);
+                        out.writeLong(wallet.getBalance());
+                        out.writeByte(wallet.getCents());
+                    }
+                }
+            }
+
+            @Override
+            Map<UUID, Wallet> load(File file) throws IOException {
+                try (DataInputStream in = new DataInputStream(
+                        new BufferedInputStream(new FileInputStream(file)))) {
+                    if(in.readInt() != BINARY_MAGIC)
+                        throw new IOException("Not a binary bank file: " + file);
+
+                    in.readUTF();//World name
+                    int size = in.readInt();
+                    Map<UUID, Wallet> wallets = new HashMap<>(size * 4 / 3 + 1);
+
+                    for(int i = 0; i < size; i++){
+                        UUID uuid = new UUID(in.readLong(), in.readLong());
+                        in.readUTF();//Player name, only kept for editing the file by hand
+                        wallets.put(uuid, new Wallet(in.readLong(), in.readByte()));
+                    }
+
+                    return wallets;
+                }
+            }
+        };
+
+        /**
+         * Saves the bank to the given file.
+         */
+        abstract void save(SyntheticBank bank, File file) throws IOException;
+
+        /**
+         * @return the wallets in the bank saved
+         * to the given file, by player UUID.
+         */
+        abstract Map<UUID, Wallet> load(File file) throws IOException;
+    }
+
+    /**
+     * Gson object used for compact json.
+     */
+    private static final Gson COMPACT_GSON = new Gson();
+
+    /**
+     * Marks the start of a binary bank file.
+     */
+    private static final int BINARY_MAGIC = 0x53_48_50_42;
+
+    /**
+     * The number of wallets in the bank.
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int wallets;
+
+    /**
+     * The save file format.
+     */
+    @Param({"PRETTY_JSON", "COMPACT_JSON", "BINARY"})
+    public Format format;
+
+    /**
+     * The bank saved & loaded.
+     */
+    private SyntheticBank bank;
+
+    /**
+     * The temp directory holding the save file.
+     */
+    private File directory;
+
+    /**
+     * The save file.
+     */
+    private File saveFile;
+
+    /**
+     * The heap in use after the bank was created,
+     * and before each iteration.
+     */
+    private long baselineHeap;
+
+    /**
+     * The most heap used above the baseline
+     * in any iteration.
+     */
+    private long peakHeap;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        bank = new SyntheticBank(wallets);
+        directory = Files.createTempDirectory("shoppery-bank").toFile();
+        saveFile = new File(directory, "bank.dat");
+
+        //So there is a file to load
+        format.save(bank, saveFile);
+    }
+
+    /**
+     * Resets the peak heap usage,
+     * after a garbage collection.
+     */
+    @Setup(Level.Iteration)
+    public void resetHeap(){
+        System.gc();
+        baselineHeap = 0;
+
+        for(MemoryPoolMXBean pool : getHeapPools()){
+            baselineHeap += pool.getUsage().getUsed();
+            pool.resetPeakUsage();
+        }
+    }
+
+    /**
+     * Records the peak heap usage of the iteration. The sum
+     * of the peak of each memory pool is used, which may be
+     * higher than the true peak.
+     */
+    @TearDown(Level.Iteration)
+    public void recordHeap(){
+        long peak = 0;
+
+        for(MemoryPoolMXBean pool : getHeapPools())
+            peak += pool.getPeakUsage().getUsed();
+
+        peakHeap = Math.max(peakHeap, peak - baselineHeap);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        System.out.printf("%n%s, %d wallets: %,d bytes written, %,d KB peak heap%n",
+                format, wallets, saveFile.length(), peakHeap / 1024);
+
+        //noinspection ResultOfMethodCallIgnored
+        saveFile.delete();
+        //noinspection ResultOfMethodCallIgnored
+        directory.delete();
+    }
+
+    @Benchmark
+    public long save() throws IOException {
+        format.save(bank, saveFile);
+        return saveFile.length();
+    }
+
+    @Benchmark
+    public Map<UUID, Wallet> load() throws IOException {
+        return format.load(saveFile);
+    }
+
+    /**
+     * @return the heap memory pools of this JVM.
+     */
+    private static List<MemoryPoolMXBean> getHeapPools(){
+        List<MemoryPoolMXBean> pools = new ArrayList<>();
+
+        for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if(pool.getType() == MemoryType.HEAP)
+                pools.add(pool);
+
+        return pools;
+    }
+
+    // **************
+    // Synthetic Bank
+    // **************
+
+    /**
+     * A bank of synthetic players, with randomly (but
+     * repeatably) chosen balances.
+     */
+    static final class SyntheticBank {
+
+        /**
+         * The name of the world the bank belongs to.
+         */
+        final String worldName = "Synthetic World";
+
+        /**
+         * The UUID of each player.
+         */
+        final UUID[] uuids;
+
+        /**
+         * The name of each player.
+         */
+        final String[] names;
+
+        /**
+         * The wallet of each player.
+         */
+        final Wallet[] wallets;
+
+        /**
+         * @param size the number of wallets.
+         */
+        SyntheticBank(int size){
+            Random random = new Random(0);
+            uuids = new UUID[size];
+            names = new String[size];
+            wallets = new Wallet[size];
+
+            for(int i = 0; i < size; i++){
+                uuids[i] = new UUID(random.nextLong(), random.nextLong());
+                names[i] = "Player_" + i;
+                wallets[i] = new Wallet(Math.abs(random.nextLong() % 10_000_000), (byte) random.nextInt(100));
+            }
+        }
+
+        /**
+         * Creates the bank data in the json structure
+         * written by {@link Bank#getBankAsJsonObject()}.
+         */
+        JsonObject toJsonObject(){
+            JsonObject jBank = new JsonObject();
+            jBank.add(Bank.WORLD_NAME_KEY, new JsonPrimitive(worldName));
+
+            for(int i = 0; i < uuids.length; i++)
+                jBank.add(uuids[i].toString(), Wallet.getWalletAsJsonObject(
+                        names[i], wallets[i].getBalance(), wallets[i].getCents()
+                ));
+
+            return jBank;
+        }
+
+        /**
+         * Reads the wallets from bank data in the json structure,
+         * as {@link Bank#createBankFromJsonObject(JsonObject,
+         * net.minecraft.world.World)} does, but as detached Wallets.
+         */
+        static Map<UUID, Wallet> fromJsonObject(JsonObject jBank){
+            jBank.remove(Bank.WORLD_NAME_KEY);
+            Map<UUID, Wallet> wallets = new HashMap<>(jBank.size() * 4 / 3 + 1);
+
+            for(Map.Entry<String, JsonElement> entry : jBank.entrySet()){
+                JsonObject jWallet = entry.getValue().getAsJsonObject();
+
+                wallets.put(UUID.fromString(entry.getKey()), new Wallet(
+                        jWallet.get(Wallet.WalletObjectKeys.BALANCE.value).getAsLong(),
+                        jWallet.get(Wallet.WalletObjectKeys.CENTS.value).getAsByte()
+                ));
+            }
+
+            return wallets;
+        }
+    }
+}
@@ -0,0 +1,740 @@
+package com.ki11erwolf.shoppery.bank;
+
+import com.ki11erwolf.shoppery.price.ItemPrice;
+import com.ki11erwolf.shoppery.price.SyntheticPrices;
+import com.ki11erwolf.shoppery.tile.ShopPayments;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * A headless load simulation of the Shoppery economy, used to
+ * capacity-plan servers. Simulates a number of players making
+ * shop trades, payments, deposits and withdrawals against their
+ * {@link Wallet}s at a configurable rate and mix, then reports
+ * throughput, tail latency and allocation rate, and verifies
+ * no money was created or lost.
+ *
+ * <p/>No game is needed: players are stand-ins holding cash (notes
+ * & coins) and an inventory of shop items, whose Wallets are kept in
+ * a {@link Bank} not linked to any world, and shops are {@link
+ * SyntheticPrices synthetic prices}. Every operation looks up the
+ * players Wallet in the Bank, which creates it, with the starting
+ * balance, on first use. Each operation then makes the same Wallet
+ * calls as the code it stands in for:
+ * <ul>
+ *     <li>buy: {@code ShopTile#sellToPlayer}, through
+ *     {@link ShopPayments#takePayment}</li>
+ *     <li>sell: {@code ShopTile#buyFromPlayer}, through
+ *     {@link ShopPayments#givePayment}</li>
+ *     <li>pay: {@code PayCommand}</li>
+ *     <li>deposit: {@code DepositCashPacket}</li>
+ *     <li>withdraw: {@code CurrencyBreakdown#withdraw}</li>
+ * </ul>
+ *
+ * <p/>Money is checked against both the hand-summed Wallets and
+ * {@link Bank#getMoneySupply()}.
+ *
+ * <p/>Run with: {@code gradlew simulateEconomy [-Psim.args="..."]},
+ * see {@link Settings} for the arguments.
+ */
+public final class EconomySimulation {
+
+    /**
+     * Private constructor.
+     */
+    private EconomySimulation(){}
+
+    /**
+     * The number of latency samples kept per operation, per thread.
+     * Once full, samples are replaced at random (reservoir sampling).
+     */
+    private static final int MAX_SAMPLES = 1 << 17;
+
+    /**
+     * The simulated operations.
+     */
+    enum Operation {
+
+        /**
+         * A player buys an item from a shop.
+         */
+        BUY,
+
+        /**
+         * A player sells an item to a shop.
+         */
+        SELL,
+
+        /**
+         * A player pays another player.
+         */
+        PAY,
+
+        /**
+         * A player deposits cash into their wallet.
+         */
+        DEPOSIT,
+
+        /**
+         * A player withdraws cash from their wallet.
+         */
+        WITHDRAW
+    }
+
+    // ********
+    // Settings
+    // ********
+
+    /**
+     * The simulation settings, given as {@code --name=value} arguments:
+     * <ul>
+     *     <li>{@code players} the number of players (default 1000).</li>
+     *     <li>{@code threads} the number of server threads (default 4).</li>
+     *     <li>{@code shops} the number of shops (default 200).</li>
+     *     <li>{@code balance} each players starting balance (default 1000).</li>
+     *     <li>{@code rate} the total operations per second, or 0 to run
+     *     as fast as possible (default 0).</li>
+     *     <li>{@code warmup} the warmup time in seconds (default 5).</li>
+     *     <li>{@code duration} the measured time in seconds (default 20).</li>
+     *     <li>{@code mix} the relative weight of each operation
+     *     (default {@code buy:40,sell:30,pay:10,deposit:10,withdraw:10}).</li>
+     * </ul>
+     */
+    static final class Settings {
+
+        int players = 1000;
+        int threads = 4;
+        int shops = 200;
+        long balance = 1000;
+        long rate = 0;
+        int warmup = 5;
+        int duration = 20;
+        final int[] mix = {40, 30, 10, 10, 10};
+
+        /**
+         * @param args the program arguments.
+         * @return the settings given by the arguments.
+         * @throws IllegalArgumentException if an argument is invalid.
+         */
+        static Settings parse(String[] args){
+            Settings settings = new Settings();
+
+            for(String arg : args){
+                if(!arg.startsWith("--") || !arg.contains("="))
+                    throw new IllegalArgumentException("Expected --name=value: " + arg);
+
+                String name = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+
+                switch (name){
+                    case "players": settings.players = Integer.parseInt(value); break;
+                    case "threads": settings.threads = Integer.parseInt(value); break;
+                    case "shops": settings.shops = Integer.parseInt(value); break;
+                    case "balance": settings.balance = Long.parseLong(value); break;
+                    case "rate": settings.rate = Long.parseLong(value); break;
+                    case "warmup": settings.warmup = Integer.parseInt(value); break;
+                    case "duration": settings.duration = Integer.parseInt(value); break;
+                    case "mix": settings.parseMix(value); break;
+                    default: throw new IllegalArgumentException("Unknown argument: " + name);
+                }
+            }
+
+            if(settings.players < 2 || settings.threads < 1 || settings.shops < 1 || settings.balance < 0
+                    || settings.rate < 0 || settings.warmup < 0 || settings.duration < 1)
+                throw new IllegalArgumentException("Argument out of range");
+
+            if(settings.players < settings.threads)
+                settings.threads = settings.players;
+
+            return settings;
+        }
+
+        /**
+         * @param mix the operation mix, as {@code name:weight} pairs.
+         */
+        private void parseMix(String mix){
+            Arrays.fill(this.mix, 0);
+
+            for(String entry : mix.split(",")){
+                String[] pair = entry.split(":");
+                if(pair.length != 2)
+                    throw new IllegalArgumentException("Expected name:weight: " + entry);
+
+                int weight = Integer.parseInt(pair[1].trim());
+                if(weight < 0)
+                    throw new IllegalArgumentException("Negative weight: " + entry);
+
+                this.mix[Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)).ordinal()] = weight;
+            }
+
+            if(Arrays.stream(this.mix).sum() == 0)
+                throw new IllegalArgumentException("Mix has no operations");
+        }
+
+        @Override
+        public String toString(){
+            StringBuilder mix = new StringBuilder();
+            for(Operation operation : Operation.values())
+                mix.append(mix.length() == 0 ? "" : ",")
+                        .append(operation.name().toLowerCase(Locale.ROOT)).append(':').append(this.mix[operation.ordinal()]);
+
+            return String.format(
+                    "players=%d threads=%d shops=%d balance=%d rate=%s warmup=%ds duration=%ds mix=%s",
+                    players, threads, shops, balance, rate == 0 ? "max" : rate + "/s", warmup, duration, mix
+            );
+        }
+    }
+
+    // *********
+    // The World
+    // *********
+
+    /**
+     * A shop, trading a single item at a fixed price.
+     */
+    private static final class Shop {
+
+        /**
+         * The price paid by players buying from the shop.
+         */
+        final double buyPrice;
+
+        /**
+         * The price paid to players selling to the shop.
+         */
+        final double sellPrice;
+
+        /**
+         * The buy price, in cents, as it
+         * leaves wallets.
+         */
+        final long buyCents;
+
+        /**
+         * The sell price, in cents, as it
+         * enters wallets.
+         */
+        final long sellCents;
+
+        /**
+         * @param price the shops trade, fluctuated as
+         *              a shop does when setup.
+         */
+        Shop(ItemPrice price){
+            this.buyPrice = price.getBuyPrice();
+            this.sellPrice = price.getSellPrice();
+            this.buyCents = ShopPayments.toCents(buyPrice);
+            this.sellCents = ShopPayments.toCents(sellPrice);
+        }
+    }
+
+    /**
+     * A stand-in player. Only the thread simulating the player
+     * touches its cash & items, however any thread paying the
+     * player will add to its wallet.
+     */
+    private static final class SimulatedPlayer {
+
+        /**
+         * The players UUID, which their
+         * wallet is kept under in the bank.
+         */
+        final UUID id = UUID.randomUUID();
+
+        /**
+         * The notes & coins, in cents, held by the player.
+         */
+        long cash;
+
+        /**
+         * The number of each shops item held by the player.
+         */
+        final int[] items;
+
+        /**
+         * @param shops the number of shops.
+         */
+        SimulatedPlayer(int shops){
+            this.items = new int[shops];
+        }
+    }
+
+    /**
+     * The total amount of money, in cents, in all the given
+     * players wallets (summed by hand) & cash.
+     */
+    private static long totalMoney(Bank bank, SimulatedPlayer[] players){
+        long total = 0;
+
+        for(SimulatedPlayer player : players){
+            Wallet wallet = bank.findWallet(player.id);
+
+            if(wallet != null)
+                synchronized (wallet){
+                    total += wallet.getBalance() * 100 + wallet.getCents();
+                }
+
+            total += player.cash;
+        }
+
+        return total;
+    }
+
+    /**
+     * The total amount of cash, in cents,
+     * held by all the given players.
+     */
+    private static long totalCash(SimulatedPlayer[] players){
+        long total = 0;
+
+        for(SimulatedPlayer player : players)
+            total += player.cash;
+
+        return total;
+    }
+
+    // *******
+    // Workers
+    // *******
+
+    /**
+     * Money given to players as the starting
+     * balance of new wallets, in cents.
+     */
+    private static final LongAdder CREATED = new LongAdder();
+
+    /**
+     * Money paid to players by shops, in cents.
+     */
+    private static final LongAdder MINTED = new LongAdder();
+
+    /**
+     * Money paid to shops by players, in cents.
+     */
+    private static final LongAdder BURNED = new LongAdder();
+
+    /**
+     * A server thread, simulating a share of the players.
+     */
+    private static final class Worker extends Thread {
+
+        /**
+         * The simulation settings.
+         */
+        private final Settings settings;
+
+        /**
+         * The bank holding every players wallet.
+         */
+        private final Bank bank;
+
+        /**
+         * Creates the wallets of players
+         * without one, in the bank.
+         */
+        private final Function<UUID, Wallet> walletCreator;
+
+        /**
+         * Every player.
+         */
+        private final SimulatedPlayer[] players;
+
+        /**
+         * Every shop.
+         */
+        private final Shop[] shops;
+
+        /**
+         * The index of the first player this thread simulates;
+         * it simulates every {@code settings.threads}th player.
+         */
+        private final int firstPlayer;
+
+        /**
+         * When the warmup ends ({@link System#nanoTime()}).
+         */
+        private final long warmupEnd;
+
+        /**
+         * When the measurement ends ({@link System#nanoTime()}).
+         */
+        private final long end;
+
+        /**
+         * The number of successful operations, by
+         * operation, during measurement.
+         */
+        final long[] succeeded = new long[Operation.values().length];
+
+        /**
+         * The number of failed operations, by
+         * operation, during measurement.
+         */
+        final long[] failed = new long[Operation.values().length];
+
+        /**
+         * The sampled latency, in nanoseconds, by operation,
+         * of operations during measurement.
+         */
+        final long[][] samples = new long[Operation.values().length][MAX_SAMPLES];
+
+        /**
+         * The number of latencies sampled, by operation.
+         */
+        final long[] sampleCount = new long[Operation.values().length];
+
+        /**
+         * The bytes allocated by this thread during
+         * measurement, or {@code -1} if unsupported.
+         */
+        long allocated = -1;
+
+        Worker(Settings settings, Bank bank, SimulatedPlayer[] players, Shop[] shops, int index,
+               long warmupEnd, long end){
+            super("economy-simulation-" + index);
+            this.settings = settings;
+            this.bank = bank;
+            this.walletCreator = id -> {
+                CREATED.add(settings.balance * 100);
+                return new Wallet(settings.balance, (byte) 0);
+            };
+            this.players = players;
+            this.shops = shops;
+            this.firstPlayer = index;
+            this.warmupEnd = warmupEnd;
+            this.end = end;
+        }
+
+        @Override
+        public void run(){
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int totalWeight = Arrays.stream(settings.mix).sum();
+            int ownPlayers = (settings.players - firstPlayer + settings.threads - 1) / settings.threads;
+
+            //Open loop when rate limited: latency is measured from when
+            //the operation should have started, not when it did.
+            long interval = settings.rate == 0 ? 0 : settings.threads * 1_000_000_000L / settings.rate;
+            long next = System.nanoTime();
+            boolean measuring = false;
+            long allocatedAtStart = 0;
+
+            while (true){
+                long start;
+
+                if(interval != 0){
+                    long now;
+                    while ((now = System.nanoTime()) < next)
+                        LockSupport.parkNanos(next - now);
+
+                    start = next;
+                    next += interval;
+                } else start = System.nanoTime();
+
+                if(!measuring && start >= warmupEnd){
+                    measuring = true;
+                    allocatedAtStart = allocatedBytes();
+                }
+
+                if(start >= end)
+                    break;
+
+                Operation operation = pick(random.nextInt(totalWeight));
+                SimulatedPlayer player = players[firstPlayer + random.nextInt(ownPlayers) * settings.threads];
+                boolean success = perform(operation, player, random);
+                long latency = System.nanoTime() - start;
+
+                if(!measuring)
+                    continue;
+
+                if(success) succeeded[operation.ordinal()]++;
+                else failed[operation.ordinal()]++;
+
+                sample(operation.ordinal(), latency, random);
+            }
+
+            if(measuring && allocatedAtStart >= 0)
+                allocated = allocatedBytes() - allocatedAtStart;
+        }
+
+        /**
+         * @param roll a random number under the total weight of the mix.
+         * @return the operation the number picks from the mix.
+         */
+        private Operation pick(int roll){
+            for(Operation operation : Operation.values())
+                if((roll -= settings.mix[operation.ordinal()]) < 0)
+                    return operation;
+
+            throw new IllegalStateException("Roll exceeds mix weight");
+        }
+
+        /**
+         * Performs an operation for the given player.
+         *
+         * @return {@code true} if the operation succeeded,
+         * {@code false} if the player lacked the money or items.
+         */
+        private boolean perform(Operation operation, SimulatedPlayer player, ThreadLocalRandom random){
+            Wallet wallet = bank.getWallet(player.id, walletCreator);
+
+            switch (operation){
+                case BUY: {
+                    int item = random.nextInt(shops.length);
+                    Shop shop = shops[item];
+
+                    if(shop.buyPrice <= 0)
+                        return false;
+
+                    if(!ShopPayments.takePayment(wallet, shop.buyPrice, shop.sellPrice, false))
+                        return false;
+
+                    player.items[item]++;
+                    BURNED.add(shop.buyCents);
+                    return true;
+                }
+                case SELL: {
+                    int item = random.nextInt(shops.length);
+                    Shop shop = shops[item];
+
+                    if(player.items[item] == 0 || shop.sellPrice <= 0)
+                        return false;
+
+                    player.items[item]--;
+                    ShopPayments.givePayment(wallet, shop.buyPrice, shop.sellPrice, false);
+                    MINTED.add(shop.sellCents);
+                    return true;
+                }
+                case PAY: {
+                    //Any player but this one
+                    SimulatedPlayer to = players[random.nextInt(players.length - 1)];
+                    if(to == player)
+                        to = players[players.length - 1];
+
+                    int cents = random.nextInt(100);
+                    String amount = (1 + random.nextInt(100)) + (cents < 10 ? ".0" : ".") + cents;
+
+                    if(!wallet.subtract(amount))
+                        return false;
+
+                    bank.getWallet(to.id, walletCreator).add(amount);
+                    return true;
+                }
+                case DEPOSIT: {
+                    long notes = player.cash / 100;
+
+                    if(notes > 0){
+                        long amount = 1 + random.nextLong(Math.min(notes, 100));
+                        wallet.add(amount);
+                        player.cash -= amount * 100;
+                    } else if(player.cash > 0){
+                        wallet.add(0, (byte) player.cash);
+                        player.cash = 0;
+                    } else return false;
+
+                    return true;
+                }
+                case WITHDRAW: {
+                    long amount = 1 + random.nextInt(50);
+                    byte cents = (byte) random.nextInt(100);
+
+                    if(!wallet.subtract(amount, cents))
+                        return false;
+
+                    player.cash += amount * 100 + cents;
+                    return true;
+                }
+                default: throw new IllegalArgumentException(operation.name());
+            }
+        }
+
+        /**
+         * Records a latency sample, replacing a random
+         * sample once the samples are full.
+         */
+        private void sample(int operation, long latency, ThreadLocalRandom random){
+            long count = sampleCount[operation]++;
+
+            if(count < MAX_SAMPLES)
+                samples[operation][(int) count] = latency;
+            else {
+                long replace = random.nextLong(count + 1);
+                if(replace < MAX_SAMPLES)
+                    samples[operation][(int) replace] = latency;
+            }
+        }
+
+        /**
+         * @return the bytes allocated by this thread so
+         * far, or {@code -1} if the JVM can't tell.
+         */
+        private long allocatedBytes(){
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+            if(bean instanceof com.sun.management.ThreadMXBean)
+                return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(getId());
+
+            return -1;
+        }
+    }
+
+    // ***
+    // Run
+    // ***
+
+    /**
+     * Runs the simulation and prints the report.
+     * Exits with status {@code 1} if money was
+     * created or lost.
+     *
+     * @param args the {@link Settings}.
+     * @throws InterruptedException if interrupted
+     * while waiting for the simulation.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Settings settings = Settings.parse(args);
+        System.out.println("Economy simulation: " + settings);
+
+        Random random = new Random(0);
+        Shop[] shops = new Shop[settings.shops];
+        ItemPrice[] prices = SyntheticPrices.prices(settings.shops);
+        for(int i = 0; i < shops.length; i++)
+            shops[i] = new Shop(prices[i].withPriceFluctuation(random));
+
+        Bank bank = new Bank();
+        SimulatedPlayer[] players = new SimulatedPlayer[settings.players];
+        for(int i = 0; i < players.length; i++)
+            players[i] = new SimulatedPlayer(settings.shops);
+
+        long warmupEnd = System.nanoTime() + settings.warmup * 1_000_000_000L;
+        long end = warmupEnd + settings.duration * 1_000_000_000L;
+
+        Worker[] workers = new Worker[settings.threads];
+        for(int i = 0; i < workers.length; i++)
+            (workers[i] = new Worker(settings, bank, players, shops, i, warmupEnd, end)).start();
+
+        for(Worker worker : workers)
+            worker.join();
+
+        report(settings, workers);
+        if(!checkConservation(bank, players))
+            System.exit(1);
+    }
+
+    /**
+     * Prints the throughput, latency & allocation
+     * rate of the measured operations.
+     */
+    private static void report(Settings settings, Worker[] workers){
+        System.out.printf("%n%-9s %12s %10s %12s %10s %10s %10s %10s%n",
+                "op", "ok", "failed", "ops/s", "p50 us", "p99 us", "p99.9 us", "max us");
+
+        long totalOps = 0;
+        for(Operation operation : Operation.values()){
+            int o = operation.ordinal();
+            long ok = 0, failed = 0;
+            int samples = 0;
+
+            for(Worker worker : workers){
+                ok += worker.succeeded[o];
+                failed += worker.failed[o];
+                samples += (int) Math.min(worker.sampleCount[o], MAX_SAMPLES);
+            }
+
+            long[] latencies = new long[samples];
+            int filled = 0;
+            for(Worker worker : workers){
+                int count = (int) Math.min(worker.sampleCount[o], MAX_SAMPLES);
+                System.arraycopy(worker.samples[o], 0, latencies, filled, count);
+                filled += count;
+            }
+            Arrays.sort(latencies);
+
+            totalOps += ok + failed;
+            System.out.printf("%-9s %12d %10d %12.0f %10.1f %10.1f %10.1f %10.1f%n",
+                    operation.name().toLowerCase(Locale.ROOT), ok, failed, (ok + failed) / (double) settings.duration,
+                    percentile(latencies, 0.5), percentile(latencies, 0.99),
+                    percentile(latencies, 0.999), percentile(latencies, 1)
+            );
+        }
+
+        System.out.printf("%nTotal: %.0f ops/s%n", totalOps / (double) settings.duration);
+
+        long allocated = 0;
+        for(Worker worker : workers){
+            if(worker.allocated < 0){
+                System.out.println("Allocation rate: unsupported by this JVM");
+                return;
+            }
+
+            allocated += worker.allocated;
+        }
+
+        System.out.printf("Allocation rate: %.1f MB/s, %.0f bytes/op%n",
+                allocated / (double) settings.duration / (1024 * 1024),
+                totalOps == 0 ? 0D : allocated / (double) totalOps
+        );
+    }
+
+    /**
+     * @param sorted the sorted latencies, in nanoseconds.
+     * @param percentile the percentile (0-1).
+     * @return the percentile latency, in microseconds.
+     */
+    private static double percentile(long[] sorted, double percentile){
+        if(sorted.length == 0)
+            return 0;
+
+        int index = (int) Math.ceil(sorted.length * percentile) - 1;
+        return sorted[Math.max(0, index)] / 1000D;
+    }
+
+    /**
+     * Checks that the money held by all players is exactly the
+     * starting balance of every wallet, plus what shops paid,
+     * minus what shops were paid, that the banks money supply
+     * agrees with the wallets, and that every wallet is valid.
+     *
+     * @return {@code true} if money was conserved.
+     */
+    private static boolean checkConservation(Bank bank, SimulatedPlayer[] players){
+        long expected = CREATED.sum() + MINTED.sum() - BURNED.sum();
+        long actual = totalMoney(bank, players);
+        long supply = bank.getMoneySupply();
+        long cash = totalCash(players);
+        boolean valid = true;
+
+        for(SimulatedPlayer player : players){
+            Wallet wallet = bank.findWallet(player.id);
+
+            if(player.cash < 0 || (wallet != null && (wallet.getBalance() < 0 || wallet.getCents() < 0
+                    || wallet.getCents() > 99))){
+                System.out.println("Invalid player state: " + wallet + ", cash: " + player.cash);
+                valid = false;
+            }
+        }
+
+        System.out.printf("%nMoney: wallets created with %d, shops paid %d, shops received %d, expected %d, "
+                + "actual %d (cents)%n", CREATED.sum(), MINTED.sum(), BURNED.sum(), expected, actual);
+        System.out.printf("Bank: money supply %d, plus cash %d, totals %d (cents)%n", supply, cash, supply + cash);
+
+        if(expected != actual){
+            System.out.printf("Conservation: FAILED, %d cents %s%n",
+                    Math.abs(actual - expected), actual > expected ? "created" : "lost");
+            return false;
+        }
+
+        if(supply + cash != actual){
+            System.out.printf("Conservation: FAILED, bank money supply is off by %d cents%n",
+                    supply + cash - actual);
+            return false;
+        }
+
+        System.out.println("Conservation: " + (valid ? "OK" : "FAILED"));
+        return valid;
+    }
+}
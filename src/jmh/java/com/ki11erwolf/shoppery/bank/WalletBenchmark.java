@@ -0,0 +1,114 @@
+package com.ki11erwolf.shoppery.bank;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks the {@link Wallet} money hot path: adding to and
+ * subtracting from a balance through each of the long & cents,
+ * float and String overloads, and matching amounts against
+ * the {@link Wallet#BALANCE_REGEX}.
+ *
+ * <p/>Uses a detached Wallet, so no player or game is needed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WalletBenchmark {
+
+    /**
+     * The balance the wallet starts each iteration
+     * with, large enough to never run out.
+     */
+    private static final long START_BALANCE = Long.MAX_VALUE / 4;
+
+    /**
+     * The precompiled balance regex, as a baseline
+     * for {@link String#matches(String)}.
+     */
+    private static final Pattern BALANCE_PATTERN = Pattern.compile(Wallet.BALANCE_REGEX);
+
+    /**
+     * The amount added/subtracted, as a String.
+     */
+    @Param({"5", "1,234.56"})
+    public String amount;
+
+    /**
+     * The detached wallet.
+     */
+    private Wallet wallet;
+
+    /**
+     * Creates a fresh wallet for each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void setup(){
+        wallet = new Wallet(START_BALANCE, (byte) 50);
+    }
+
+    // Add
+
+    @Benchmark
+    public long addLong(){
+        wallet.add(12L);
+        return wallet.getBalance();
+    }
+
+    @Benchmark
+    public long addLongCents(){
+        wallet.add(12L, (byte) 34);
+        return wallet.getBalance();
+    }
+
+    @Benchmark
+    public long addFloat(){
+        wallet.add(12.34F);
+        return wallet.getBalance();
+    }
+
+    @Benchmark
+    public long addString(){
+        wallet.add(amount);
+        return wallet.getBalance();
+    }
+
+    // Subtract
+
+    @Benchmark
+    public boolean subtractLong(){
+        return wallet.subtract(12L);
+    }
+
+    @Benchmark
+    public boolean subtractLongCents(){
+        return wallet.subtract(12L, (byte) 34);
+    }
+
+    @Benchmark
+    public boolean subtractFloat(){
+        return wallet.subtract(12.34F);
+    }
+
+    @Benchmark
+    public boolean subtractString(){
+        return wallet.subtract(amount);
+    }
+
+    // Regex
+
+    @Benchmark
+    public boolean balanceRegexMatches(){
+        return amount.matches(Wallet.BALANCE_REGEX);
+    }
+
+    @Benchmark
+    public boolean balancePatternMatches(){
+        return BALANCE_PATTERN.matcher(amount).matches();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ki11erwolf.shoppery.price;
+
+import net.minecraft.util.ResourceLocation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ItemPrices} lookups from a loaded registry
+ * under concurrent readers. The registry is loaded {@link
+ * PriceRegistry#loadHeadless(java.util.function.Predicate,
+ * ItemPrice[][]) headless} from synthetic prices.
+ *
+ * <p/>The registry can only be loaded once per JVM, so every
+ * registry size runs in its own fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PriceLookupBenchmark {
+
+    /**
+     * The number of prices in the registry.
+     */
+    @Param({"1000", "10000", "100000"})
+    public int entries;
+
+    /**
+     * The registry names looked up.
+     */
+    private ResourceLocation[] items;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        ItemPrice[] prices = SyntheticPrices.prices(entries);
+        PriceRegistry.INSTANCE.loadHeadless(SyntheticPrices.EXISTS, prices);
+
+        items = new ResourceLocation[prices.length];
+        for(int i = 0; i < prices.length; i++)
+            items[i] = prices[i].getItem();
+    }
+
+    @Benchmark
+    public ItemPrice getPrice(){
+        return ItemPrices.getPrice(items[ThreadLocalRandom.current().nextInt(items.length)]);
+    }
+
+    @Benchmark
+    public ItemPrice getRandomPrice(){
+        return ItemPrices.getRandomPrice();
+    }
+}
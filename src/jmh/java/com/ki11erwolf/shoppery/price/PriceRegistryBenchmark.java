@@ -0,0 +1,70 @@
+package com.ki11erwolf.shoppery.price;
+
+import net.minecraft.util.ResourceLocation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link PriceRegistry} merge & clean steps
+ * on synthetic prices, with the forge registries replaced
+ * by {@link SyntheticPrices#EXISTS}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceRegistryBenchmark {
+
+    /**
+     * The number of prices in the registry.
+     */
+    @Param({"1000", "10000", "100000"})
+    public int entries;
+
+    /**
+     * The prices, as given by a loader.
+     */
+    private ItemPrice[] prices;
+
+    /**
+     * A merged, but not yet cleaned, price map.
+     */
+    private Map<ResourceLocation, ItemPrice> merged;
+
+    @Setup(Level.Trial)
+    public void setupPrices(){
+        prices = SyntheticPrices.prices(entries);
+    }
+
+    /**
+     * Recreates the uncleaned map before each clean,
+     * as cleaning removes entries.
+     */
+    @Setup(Level.Invocation)
+    public void setupMap(){
+        merged = new LinkedHashMap<>(entries);
+        PriceRegistry.merge(merged, prices);
+    }
+
+    /**
+     * Merges the prices into an empty map, then again
+     * into the full map, as a later loader replacing
+     * every earlier price would.
+     */
+    @Benchmark
+    public int merge(){
+        Map<ResourceLocation, ItemPrice> map = new LinkedHashMap<>(ItemPrices.ENTRIES_EXPECTED);
+        return PriceRegistry.merge(map, prices) + PriceRegistry.merge(map, prices);
+    }
+
+    @Benchmark
+    public List<ItemPrice> clean(){
+        return PriceRegistry.clean(merged, SyntheticPrices.EXISTS);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ki11erwolf.shoppery.price;
+
+import net.minecraft.util.ResourceLocation;
+
+import java.util.function.Predicate;
+
+/**
+ * Generates synthetic price files & ItemPrices for the price
+ * benchmarks, and stands in for the forge registries.
+ *
+ * <p/>Every twentieth item is named {@code missing_<n>} and does
+ * not {@link #EXISTS exist}, so cleaning removes 5% of entries.
+ */
+public final class SyntheticPrices {
+
+    /**
+     * The mod id the synthetic prices are for.
+     */
+    public static final String MODID = "synthetic";
+
+    /**
+     * Stands in for the forge registry check: every
+     * item exists, except the {@code missing_} ones.
+     */
+    public static final Predicate<ResourceLocation> EXISTS = item -> !item.getPath().startsWith("missing_");
+
+    /**
+     * Private constructor.
+     */
+    private SyntheticPrices(){}
+
+    /**
+     * @param index the index of an entry.
+     * @return the item name of the entry.
+     */
+    public static String getName(int index){
+        return (index % 20 == 0 ? "missing_" : "item_") + index;
+    }
+
+    /**
+     * Creates a price file, in the prices.json format, with the
+     * given number of entries, using every supported price form.
+     *
+     * @param entries the number of entries.
+     * @return the price file contents.
+     */
+    public static String json(int entries){
+        StringBuilder json = new StringBuilder(entries * 48).append("{\"prices\": {\"").append(MODID).append("\": {");
+
+        for(int i = 0; i < entries; i++){
+            if(i != 0)
+                json.append(',');
+
+            json.append('"').append(getName(i)).append("\": ");
+
+            switch (i % 4){
+                case 0: json.append(i % 500 + 1); break;
+                case 1: json.append("{\"buy\": ").append(i % 500 + 1).append(", \"sell\": 0.50}"); break;
+                case 2: json.append("{\"buy\": 10, \"sell\": 2, \"fluctuation\": 5.0}"); break;
+                default: json.append("null");
+            }
+        }
+
+        return json.append("}}}").toString();
+    }
+
+    /**
+     * @param entries the number of entries.
+     * @return the given number of ItemPrices.
+     */
+    public static ItemPrice[] prices(int entries){
+        ItemPrice[] prices = new ItemPrice[entries];
+
+        for(int i = 0; i < entries; i++)
+            prices[i] = new ItemPrice(new ResourceLocation(MODID, getName(i)), i % 500 + 1, 0.5);
+
+        return prices;
+    }
+}
@@ -0,0 +1,89 @@
+package com.ki11erwolf.shoppery.price.loaders;
+
+import com.ki11erwolf.shoppery.price.ItemPrice;
+import com.ki11erwolf.shoppery.price.SyntheticPrices;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link ShopperyPricesLoader} & {@link
+ * ExternalPricesLoader} against synthetic price files,
+ * with the Forge mod list replaced by a stub.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoaderBenchmark {
+
+    /**
+     * The number of entries in the price file.
+     */
+    @Param({"1000", "10000", "100000"})
+    public int entries;
+
+    /**
+     * The price file contents.
+     */
+    private byte[] pricesFile;
+
+    /**
+     * The directory holding the external price file.
+     */
+    private File pricesDirectory;
+
+    @Setup
+    public void setup() throws IOException {
+        pricesFile = SyntheticPrices.json(entries).getBytes(StandardCharsets.UTF_8);
+
+        pricesDirectory = Files.createTempDirectory("shoppery-prices").toFile();
+        Files.write(new File(pricesDirectory, "synthetic.json").toPath(), pricesFile);
+    }
+
+    @TearDown
+    public void tearDown(){
+        File[] files = pricesDirectory.listFiles();
+
+        if(files != null)
+            for(File file : files)
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+
+        //noinspection ResultOfMethodCallIgnored
+        pricesDirectory.delete();
+    }
+
+    @Benchmark
+    public ItemPrice[] shopperyPricesLoader(){
+        return new ShopperyPricesLoader(){
+            @Override
+            InputStream openPricesFile() {
+                return new ByteArrayInputStream(pricesFile);
+            }
+
+            @Override
+            boolean isModLoaded(String modid) {
+                return SyntheticPrices.MODID.equals(modid);
+            }
+        }.load();
+    }
+
+    @Benchmark
+    public ItemPrice[] externalPricesLoader(){
+        return new ExternalPricesLoader(pricesDirectory){
+            @Override
+            boolean isModLoaded(String modid) {
+                return SyntheticPrices.MODID.equals(modid);
+            }
+        }.load();
+    }
+}
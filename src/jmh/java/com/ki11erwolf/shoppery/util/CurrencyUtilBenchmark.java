@@ -0,0 +1,90 @@
+package com.ki11erwolf.shoppery.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link CurrencyUtil} conversions used every
+ * time a balance or price is shown or parsed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyUtilBenchmark {
+
+    /**
+     * The balance (excluding cents) formatted.
+     */
+    @Param({"0", "999", "1234567", "92150000000"})
+    public long balance;
+
+    /**
+     * The cents formatted.
+     */
+    private final byte cents = 7;
+
+    /**
+     * The amount as a float, for {@link
+     * CurrencyUtil#floatToCurrency(float)}.
+     */
+    private float floatAmount;
+
+    /**
+     * The amount as a double, for {@link
+     * CurrencyUtil#toFullString(double)}.
+     */
+    private double doubleAmount;
+
+    /**
+     * The builder reused by the append
+     * benchmarks, as a screen would.
+     */
+    private final StringBuilder builder = new StringBuilder(32);
+
+    @Setup
+    public void setup(){
+        floatAmount = balance + cents / 100F;
+        doubleAmount = balance + cents / 100D;
+    }
+
+    @Benchmark
+    public String toFullString(){
+        return CurrencyUtil.toFullString(balance, cents);
+    }
+
+    @Benchmark
+    public String toFullStringDouble(){
+        return CurrencyUtil.toFullString(doubleAmount);
+    }
+
+    @Benchmark
+    public String toShortString(){
+        return CurrencyUtil.toShortString(balance, cents);
+    }
+
+    @Benchmark
+    public String toShortStringDouble(){
+        return CurrencyUtil.toShortString(doubleAmount);
+    }
+
+    @Benchmark
+    public int appendFull(){
+        builder.setLength(0);
+        return CurrencyUtil.appendFull(builder, balance, cents).length();
+    }
+
+    @Benchmark
+    public int appendShort(){
+        builder.setLength(0);
+        return CurrencyUtil.appendShort(builder, balance, cents).length();
+    }
+
+    @Benchmark
+    public String floatToCurrency(){
+        return CurrencyUtil.floatToCurrency(floatAmount);
+    }
+}
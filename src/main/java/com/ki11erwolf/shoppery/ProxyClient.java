@@ -2,6 +2,7 @@ package com.ki11erwolf.shoppery;
 
 import com.ki11erwolf.shoppery.gui.WalletToggleButton;
 import com.ki11erwolf.shoppery.tile.renderer.ModTileRenderers;
+import com.ki11erwolf.shoppery.util.LocaleTemplate;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
@@ -18,6 +19,7 @@ public class ProxyClient extends ProxyServer {
     public void onClientSetup(FMLClientSetupEvent event) {
         WalletToggleButton.init();
         ModTileRenderers.registerRenderers(event);
+        event.enqueueWork(LocaleTemplate::init);
     }
 
     /**
@@ -5,6 +5,7 @@ import com.ki11erwolf.shoppery.command.Command;
 import com.ki11erwolf.shoppery.item.ModItems;
 import com.ki11erwolf.shoppery.packets.Packet;
 import com.ki11erwolf.shoppery.price.ItemPrices;
+import com.ki11erwolf.shoppery.stats.EconomyStats;
 import com.ki11erwolf.shoppery.tile.ModTiles;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
@@ -29,6 +30,7 @@ public class ProxyServer implements Proxy {
     public void onServerSetup(FMLCommonSetupEvent event) {
         Packet.init();
         Command.init();
+        EconomyStats.init();
     }
 
     /**
@@ -58,9 +58,10 @@ public class ShopperyMod {
 
     /**
      * The proxy class (server or client) for this instance.
+     * Created by the mod constructor, so the mod classes can
+     * be loaded without Forge running (e.g. in benchmarks).
      */
-    @SuppressWarnings({"FieldMayBeFinal", "deprecation"})
-    private static Proxy proxy = DistExecutor.runForDist(() -> ProxyClient::new, () -> ProxyServer::new);
+    private static Proxy proxy;
 
     /**
      * Default Constructor for main Shoppery Mod class and
@@ -70,7 +71,9 @@ public class ShopperyMod {
      * construct, setup, create, & make the mod. Setup
      * methods are called in a specific order.
      */
+    @SuppressWarnings("deprecation")
     public ShopperyMod() {
+        proxy = DistExecutor.runForDist(() -> ProxyClient::new, () -> ProxyServer::new);
         IEventBus eventBus = FMLJavaModLoadingContext.get().getModEventBus();
         initSetup(eventBus);
     }
@@ -10,7 +10,9 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraftforge.fml.network.PacketDistributor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -32,6 +34,14 @@ public final class ShopperySoundEvents {
      */
     private static final Map<String, SoundEvent> SOUND_EVENT_MAP = new HashMap<>();
 
+    /**
+     * An internal list of Shoppery sound events in the order they're
+     * created. The index of a sound event is its numeric id, which is
+     * the same on both server & client, and is used to send sound
+     * events in packets.
+     */
+    private static final List<SoundEvent> SOUND_EVENT_IDS = new ArrayList<>();
+
     /**
      * The cash withdraw sound effect. Used when taking money from the
      * wallet/money gui.
@@ -78,6 +88,7 @@ public final class ShopperySoundEvents {
     private static SoundEvent newSoundEvent(String registryName){
         SoundEvent event = new SoundEvent(new ResourceLocation(ShopperyMod.MODID, registryName));
         SOUND_EVENT_MAP.put(event.getName().toString(), event);
+        SOUND_EVENT_IDS.add(event);
         return event;
     }
 
@@ -93,6 +104,26 @@ public final class ShopperySoundEvents {
         return SOUND_EVENT_MAP.get(registryName);
     }
 
+    /**
+     * Gets the Shoppery sound event with the given numeric id.
+     *
+     * @param id the numeric id of the sound event.
+     * @return the sound event with the given id or {@code
+     * null} if no sound event has the id.
+     */
+    public static SoundEvent getSoundEvent(int id){
+        return id < 0 || id >= SOUND_EVENT_IDS.size() ? null : SOUND_EVENT_IDS.get(id);
+    }
+
+    /**
+     * @param soundEvent a Shoppery sound event.
+     * @return the numeric id of the given sound event,
+     * or {@code -1} if it isn't a Shoppery sound event.
+     */
+    public static int getSoundEventID(SoundEvent soundEvent){
+        return SOUND_EVENT_IDS.indexOf(soundEvent);
+    }
+
     /**
      * Sends a packet requesting a client play a specific sound event
      * to the player. Sent by servers to enable playing sound events
@@ -109,7 +140,7 @@ public final class ShopperySoundEvents {
         }
 
         Packet.send(PacketDistributor.PLAYER.with(() -> (ServerPlayerEntity) player),
-                new PlaySoundOnClientPacket(player, soundEvent, volume, pitch)
+                new PlaySoundOnClientPacket(soundEvent, volume, pitch)
         );
     }
 
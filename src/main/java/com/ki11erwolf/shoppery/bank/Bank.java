@@ -10,10 +10,11 @@ import com.mojang.authlib.GameProfile;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.world.World;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * The Bank is a {@link Wallet} storage and access system. It's responsible
@@ -30,11 +31,14 @@ public class Bank {
 
     /**
      * Map for accessing player wallets from their UUID's.
+     * Concurrent, so existing wallets can be read off the
+     * main thread.
      */
-    private final Map<UUID, Wallet> walletMap = new HashMap<>();
+    private final Map<UUID, Wallet> walletMap = new ConcurrentHashMap<>();
 
     /**
-     * The world this bank is linked to.
+     * The world this bank is linked to, or
+     * {@code null} if not linked to a world.
      */
     private final World world;
 
@@ -48,6 +52,15 @@ public class Bank {
         this.world = Objects.requireNonNull(world);
     }
 
+    /**
+     * Creates a new bank not linked to any world, for
+     * use without a game (e.g. in simulations). Such a
+     * bank cannot be saved.
+     */
+    Bank(){
+        this.world = null;
+    }
+
     //************
     // PUBLIC API
     //************
@@ -66,23 +79,7 @@ public class Bank {
      * a wallet.
      */
     public Wallet getWallet(UUID playerUUID){
-        Wallet givenWallet = walletMap.get(playerUUID);
-
-        //If player has no wallet.
-        if(givenWallet == null){
-            PlayerEntity player = MCUtil.getPlayerFromUUID(playerUUID);
-
-            //If not player can be found.
-            if(player == null)
-                return null;
-
-            givenWallet = new Wallet(
-                    player, ModConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getStartingBalance(), (byte)0
-            );
-            walletMap.put(playerUUID, givenWallet);
-        }
-
-        return givenWallet;
+        return getWallet(playerUUID, Bank::createWallet);
     }
 
     /**
@@ -119,6 +116,35 @@ public class Bank {
         return getWallet(profile.getId());
     }
 
+    /**
+     * Finds a players wallet in the Bank, without
+     * creating a new wallet if the player does not
+     * have one. Safe to call off the main thread.
+     *
+     * @param playerUUID the players UUID.
+     * @return the players wallet, or {@code null}
+     * if the player does not have a wallet.
+     */
+    public Wallet findWallet(UUID playerUUID){
+        return walletMap.get(playerUUID);
+    }
+
+    /**
+     * @return the total money, in cents, in every
+     * wallet in this Bank. Safe to call off the
+     * main thread.
+     */
+    public long getMoneySupply(){
+        long supply = 0;
+
+        for(Wallet wallet : walletMap.values())
+            synchronized (wallet){
+                supply += wallet.getBalance() * 100 + wallet.getCents();
+            }
+
+        return supply;
+    }
+
     /**
      * @return the world this bank is linked to.
      */
@@ -136,10 +162,54 @@ public class Bank {
     // INTERNAL LOGIC
     //****************
 
+    /**
+     * Gets a players wallet from the Bank, creating
+     * it with the given function if the player does
+     * not have a wallet. Wallets are only ever created
+     * once, even when called from multiple threads.
+     *
+     * @param playerUUID the players UUID.
+     * @param creator creates a new wallet for the
+     *                player, or returns {@code null}
+     *                if it can't.
+     * @return the players wallet, or {@code null}
+     * if the player does not have a wallet and one
+     * could not be created.
+     */
+    Wallet getWallet(UUID playerUUID, Function<UUID, Wallet> creator){
+        Wallet givenWallet = walletMap.get(playerUUID);
+
+        //If player has no wallet.
+        if(givenWallet == null)
+            givenWallet = walletMap.computeIfAbsent(playerUUID, creator);
+
+        return givenWallet;
+    }
+
+    /**
+     * Creates a new wallet, holding the starting balance,
+     * for the given online player.
+     *
+     * @param playerUUID the players UUID.
+     * @return the new wallet, or {@code null} if
+     * the player cannot be found.
+     */
+    private static Wallet createWallet(UUID playerUUID){
+        PlayerEntity player = MCUtil.getPlayerFromUUID(playerUUID);
+
+        //If not player can be found.
+        if(player == null)
+            return null;
+
+        return new Wallet(
+                player, ModConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getStartingBalance(), (byte)0
+        );
+    }
+
     /**
      * The key used to store the world name.
      */
-    private static final String WORLD_NAME_KEY = "WorldName";
+    static final String WORLD_NAME_KEY = "WorldName";
 
     /*
         Json structure used to store
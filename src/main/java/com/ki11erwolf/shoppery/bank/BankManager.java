@@ -1,10 +1,9 @@
 package com.ki11erwolf.shoppery.bank;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import com.ki11erwolf.shoppery.ShopperyMod;
+import com.ki11erwolf.shoppery.stats.EconomyMetrics;
 import com.ki11erwolf.shoppery.util.MCUtil;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.entity.player.PlayerEntity;
@@ -16,9 +15,9 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.util.StackLocatorUtil;
 
 import java.io.*;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Used to retrieve {@link Bank} & {@link Wallet}
@@ -74,7 +73,9 @@ public enum BankManager {
 
     /**
      * Map that links a world name
-     * to its bank.
+     * to its bank. Concurrent, so
+     * loaded banks can be looked up
+     * off the main thread.
      */
     private final Map<String, Bank> worldToBank;
 
@@ -82,7 +83,7 @@ public enum BankManager {
      * Initializes fields.
      */
     BankManager() {
-        this.worldToBank = new HashMap<>();
+        this.worldToBank = new ConcurrentHashMap<>();
     }
 
     //************
@@ -231,6 +232,36 @@ public enum BankManager {
         return _getBank(player.getEntityWorld()).getWallet(player);
     }
 
+    /**
+     * Finds the given players wallet in the given world,
+     * without loading the worlds bank or creating a new
+     * wallet. Safe to call off the main thread.
+     *
+     * @param world the world the wallet is in.
+     * @param playerUUID the UUID of the player who's wallet
+     *                   we're looking for.
+     * @return the players wallet, or {@code null} if the
+     * bank or wallet hasn't been loaded or created yet.
+     */
+    public static Wallet _findWallet(World world, UUID playerUUID) {
+        Bank bank = INSTANCE.worldToBank.get(MCUtil.getWorldName(world));
+        return bank == null ? null : bank.findWallet(playerUUID);
+    }
+
+    /**
+     * @return the total money, in cents, in every
+     * wallet in every loaded bank. Safe to call off
+     * the main thread.
+     */
+    public static long _getMoneySupply() {
+        long supply = 0;
+
+        for(Bank bank : INSTANCE.worldToBank.values())
+            supply += bank.getMoneySupply();
+
+        return supply;
+    }
+
     /**
      * Saves the given bank to file. If the
      * given bank is {@code null}, this method
@@ -270,11 +301,6 @@ public enum BankManager {
     // INTERNAL LOGIC
     //****************
 
-    /**
-     * Gson object used to format (pretty print) json text.
-     */
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-
     /**
      * Tries to retrieve the given worlds bank from file
      * if it exists.
@@ -295,26 +321,11 @@ public enum BankManager {
             return null;
         }
 
-        //Read content
-        StringBuilder saveFileContent = new StringBuilder();
-        try {
-            BufferedReader reader = new BufferedReader(new FileReader(saveFile));
-
-            String line;
-            while((line = reader.readLine()) != null) {
-                saveFileContent.append(line);
-            }
-
-            reader.close();
+        //Read content & load into memory
+        try (Reader reader = new FileReader(saveFile)) {
+            return Bank.createBankFromJsonObject(BankSaveFile.read(reader), world);
         } catch (IOException e) {
             LOGGER.error("Failed to read bank save file: " + worldName, e);
-            return null;
-        }
-
-        //Load into memory
-        try{
-            JsonObject jBank = GSON.fromJson(saveFileContent.toString(), JsonObject.class);
-            return Bank.createBankFromJsonObject(jBank, world);
         } catch (JsonSyntaxException e) {
             LOGGER.error(
                     "Bank save file: "
@@ -346,20 +357,20 @@ public enum BankManager {
         LOGGER.info(attemptLogMessage);
 
         File saveFile = null;
+        long start = EconomyMetrics.BANK_SAVE.start();
 
         try {
             JsonObject jBank = bank.getBankAsJsonObject();
             saveFile = getWorldBankSaveFile(bank.getWorld());
 
-            String bankJson = GSON.toJson(jBank);
-            FileWriter writer = new FileWriter(saveFile);
-
-            writer.write(bankJson);
-            writer.flush();
-            writer.close();
+            try (Writer writer = new FileWriter(saveFile)) {
+                BankSaveFile.write(jBank, writer);
+            }
         } catch (IOException e) {
             LOGGER.error("Failed to save bank: " + saveFile, e);
             return false;
+        } finally {
+            EconomyMetrics.BANK_SAVE.stop(start);
         }
 
         return true;
@@ -427,7 +438,13 @@ public enum BankManager {
 
         World world = (World)worldSaveEvent.getWorld();
         if(worldToBank.containsKey(MCUtil.getWorldName(world))) {
-            save(getBank(world));
+            long start = EconomyMetrics.WORLD_SAVE.start();
+
+            try {
+                save(getBank(world));
+            } finally {
+                EconomyMetrics.WORLD_SAVE.stop(start);
+            }
         }
     }
 
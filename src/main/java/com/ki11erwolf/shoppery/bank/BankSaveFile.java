@@ -0,0 +1,64 @@
+package com.ki11erwolf.shoppery.bank;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Reads & writes the contents of {@link Bank} save files,
+ * which hold a banks data as pretty printed json.
+ *
+ * <p/>Kept apart from the {@link BankManager}, which decides
+ * where & when banks are saved, so the save file format can
+ * be used without a game running (e.g. in benchmarks).
+ */
+final class BankSaveFile {
+
+    /**
+     * Gson object used to format (pretty print) json text.
+     */
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * Private constructor.
+     */
+    private BankSaveFile(){}
+
+    /**
+     * Reads a bank save file.
+     *
+     * @param reader the bank save file.
+     * @return the JsonObject holding the bank data.
+     * @throws IOException if the save file could not be read.
+     * @throws JsonSyntaxException if the save file is not json.
+     */
+    static JsonObject read(Reader reader) throws IOException {
+        StringBuilder saveFileContent = new StringBuilder();
+        BufferedReader bufferedReader = new BufferedReader(reader);
+
+        String line;
+        while((line = bufferedReader.readLine()) != null) {
+            saveFileContent.append(line);
+        }
+
+        return GSON.fromJson(saveFileContent.toString(), JsonObject.class);
+    }
+
+    /**
+     * Writes bank data to a bank save file.
+     *
+     * @param jBank the JsonObject holding the bank data.
+     * @param writer the bank save file.
+     * @throws IOException if the save file could not be written.
+     */
+    static void write(JsonObject jBank, Writer writer) throws IOException {
+        writer.write(GSON.toJson(jBank));
+        writer.flush();
+    }
+}
@@ -4,6 +4,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import com.ki11erwolf.shoppery.ShopperyMod;
+import com.ki11erwolf.shoppery.stats.EconomyMetrics;
 import com.ki11erwolf.shoppery.util.CurrencyUtil;
 import com.ki11erwolf.shoppery.util.MCUtil;
 import net.minecraft.entity.player.PlayerEntity;
@@ -27,6 +28,12 @@ import java.util.*;
  *     from the Bank class.
  * </p>
  *
+ * <p>
+ *     Every change to the balance is made while synchronized on
+ *     the wallet, so code off the main thread can read the balance
+ *     and cents consistently by synchronizing on the wallet.
+ * </p>
+ *
  * @see BankManager for obtaining Bank & Wallet objects.
  */
 @SuppressWarnings("WeakerAccess")
@@ -43,10 +50,11 @@ public class Wallet {
      * Copied from: https://stackoverflow.com/questions/354044/what-is-the-best-u-s-currency-regex/354216#354216
      * Original Library/Origin: Regex Buddy (https://www.regexbuddy.com/)
      */
-    private static final String BALANCE_REGEX = "^[+-]?[0-9]{1,3}(?:,?[0-9]{3})*(?:\\.[0-9]{2})?$";
+    static final String BALANCE_REGEX = "^[+-]?[0-9]{1,3}(?:,?[0-9]{3})*(?:\\.[0-9]{2})?$";
 
     /**
-     * The player this wallet belongs to.
+     * The player this wallet belongs to, or {@code null}
+     * if the wallet is detached.
      */
     private final PlayerEntity player;
 
@@ -73,7 +81,32 @@ public class Wallet {
      *              balance (100 > cents > 0).
      */
     Wallet(PlayerEntity player, long balance, byte cents){
-        this.player = Objects.requireNonNull(player, "Wallet player cannot be null.");
+        this(balance, cents, Objects.requireNonNull(player, "Wallet player cannot be null."));
+    }
+
+    /**
+     * Creates a new detached wallet, which belongs to no player
+     * and is never synced or saved. Allows using the wallet
+     * arithmetic without a game running (e.g. in benchmarks).
+     *
+     * @param balance given balance of the wallet (balance > 0).
+     * @param cents the cents (leading decimals) of the wallets
+     *              balance (100 > cents > 0).
+     */
+    Wallet(long balance, byte cents){
+        this(balance, cents, null);
+    }
+
+    /**
+     * Common constructor.
+     *
+     * @param balance given balance of the wallet (balance > 0).
+     * @param cents the cents of the wallets balance.
+     * @param player the player the wallet belongs to, or
+     *               {@code null} if the wallet is detached.
+     */
+    private Wallet(long balance, byte cents, PlayerEntity player){
+        this.player = player;
 
         if(cents > 100 || cents < 0)
             throw new IllegalArgumentException("cents > 100 || cents < 0");
@@ -96,13 +129,14 @@ public class Wallet {
      *
      * @param balance the new balance of this wallet.
      */
-    public void setBalance(long balance){
+    public synchronized void setBalance(long balance){
         if(balance < 0)
             throw new IllegalArgumentException("balance < 0");
 
         this.balance = balance;
         this.cents = 0;
         balance();
+        changed();
     }
 
     /**
@@ -113,7 +147,7 @@ public class Wallet {
      *              should have.
      */
     @SuppressWarnings("unused")
-    public void setBalance(long balance, byte cents){
+    public synchronized void setBalance(long balance, byte cents){
         if(balance < 0)
             throw new IllegalArgumentException("balance < 0");
 
@@ -123,10 +157,11 @@ public class Wallet {
         if(cents < 0)
             throw new IllegalArgumentException("cents < 0");
 
-        LOGGER.debug("Setting player: " + player.getGameProfile().getName() + " balance: " + balance + "-" + cents);
+        LOGGER.debug("Setting player: " + getOwnerName() + " balance: " + balance + "-" + cents);
         this.cents = cents;
         this.balance = balance;
         balance();
+        changed();
     }
 
     /**
@@ -135,13 +170,14 @@ public class Wallet {
      *
      * @param balance the amount to add.
      */
-    public void add(long balance){
+    public synchronized void add(long balance){
         if(balance < 0)
             throw new IllegalArgumentException("balance < 0");
 
-        LOGGER.debug("Adding to player: " + player.getGameProfile().getName() + " balance: " + balance);
+        LOGGER.debug("Adding to player: " + getOwnerName() + " balance: " + balance);
         this.balance += balance;
         balance();
+        changed();
     }
 
     /**
@@ -151,7 +187,7 @@ public class Wallet {
      * @param balance the amount to add.
      * @param cents the amount of cents to add.
      */
-    public void add(long balance, byte cents){
+    public synchronized void add(long balance, byte cents){
         if(cents > 99)
             throw new IllegalArgumentException("cents > 99");
 
@@ -163,7 +199,7 @@ public class Wallet {
 
         short sum = (short)(this.cents + cents);
 
-        LOGGER.debug("Adding to player: " + player.getGameProfile().getName() + " balance: " + balance + "-" + cents);
+        LOGGER.debug("Adding to player: " + getOwnerName() + " balance: " + balance + "-" + cents);
 
         if(sum > 99){
             this.balance += sum / 100;
@@ -174,6 +210,7 @@ public class Wallet {
 
         this.balance += balance;
         balance();
+        changed();
     }
 
     /**
@@ -255,16 +292,17 @@ public class Wallet {
      * wallet doesn't have a big enough
      * balance.
      */
-    public boolean subtract(long balance){
+    public synchronized boolean subtract(long balance){
         if(balance < 1)
             throw new IllegalArgumentException("balance < 1");
 
         if(this.balance < balance)
             return false;
 
-        LOGGER.debug("Taking from player: " + player.getGameProfile().getName() + " balance: " + balance);
+        LOGGER.debug("Taking from player: " + getOwnerName() + " balance: " + balance);
         this.balance -= balance;
         balance();
+        changed();
         return true;
     }
 
@@ -280,7 +318,7 @@ public class Wallet {
      * wallet doesn't have a big enough
      * balance.
      */
-    public boolean subtract(long balance, byte cents){
+    public synchronized boolean subtract(long balance, byte cents){
         if(cents > 99)
             throw new IllegalArgumentException("cents > 99");
 
@@ -309,12 +347,13 @@ public class Wallet {
         if(newBalance < 0)
             return false;
 
-        LOGGER.debug("Taking from player: " + player.getGameProfile().getName() + " balance: " + balance + "." + cents);
+        LOGGER.debug("Taking from player: " + getOwnerName() + " balance: " + balance + "." + cents);
 
         this.balance = newBalance;
         this.cents = (byte)newCents;
 
         balance();
+        changed();
         return true;
     }
 
@@ -406,8 +445,8 @@ public class Wallet {
     }
 
     /**
-     * @return the players full balance (with commas & currency symbol).
-     * E.g. $100.00, $1,000.00 $1,000,000.00
+     * @return the players full balance (with commas, without currency symbol).
+     * E.g. 100.00, 1,000.00 1,000,000.00
      */
     public String getFullBalance(){
         return CurrencyUtil.toFullString(balance, cents);
@@ -415,28 +454,63 @@ public class Wallet {
 
     /**
      * @return the players balance as a shortened string
-     * with currency and separator symbols.
+     * (without currency symbol).
      * Examples:
-     * 1000 to $1k
-     * 5821 to $5.8k
-     * 10500 to $10k
-     * 101800 to $101k
-     * 2000000 to $2m
-     * 7800000 to $7.8m
-     * 92150000 to $92m
-     * 123200000 to $123m
+     * 1000 to 1K
+     * 5821 to 5.8K
+     * 10500 to 10K
+     * 101800 to 101K
+     * 2000000 to 2M
+     * 7800000 to 7.8M
+     * 92150000 to 92M
+     * 123200000 to 123M
      */
     public String getShortenedBalance(){
         return CurrencyUtil.toShortString(balance, cents);
     }
 
     /**
-     * @return the player this wallet belongs to.
+     * @return the player this wallet belongs to, or
+     * {@code null} if the wallet is detached.
      */
     public PlayerEntity getPlayer(){
         return this.player;
     }
 
+    /**
+     * Called when the current balance of this wallet has been
+     * sent to the player as part of another packet (e.g. a
+     * trade result), so it is not sent again at the end of
+     * the tick.
+     */
+    public void synced(){
+        WalletSyncer.synced(this);
+    }
+
+    /**
+     * Called once a request from the players client to change
+     * this wallet (e.g. a withdrawal) has been handled, whether
+     * it succeeded or not. The client predicts the outcome of its
+     * requests, and learns it was handled with the next balance
+     * sent, which is queued even if the balance did not change.
+     *
+     * @param action the number the client gave the request, or
+     *               {@code 0} if the client did not predict it.
+     */
+    public void acknowledge(int action){
+        if(action != 0 && player != null)
+            WalletSyncer.acknowledge(this, action);
+    }
+
+    /**
+     * @return the number of the last request from the players
+     * client that has been handled (see {@link #acknowledge(int)}),
+     * or {@code 0} if none.
+     */
+    public int getAcknowledgedAction(){
+        return player == null ? 0 : WalletSyncer.getAcknowledged(player.getUniqueID());
+    }
+
     /**
      * @return the string representation of this wallet object.
      */
@@ -444,7 +518,7 @@ public class Wallet {
     public String toString(){
         return String.format(
                 "Wallet[player: %s, balance: %s, cents: %s, full: %s]",
-                getPlayer().getName().getString(), balance, cents,
+                getOwnerName(), balance, cents,
                 CurrencyUtil.CURRENCY_SYMBOL + getFullBalance()
         );
     }
@@ -472,6 +546,26 @@ public class Wallet {
         }
     }
 
+    /**
+     * Called whenever the balance of this wallet is changed.
+     * Counts the change, and queues the new balance to be sent
+     * to the player.
+     */
+    private void changed(){
+        EconomyMetrics.WALLET_MUTATIONS.increment();
+
+        if(player != null)
+            WalletSyncer.queue(this);
+    }
+
+    /**
+     * @return the name of the player this wallet
+     * belongs to, for logging.
+     */
+    private String getOwnerName(){
+        return player == null ? "<detached>" : player.getGameProfile().getName();
+    }
+
     //****************
     // INTERNAL LOGIC
     //****************
@@ -532,11 +626,27 @@ public class Wallet {
      */
     JsonObject getWalletAsJsonObject(){
         balance();
+        return getWalletAsJsonObject(player.getGameProfile().getName(), balance, cents);
+    }
+
+    /**
+     * Creates a JsonObject holding the given wallet
+     * data, in the format used to store wallets on
+     * file.
+     *
+     * @param playerName the name of the player the
+     *                   wallet belongs to.
+     * @param balance the wallets balance.
+     * @param cents the wallets cents.
+     * @return a JsonObject that can be used to
+     * store the wallet on file.
+     */
+    static JsonObject getWalletAsJsonObject(String playerName, long balance, byte cents){
         JsonObject walletObject = new JsonObject();
 
         walletObject.add(
                 WalletObjectKeys.PLAYER_NAME.value,
-                new JsonPrimitive(player.getGameProfile().getName())
+                new JsonPrimitive(playerName)
         );
 
         walletObject.add(
@@ -0,0 +1,141 @@
+package com.ki11erwolf.shoppery.bank;
+
+import com.ki11erwolf.shoppery.packets.BalanceSyncPacket;
+import com.ki11erwolf.shoppery.packets.Packet;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.network.PacketDistributor;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes {@link Wallet} balance changes on the server to
+ * the client of the player who owns the Wallet.
+ *
+ * <p/>Changed Wallets are queued rather than sent as they
+ * change. At the end of each server tick, a single {@link
+ * BalanceSyncPacket} is sent for each changed Wallet whose
+ * player is online, no matter how many times the Wallet
+ * changed during the tick. Clients cache the balance, so
+ * they never need to ask for it.
+ *
+ * <p/>Also keeps the number of the last predicted request
+ * (see {@link Wallet#acknowledge(int)}) handled for each
+ * online player, sent along with their balance.
+ */
+enum WalletSyncer {
+
+    /**
+     * Singleton instance of this class.
+     */
+    INSTANCE;
+
+    /*
+     * Registers the syncer to the forge
+     * event bus when the class is first used.
+     */
+    static {
+        MinecraftForge.EVENT_BUS.register(INSTANCE);
+    }
+
+    /**
+     * The Wallets that have changed since the end of the last tick.
+     */
+    private final Set<Wallet> pending = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * The number of the last predicted request handled, by player UUID.
+     */
+    private final Map<UUID, Integer> acknowledged = new ConcurrentHashMap<>();
+
+    /**
+     * Queues the given Wallet to have its balance
+     * sent to its player at the end of the current tick.
+     *
+     * @param wallet the server side Wallet that changed.
+     */
+    static void queue(Wallet wallet) {
+        if(wallet.getPlayer().getEntityWorld().isRemote)
+            return;
+
+        INSTANCE.pending.add(wallet);
+    }
+
+    /**
+     * Removes the given Wallet from the queue, as its current
+     * balance has already been sent to its player in another
+     * packet.
+     *
+     * @param wallet the server side Wallet that was sent.
+     */
+    static void synced(Wallet wallet) {
+        INSTANCE.pending.remove(wallet);
+    }
+
+    /**
+     * Records the given request as the last handled for the Wallets
+     * player, and queues the Wallet to have its balance sent, so the
+     * player learns the request was handled even if it failed.
+     *
+     * @param wallet the server side Wallet the request was for.
+     * @param action the number the client gave the request.
+     */
+    static void acknowledge(Wallet wallet, int action) {
+        INSTANCE.acknowledged.merge(wallet.getPlayer().getUniqueID(), action, Math::max);
+        queue(wallet);
+    }
+
+    /**
+     * @param player the UUID of the player.
+     * @return the number of the last predicted request handled
+     * for the player, or {@code 0} if none.
+     */
+    static int getAcknowledged(UUID player) {
+        return INSTANCE.acknowledged.getOrDefault(player, 0);
+    }
+
+    /**
+     * Forgets the last handled request of players who log
+     * out, as a restarted client counts its requests from one.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        acknowledged.remove(event.getPlayer().getUniqueID());
+    }
+
+    /**
+     * Sends the balance of every queued Wallet
+     * to its player, once the tick ends.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent event) {
+        if(event.phase != TickEvent.Phase.END || pending.isEmpty())
+            return;
+
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+
+        for(Wallet wallet : pending) {
+            pending.remove(wallet);
+
+            //The players entity changes on respawn, always find the current one.
+            ServerPlayerEntity player = server == null ? null
+                    : server.getPlayerList().getPlayerByUUID(wallet.getPlayer().getUniqueID());
+
+            if(player != null)
+                Packet.send(PacketDistributor.PLAYER.with(() -> player), new BalanceSyncPacket(wallet));
+        }
+    }
+}
@@ -25,6 +25,11 @@ public final class ModBlocks extends QueueRegisterer<Block> {
      */
     public static final ShopBlock<?> BASIC_SHOP = new BasicShopBlock().queueRegistration();
 
+    /**
+     * The player owned shop block, with limited stock.
+     */
+    public static final ShopBlock<?> OWNER_SHOP = new OwnerShopBlock().queueRegistration();
+
     //############################
     //     Block Registration
     //############################
@@ -0,0 +1,109 @@
+package com.ki11erwolf.shoppery.block;
+
+import com.ki11erwolf.shoppery.tile.ModTile;
+import com.ki11erwolf.shoppery.tile.OwnerShopTile;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.inventory.InventoryHelper;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.World;
+import net.minecraftforge.items.IItemHandler;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * The "Owner" Shops {@link ShopBlock} implementation.
+ *
+ * <p/>A type of Shop that is owned and run by the player who placed it,
+ * trading from a limited stock inventory that can be supplied by hand or
+ * by hoppers and pipes. All money is paid to, or by, the owner.
+ *
+ * <p/> Defines the unique properties and logic specific to this
+ * implementation of ShopBlock, such as the blocks registry name,
+ * specific {@link OwnerShopTile} implementation, setting the owner
+ * when placed, and dropping the stock when broken.
+ */
+public class OwnerShopBlock extends ShopBlock<OwnerShopTile> {
+
+    /**
+     * The unique name that both this Block & its Tile are registered under.
+     */
+    public static final String REGISTRY_NAME = "owner_shop";
+
+    /**
+     * Creates a new instance of the Owner Shop Block type.
+     */
+    public OwnerShopBlock() {
+        super(REGISTRY_NAME);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link OwnerShopTile#getClass()}.
+     */
+    @Override
+    public Class<OwnerShopTile> getTileType() {
+        return OwnerShopTile.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param state the state of the specific block, as it
+     *              exists in the world, that needs the Tile.
+     * @param world the world, in which the block is placed,
+     *              that needs the Tile.
+     * @return a new {@link OwnerShopTile} object instance.
+     */
+    @Override @Nonnull
+    public ModTile createTile(BlockState state, IBlockReader world) {
+        return new OwnerShopTile();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Makes the placing player the owner of the Shop.
+     */
+    @Override @ParametersAreNonnullByDefault
+    public void onBlockPlacedBy(World world, BlockPos pos, BlockState state,
+                                @Nullable LivingEntity placer, ItemStack stack) {
+        super.onBlockPlacedBy(world, pos, state, placer, stack);
+
+        if(world.isRemote || !(placer instanceof PlayerEntity))
+            return;
+
+        OwnerShopTile tile = getTile(world, pos);
+        if(tile != null)
+            tile.setOwner(placer.getUniqueID());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Drops the Shops stock when the Shop is broken or replaced.
+     */
+    @Override @SuppressWarnings("deprecation") @ParametersAreNonnullByDefault
+    public void onReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean isMoving) {
+        if(state.getBlock() != newState.getBlock()) {
+            TileEntity tile = world.getTileEntity(pos);
+
+            if(tile instanceof OwnerShopTile) {
+                IItemHandler stock = ((OwnerShopTile) tile).getStock();
+
+                for(int slot = 0; slot < stock.getSlots(); slot++)
+                    InventoryHelper.spawnItemStack(world, pos.getX(), pos.getY(), pos.getZ(),
+                            stock.getStackInSlot(slot).copy());
+            }
+        }
+
+        super.onReplaced(state, world, pos, newState, isMoving);
+    }
+}
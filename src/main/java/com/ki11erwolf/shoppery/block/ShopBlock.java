@@ -3,6 +3,7 @@ package com.ki11erwolf.shoppery.block;
 import com.ki11erwolf.shoppery.config.ModConfig;
 import com.ki11erwolf.shoppery.config.categories.ShopsConfig;
 import com.ki11erwolf.shoppery.item.DebugItem;
+import com.ki11erwolf.shoppery.stats.EconomyMetrics;
 import com.ki11erwolf.shoppery.tile.ShopTile;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.BlockState;
@@ -78,20 +79,26 @@ public abstract class ShopBlock<T extends ShopTile<?>> extends ModBlockTile<T, S
                                          boolean sneaking, boolean remote, boolean rightClick) {
         // Do on client-side
         if(remote) return ActionResultType.SUCCESS;
+        long start = EconomyMetrics.SHOP_CLICKS.start();
 
-        if (rightClick) { // Right-Click
-            if(!(SHOPS_CONFIG.isBuyLeftClick())) {
-                getTile(world, pos).purchaseItem(world, player);
-            } else {
-                getTile(world, pos).sellItem(world, player);
-            }
-        } else { //Left-Click
-            if(SHOPS_CONFIG.isBuyLeftClick()) {
-                getTile(world, pos).purchaseItem(world, player);
-            } else {
-                getTile(world, pos).sellItem(world, player);
+        try {
+            if (rightClick) { // Right-Click
+                if(!(SHOPS_CONFIG.isBuyLeftClick())) {
+                    getTile(world, pos).purchaseItem(world, player);
+                } else {
+                    getTile(world, pos).sellItem(world, player);
+                }
+            } else { //Left-Click
+                if(SHOPS_CONFIG.isBuyLeftClick()) {
+                    getTile(world, pos).purchaseItem(world, player);
+                } else {
+                    getTile(world, pos).sellItem(world, player);
+                }
             }
+        } finally {
+            EconomyMetrics.SHOP_CLICKS.stop(start);
         }
+
         return ActionResultType.SUCCESS;
     }
 
@@ -2,7 +2,7 @@ package com.ki11erwolf.shoppery.command;
 
 import com.ki11erwolf.shoppery.bank.BankManager;
 import com.ki11erwolf.shoppery.bank.Wallet;
-import com.ki11erwolf.shoppery.util.CurrencyUtil;
+import com.ki11erwolf.shoppery.packets.PlayerMessagePacket;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.server.ServerLifecycleHooks;
@@ -22,6 +22,9 @@ class BalanceCommand extends Command{
      */
     BalanceCommand() {
         super(NAME);
+        registerMessages(
+                "balance_infinite", "balance", "not_op", "player_not_found", "balance_op"
+        );
     }
 
     /**
@@ -48,7 +51,7 @@ class BalanceCommand extends Command{
             //Balance message
             Wallet wallet = BankManager._getWallet(world, player);
             localeMessage(player, "balance",
-                    CurrencyUtil.CURRENCY_SYMBOL + wallet.getShortenedBalance()
+                    PlayerMessagePacket.Money.shortened(wallet.getBalance(), wallet.getCents())
             );
         }
 
@@ -72,8 +75,9 @@ class BalanceCommand extends Command{
             }
 
             //Balance
+            Wallet targetWallet = BankManager._getBank(world).getWallet(target);
             localeMessage(player, "balance_op", target.getName().getString(),
-                    BankManager._getBank(world).getWallet(target).getShortenedBalance()
+                    PlayerMessagePacket.Money.shortened(targetWallet.getBalance(), targetWallet.getCents())
             );
         }
     }
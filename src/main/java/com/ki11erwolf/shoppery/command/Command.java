@@ -90,6 +90,12 @@ public abstract class Command {
      */
     private final String name;
 
+    /**
+     * The locale domain that holds the messages
+     * sent by this command.
+     */
+    private final LocaleDomain messages;
+
     /**
      * Creates a new command.
      *
@@ -103,7 +109,11 @@ public abstract class Command {
             throw new IllegalArgumentException("Duplicate command names cannot exist: " + commandName);
 
         this.name = commandName;
+        this.messages = COMMAND_MESSAGES.sub(() -> commandName);
         CommandListener.COMMAND_MAP.put(commandName.toLowerCase(), this);
+
+        PlayerMessagePacket.register(COMMAND_USAGES, commandName);
+        PlayerMessagePacket.register(COMMAND_DESCRIPTIONS, commandName);
     }
 
     String getName(){
@@ -152,6 +162,18 @@ public abstract class Command {
      */
     abstract boolean canExecute(PlayerEntity player, World world);
 
+    /**
+     * Registers the identifiers of the messages this command
+     * sends with {@link #localeMessage(PlayerEntity, String,
+     * Object...)}, allowing them to be sent by id. Must be
+     * called from the commands constructor.
+     *
+     * @param identifiers the message identifiers.
+     */
+    void registerMessages(String... identifiers){
+        PlayerMessagePacket.register(messages, identifiers);
+    }
+
     /**
      * Utility method used to send a localized message under
      * the command messages domain to a player from the
@@ -162,7 +184,7 @@ public abstract class Command {
      * @param params the formatting parameters.
      */
     void localeMessage(PlayerEntity playerEntity, String identifier, Object... params){
-        PlayerMessagePacket.send(playerEntity, COMMAND_MESSAGES.sub(() -> name), identifier, params);
+        PlayerMessagePacket.send(playerEntity, messages, identifier, params);
     }
 
     /**
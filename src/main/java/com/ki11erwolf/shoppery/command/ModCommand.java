@@ -1,6 +1,12 @@
 package com.ki11erwolf.shoppery.command;
 
+import com.ki11erwolf.shoppery.packets.PacketLimiter;
+import com.ki11erwolf.shoppery.packets.PacketStats;
 import com.ki11erwolf.shoppery.packets.PlayerMessagePacket;
+import com.ki11erwolf.shoppery.stats.EconomyMetrics;
+import com.ki11erwolf.shoppery.stats.EconomyStats;
+import com.ki11erwolf.shoppery.stats.Metrics;
+import com.ki11erwolf.shoppery.util.LocaleDomain;
 import com.ki11erwolf.shoppery.util.LocaleDomains;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.world.World;
@@ -16,11 +22,38 @@ class ModCommand extends Command {
      */
     private static final String NAME = "shoppery";
 
+    /**
+     * The argument used to show statistics.
+     */
+    private static final String STATS = "stats";
+
+    /**
+     * The statistics category for network traffic.
+     */
+    private static final String NETWORK_STATS = "net";
+
+    /**
+     * The statistics category for the economy.
+     */
+    private static final String ECONOMY_STATS = "eco";
+
+    /**
+     * The locale domain that holds the messages sent
+     * by this command, which differs from its name.
+     */
+    private static final LocaleDomain MESSAGES = Command.COMMAND_MESSAGES.sub(() -> "shopperycraft");
+
     /**
      * Shoppery command constructor.
      */
     ModCommand() {
         super(NAME);
+        registerMessages(
+                "help_message", "command_not_found", "stats_not_op", "stats_unknown",
+                "stats_net_header", "stats_net_entry", "stats_net_limiter",
+                "stats_eco_header", "stats_eco_tick", "stats_eco_counter", "stats_eco_gauge",
+                "stats_eco_money", "stats_eco_timer"
+        );
     }
 
     /**
@@ -29,7 +62,8 @@ class ModCommand extends Command {
      *  Either sends the calling player a message containing
      *  a list of all shoppery commands or a message containing
      *  information on a specific command depending on the
-     *  arguments given.
+     *  arguments given. Operators can also view statistics
+     *  with {@code /shoppery stats <net|eco>}.
      *
      * @param arguments the arguments given by the player.
      *                  May be empty!
@@ -38,7 +72,9 @@ class ModCommand extends Command {
      */
     @Override
     void onCommandCalled(String[] arguments, PlayerEntity player, World world) {
-        if(arguments.length == 0){
+        if(arguments.length > 0 && STATS.equalsIgnoreCase(arguments[0])){
+            sendStats(arguments, player);
+        } else if(arguments.length == 0){
             localeMessage(player, "help_message");
 
             forEach((s, command) -> {
@@ -65,6 +101,80 @@ class ModCommand extends Command {
         }
     }
 
+    /**
+     * Sends the calling player the statistics of the category
+     * given after {@code stats}, if the player is a server
+     * operator.
+     *
+     * @param arguments the arguments given by the player,
+     *                  beginning with {@code stats}.
+     * @param player the player that issued the command.
+     */
+    private void sendStats(String[] arguments, PlayerEntity player){
+        if(player.getServer() != null && !player.hasPermissionLevel(player.getServer().getOpPermissionLevel())){
+            localeMessage(player, "stats_not_op");
+            return;
+        }
+
+        if(arguments.length == 2 && ECONOMY_STATS.equalsIgnoreCase(arguments[1])){
+            sendEconomyStats(player);
+        } else if(arguments.length == 2 && NETWORK_STATS.equalsIgnoreCase(arguments[1])){
+            localeMessage(player, "stats_net_header");
+
+            for(PacketStats.Entry entry : PacketStats.getEntries()){
+                if(entry.getSentPackets() == 0 && entry.getReceivedPackets() == 0)
+                    continue;
+
+                localeMessage(player, "stats_net_entry",
+                        entry.getName(), entry.getSentPackets(), entry.getSentBytes(),
+                        entry.getReceivedPackets(), entry.getReceivedBytes(),
+                        entry.getDecodeTime().getPercentile(0.5), entry.getDecodeTime().getPercentile(0.99),
+                        entry.getHandleTime().getPercentile(0.5), entry.getHandleTime().getPercentile(0.99)
+                );
+            }
+
+            localeMessage(player, "stats_net_limiter", PacketLimiter.getAcceptedCount(),
+                    PacketLimiter.getLimitedCount(), PacketLimiter.getCoalescedCount()
+            );
+        } else localeMessage(player, "stats_unknown");
+    }
+
+    /**
+     * Sends the calling player every economy metric,
+     * and Shoppery's share of the server tick period.
+     *
+     * @param player the player that issued the command.
+     */
+    private void sendEconomyStats(PlayerEntity player){
+        localeMessage(player, "stats_eco_header");
+        localeMessage(player, "stats_eco_tick", EconomyStats.getShopperyTickTime(), EconomyStats.getServerTickTime());
+
+        for(Metrics.Metric metric : Metrics.getMetrics()){
+            if(metric == EconomyStats.SHOPPERY_TICK_TIME || metric == EconomyStats.SERVER_TICK_TIME)
+                continue;
+
+            if(metric == EconomyMetrics.MONEY_SUPPLY){
+                long supply = EconomyMetrics.MONEY_SUPPLY.get();
+                localeMessage(player, "stats_eco_money", metric.getDisplayName(),
+                        PlayerMessagePacket.Money.full(supply / 100, (byte) (supply % 100))
+                );
+            } else if(metric instanceof Metrics.Counter){
+                Metrics.Counter counter = (Metrics.Counter) metric;
+                localeMessage(player, "stats_eco_counter", metric.getDisplayName(),
+                        counter.get(), String.format("%.1f", counter.getRate())
+                );
+            } else if(metric instanceof Metrics.Gauge){
+                localeMessage(player, "stats_eco_gauge", metric.getDisplayName(), ((Metrics.Gauge) metric).get());
+            } else if(metric instanceof Metrics.Timer){
+                Metrics.Timer timer = (Metrics.Timer) metric;
+                localeMessage(player, "stats_eco_timer", metric.getDisplayName(),
+                        timer.getHistogram().getCount(), timer.getHistogram().getPercentile(0.5),
+                        timer.getHistogram().getPercentile(0.99), timer.getTotalTime() / 1_000_000
+                );
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -82,7 +192,15 @@ class ModCommand extends Command {
      */
     @Override
     boolean checkArguments(String[] args){
-        return args.length <= 1;
+        return args.length <= 1 || (args.length == 2 && STATS.equalsIgnoreCase(args[0]));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void registerMessages(String... identifiers){
+        PlayerMessagePacket.register(MESSAGES, identifiers);
     }
 
     /**
@@ -90,8 +208,6 @@ class ModCommand extends Command {
      */
     @Override
     void localeMessage(PlayerEntity playerEntity, String identifier, Object... params){
-        PlayerMessagePacket.send(
-                playerEntity, Command.COMMAND_MESSAGES.sub(() -> "shopperycraft"), identifier, params
-        );
+        PlayerMessagePacket.send(playerEntity, MESSAGES, identifier, params);
     }
 }
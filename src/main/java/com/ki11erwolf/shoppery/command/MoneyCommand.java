@@ -1,15 +1,18 @@
 package com.ki11erwolf.shoppery.command;
 
 import com.ki11erwolf.shoppery.bank.BankManager;
-import com.ki11erwolf.shoppery.bank.Wallet;
-import com.ki11erwolf.shoppery.item.ModItems;
+import com.ki11erwolf.shoppery.item.CurrencyBreakdown;
+import com.ki11erwolf.shoppery.util.CurrencyUtil;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
- * Used to give the player note items
- * by taking the amount off their balance.
+ * Used to give the player the requested amount as
+ * note & coin items by taking the amount off their
+ * balance.
  */
 class MoneyCommand extends Command {
 
@@ -18,18 +21,26 @@ class MoneyCommand extends Command {
      */
     private static final String NAME = "money";
 
+    /**
+     * Matches the amounts that can be withdrawn: whole amounts (e.g. 100),
+     * amounts with two cent digits (e.g. 10.50), or thousands (e.g. 5k).
+     */
+    private static final Pattern AMOUNT_PATTERN = Pattern.compile("(\\d{1,15})(?:\\.(\\d{2})|(k))?");
+
     /**
      * Money command constructor.
      */
     MoneyCommand() {
         super(NAME);
+        registerMessages("invalid_amount", "too_many_items", "insufficient_funds");
     }
 
     /**
      * {@inheritDoc}
      *
-     * Gives the player the specified amount as NoteItem item
-     * provided they have enough funds.
+     * Gives the player the specified amount as the fewest
+     * notes & coins worth the amount, provided they have
+     * enough funds.
      *
      * @param arguments the arguments given by the player.
      *                  May be empty!
@@ -38,72 +49,28 @@ class MoneyCommand extends Command {
      */
     @Override
     void onCommandCalled(String[] arguments, PlayerEntity player, World world) {
-        Wallet playerWallet = BankManager._getWallet(world, player);
+        Matcher amount = AMOUNT_PATTERN.matcher(
+                arguments[0].toLowerCase().replace(",", "").replace(CurrencyUtil.CURRENCY_SYMBOL, "")
+        );
 
-        switch (arguments[0].toLowerCase()){
-            case "1":
-                if(playerWallet.subtract(1) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_ONE));
-                else localeMessage(player, "insufficient_funds");
-                break;
-            case "5":
-                if(playerWallet.subtract(5) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_FIVE));
-                else localeMessage(player, "insufficient_funds");
-                break;
-            case "10":
-                if(playerWallet.subtract(10) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_TEN));
-                else localeMessage(player, "insufficient_funds");
-                break;
-            case "20":
-                if(playerWallet.subtract(20) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_TWENTY));
-                else localeMessage(player, "insufficient_funds");
-                break;
-            case "50":
-                if(playerWallet.subtract(50) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_FIFTY));
-                else localeMessage(player, "insufficient_funds");
-                break;
-            case "100":
-                if(playerWallet.subtract(100) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_ONE_HUNDRED));
-                else localeMessage(player, "insufficient_funds");
-                break;
+        if(!amount.matches()){
+            localeMessage(player, "invalid_amount");
+            return;
+        }
 
-            case "500":
-                if(playerWallet.subtract(500) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_FIVE_HUNDRED));
-                else localeMessage(player, "insufficient_funds");
-                break;
-            case "1k":
-                if(playerWallet.subtract(1000) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_ONE_K));
-                else localeMessage(player, "insufficient_funds");
-                break;
-            case "5k":
-                if(playerWallet.subtract(5000) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_FIVE_K));
-                else localeMessage(player, "insufficient_funds");
-                break;
-            case "10k":
-                if(playerWallet.subtract(10000) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_TEN_K));
-                else localeMessage(player, "insufficient_funds");
-                break;
-            case "50k":
-                if(playerWallet.subtract(50000) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_FIFTY_K));
-                else localeMessage(player, "insufficient_funds");
+        long balance = Long.parseLong(amount.group(1)) * (amount.group(3) != null ? 1_000 : 1);
+        byte cents = amount.group(2) != null ? Byte.parseByte(amount.group(2)) : 0;
+
+        switch (CurrencyBreakdown.withdraw(
+                BankManager._getWallet(world, player), player, balance, cents, player.isCreative())){
+            case INVALID_AMOUNT:
+                localeMessage(player, "invalid_amount");
                 break;
-            case "100k":
-                if(playerWallet.subtract(100000) || player.isCreative())
-                    player.addItemStackToInventory(new ItemStack(ModItems.NOTE_ONE_HUNDRED_K));
-                else localeMessage(player, "insufficient_funds");
+            case TOO_MANY_ITEMS:
+                localeMessage(player, "too_many_items");
                 break;
-            default:
-                localeMessage(player, "invalid_amount");
+            case INSUFFICIENT_FUNDS:
+                localeMessage(player, "insufficient_funds");
                 break;
         }
     }
@@ -27,6 +27,10 @@ class PayCommand extends Command{
      */
     PayCommand() {
         super(NAME);
+        registerMessages(
+                "creative_mode", "world_mismatch", "received", "paid",
+                "format_error", "insufficient_funds", "player_not_found"
+        );
     }
 
     /**
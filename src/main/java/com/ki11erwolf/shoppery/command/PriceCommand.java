@@ -20,6 +20,7 @@ class PriceCommand extends Command{
      */
     PriceCommand() {
         super("price");
+        registerMessages("no_item", "no_price", "price");
     }
 
     /**
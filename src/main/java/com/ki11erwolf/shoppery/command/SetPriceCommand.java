@@ -15,6 +15,7 @@ public class SetPriceCommand extends Command{
     //Constructor
     SetPriceCommand() {
         super("setprice");
+        registerMessages("success", "failure", "invalid_buy_price", "invalid_sell_price", "hold_item");
     }
 
     /**
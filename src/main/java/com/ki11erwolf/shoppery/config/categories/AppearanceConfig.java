@@ -2,6 +2,7 @@ package com.ki11erwolf.shoppery.config.categories;
 
 import com.ki11erwolf.shoppery.config.BooleanConfigValue;
 import com.ki11erwolf.shoppery.config.ConfigCategory;
+import com.ki11erwolf.shoppery.config.IntegerConfigValue;
 import com.ki11erwolf.shoppery.config.StringConfigValue;
 
 import java.awt.*;
@@ -30,6 +31,19 @@ public class AppearanceConfig extends ConfigCategory {
             "#00E500", this
     );
 
+    /**
+     * Integer Configuration object that adds the config value
+     * allowing changing the distance Shops display their
+     * item and prices from to the config file.
+     */
+    private final IntegerConfigValue shopDisplayDistance = new IntegerConfigValue(
+            "shop-display-distance",
+            "The distance (in blocks) from which Shops will display the Item they trade " +
+                    "above the Shop. Prices are only displayed from within half this distance. " +
+                    "Lowering this number can improve performance around large numbers of Shops.",
+            32, 8, 128, this
+    );
+
     // Category Name
 
     /**
@@ -64,4 +78,12 @@ public class AppearanceConfig extends ConfigCategory {
 
         return Color.decode(color).getRGB();
     }
+
+    /**
+     * @return the distance (in blocks) set in the configuration
+     * file from which Shops display the Item they trade.
+     */
+    public int getShopDisplayDistance() {
+        return shopDisplayDistance.getValue();
+    }
 }
@@ -24,6 +24,54 @@ public class GeneralConfig extends ConfigCategory {
             250, 50, 1500, this
     );
 
+    /**
+     * Config property to allow changing the number of request
+     * packets each player can have handled per second.
+     */
+    private final IntegerConfigValue packetRateLimit = new IntegerConfigValue(
+            "packet-rate-limit",
+            "The number of Shoppery request packets (e.g. deposits, withdrawals, price checks) "
+            + "the server will handle from each player per second, on average. Requests sent "
+            + "faster than this are dropped. Protects the server tick from flooding clients.",
+            20, 1, 200, this
+    );
+
+    /**
+     * Config property to allow changing the number of request
+     * packets each player can send at once before being limited.
+     */
+    private final IntegerConfigValue packetBurstLimit = new IntegerConfigValue(
+            "packet-burst-limit",
+            "The number of Shoppery request packets each player can send at once, "
+            + "such as when quickly clicking through a gui, before the packet-rate-limit applies.",
+            40, 1, 500, this
+    );
+
+    /**
+     * Config property to allow changing how often the
+     * network traffic statistics are logged.
+     */
+    private final IntegerConfigValue networkStatsLogInterval = new IntegerConfigValue(
+            "network-stats-log-interval",
+            "How often (in minutes) the server logs a summary of Shoppery network traffic, "
+            + "showing which packets use the most bandwidth. Set to 0 to disable the log line. "
+            + "The full statistics can be seen at any time with the /shoppery stats net command.",
+            10, 0, 1440, this
+    );
+
+    /**
+     * Config property to allow changing how often the
+     * economy metrics are written to file.
+     */
+    private final IntegerConfigValue metricsDumpInterval = new IntegerConfigValue(
+            "metrics-dump-interval",
+            "How often (in seconds) the server writes the Shoppery economy metrics to "
+            + "shoppery/metrics.prom, in the Prometheus text format (e.g. for the node exporter "
+            + "textfile collector). Set to 0 to disable. The metrics can be seen at any time "
+            + "with the /shoppery stats eco command.",
+            0, 0, 86400, this
+    );
+
     /**
      * Config property to allow changing the amount of
      * money every player will start the game with.
@@ -74,6 +122,38 @@ public class GeneralConfig extends ConfigCategory {
         return packetWaitTime.getValue();
     }
 
+    /**
+     * @return the config defined number of request packets
+     * handled per player per second.
+     */
+    public int getPacketRateLimit(){
+        return packetRateLimit.getValue();
+    }
+
+    /**
+     * @return the config defined number of request packets
+     * each player can send at once before being limited.
+     */
+    public int getPacketBurstLimit(){
+        return packetBurstLimit.getValue();
+    }
+
+    /**
+     * @return the config defined time (in minutes) between
+     * network traffic log lines, or {@code 0} if disabled.
+     */
+    public int getNetworkStatsLogInterval(){
+        return networkStatsLogInterval.getValue();
+    }
+
+    /**
+     * @return the config defined time (in seconds) between
+     * economy metrics file writes, or {@code 0} if disabled.
+     */
+    public int getMetricsDumpInterval(){
+        return metricsDumpInterval.getValue();
+    }
+
     /**
      * @return the config defined amount of money each player
      * starts the game with.
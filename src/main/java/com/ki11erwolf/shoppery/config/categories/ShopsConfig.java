@@ -82,6 +82,19 @@ public class ShopsConfig extends ConfigCategory {
             this
     );
 
+    /**
+     * The config property defining the integer value that allows
+     * setting the number of inventory slots Owner Shops have
+     * to store their stock in.
+     */
+    private final IntegerConfigValue ownerShopStockSlots = new IntegerConfigValue(
+            "owner-shop-stock-slots",
+            "The number of inventory slots (stacks) Owner Shops have to store the Item " +
+                    "they trade in. Limits how much stock a single Owner Shop can hold. " +
+                    "Allows a minimum of 1 slot and a maximum of 54 slots (a double chest).",
+            9, 1, 54, this
+    );
+
     /**
      * Constructs the Shops config category.
      */
@@ -153,6 +166,15 @@ public class ShopsConfig extends ConfigCategory {
         return transactionReverseTimeLimit.getValue() * 1000;
     }
 
+    /**
+     * @return the number of inventory slots (stacks) each
+     * Owner Shop has to store its stock in, as set within
+     * the config file.
+     */
+    public int getOwnerShopStockSlots() {
+        return ownerShopStockSlots.getValue();
+    }
+
     /**
      * Gets the value defined in {@link #buyButton} and
      * checks it, both to determine the value, and to
@@ -3,7 +3,7 @@ package com.ki11erwolf.shoppery.gui;
 import com.ki11erwolf.shoppery.ShopperyMod;
 import com.ki11erwolf.shoppery.util.LocaleDomain;
 import com.ki11erwolf.shoppery.util.LocaleDomains;
-import com.ki11erwolf.shoppery.util.RenderUtil.TimedAnimationStepper;
+import com.ki11erwolf.shoppery.util.RenderUtil.AnimationClock;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.player.ClientPlayerEntity;
@@ -41,14 +41,6 @@ class WalletHelpButton extends ImageButton implements WidgetFix {
      */
     private static final int MILLISECONDS_PER_TOOLTIP = 2300;
 
-    /**
-     * Helper object that calculates what tooltip to display
-     * based upon tooltip render time.
-     */
-    private static final TimedAnimationStepper TOOLTIP_ANIMATION_STEPPER = new TimedAnimationStepper(
-        MILLISECONDS_PER_TOOLTIP, 2,  (frame) -> tooltipToRender = frame
-    );
-
     /**
      * X and Y starting positions of the button.
      */
@@ -66,10 +58,16 @@ class WalletHelpButton extends ImageButton implements WidgetFix {
     private static final int TEXTURE_POSITION_X = 47, TEXTURE_POSITION_Y = 0;
 
     /**
-     * Which of the tooltips to render in the next
-     * frame.
+     * The clock of the screen, that the
+     * tooltips are cycled by.
      */
-    private static int tooltipToRender = 0;
+    private final AnimationClock clock;
+
+    /**
+     * The {@link AnimationClock#getTime() time} the button
+     * was hovered, or {@code -1} if not hovered.
+     */
+    private long hoverStart = -1;
 
     /**
      * Constructs a new Wiki Button with the given X and Y
@@ -77,13 +75,16 @@ class WalletHelpButton extends ImageButton implements WidgetFix {
      *
      * @param inventoryX X starting position.
      * @param inventoryY Y starting position.
+     * @param clock the clock of the screen, that
+     *              the tooltips are cycled by.
      */
-    public WalletHelpButton(int inventoryX, int inventoryY) {
+    public WalletHelpButton(int inventoryX, int inventoryY, AnimationClock clock) {
         super(inventoryX + POSITION_X, inventoryY + POSITION_Y,
                 WIDTH, HEIGHT, TEXTURE_POSITION_X, TEXTURE_POSITION_Y,
                 HEIGHT + 1, WalletToggleButton.WALLET_BUTTON_TEXTURES,
                 (button) -> { /* Not used - overridden */ }
         );
+        this.clock = clock;
     }
 
     // #########
@@ -91,9 +92,9 @@ class WalletHelpButton extends ImageButton implements WidgetFix {
     // #########
 
     @Override @ParametersAreNonnullByDefault
-    public void render(MatrixStack matrix, int mouseXPos, int mouseYPos, float frameTime) {
-        super.render(matrix, mouseXPos, mouseYPos, frameTime);
-        renderTooltip(matrix, x, y, frameTime);
+    public void render(MatrixStack matrix, int mouseXPos, int mouseYPos, float partialTicks) {
+        super.render(matrix, mouseXPos, mouseYPos, partialTicks);
+        renderTooltip(matrix, x, y);
     }
 
 
@@ -105,12 +106,17 @@ class WalletHelpButton extends ImageButton implements WidgetFix {
      *
      * @param x mouse x position.
      * @param y mouse y position.
-     * @param frameTime milliseconds taken to render the
-     * last frame.
      */
-    private void renderTooltip(MatrixStack matrixStack, int x, int y, float frameTime) {
-        if(!(isHovered && WalletInventoryScreen.ALLOW_TOOLTIPS)) return;
-        TOOLTIP_ANIMATION_STEPPER.onRender(frameTime);
+    private void renderTooltip(MatrixStack matrixStack, int x, int y) {
+        if(!(isHovered && WalletInventoryScreen.ALLOW_TOOLTIPS)){
+            hoverStart = -1;
+            return;
+        }
+
+        if(hoverStart < 0)
+            hoverStart = clock.getTime();
+
+        int tooltipToRender = clock.getFrame(hoverStart, MILLISECONDS_PER_TOOLTIP, 2);
 
         int offsetX = (tooltipToRender == 0) ? 51 : 45;
         String tooltipKey = (tooltipToRender == 0) ? "wiki" : "command";
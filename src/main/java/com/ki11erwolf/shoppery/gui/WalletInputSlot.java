@@ -2,10 +2,11 @@ package com.ki11erwolf.shoppery.gui;
 
 import com.ki11erwolf.shoppery.ShopperySoundEvents;
 import com.ki11erwolf.shoppery.item.ICurrencyItem;
+import com.ki11erwolf.shoppery.packets.BalanceSyncPacket;
 import com.ki11erwolf.shoppery.packets.DepositCashPacket;
 import com.ki11erwolf.shoppery.packets.DepositInventoryPacket;
-import com.ki11erwolf.shoppery.packets.ItemPriceReqPacket;
 import com.ki11erwolf.shoppery.packets.Packet;
+import com.ki11erwolf.shoppery.price.ClientItemPrices;
 import com.ki11erwolf.shoppery.util.LocaleDomains;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import net.minecraft.client.Minecraft;
@@ -185,13 +186,15 @@ public class WalletInputSlot extends Widget implements WidgetFix {
 
         if(button == 2) { //Inventory Deposit
             Packet.send(PacketDistributor.SERVER.noArg(),
-                    new DepositInventoryPacket(player.getUniqueID().toString())
+                    new DepositInventoryPacket()
             );
             playDepositSound();
         } else if(heldStack.getItem() instanceof ICurrencyItem){ //Cash Deposit
-            Packet.send(PacketDistributor.SERVER.noArg(),
-                    new DepositCashPacket(player.getUniqueID().toString(), button == 0)
-            );
+            long worth = ((ICurrencyItem) heldStack.getItem()).getCashValueInCents();
+
+            Packet.send(PacketDistributor.SERVER.noArg(), new DepositCashPacket(button == 0,
+                    BalanceSyncPacket.predict(worth * (button == 0 ? heldStack.getCount() : 1))
+            ));
             playDepositSound();
 
             if (button == 0)
@@ -206,7 +209,7 @@ public class WalletInputSlot extends Widget implements WidgetFix {
         } else { //Price Check
             setContainedItem((heldStack == ItemStack.EMPTY || heldStack.getItem() == Items.AIR) ? null : heldStack);
             if(containedItem != null)
-                ItemPriceReqPacket.send(containedItem.getItem().getRegistryName());
+                ClientItemPrices.getPrice(containedItem.getItem());
         }
     }
 
@@ -262,6 +265,15 @@ public class WalletInputSlot extends Widget implements WidgetFix {
         return containedItem != null;
     }
 
+    /**
+     * @return the ghost ItemStack held within
+     * this slot, or {@code null} if the slot
+     * is empty.
+     */
+    public ItemStack getContainedItem(){
+        return containedItem;
+    }
+
     /**
      * Plays the deposit sound effect and a
      * set pitch and volume.
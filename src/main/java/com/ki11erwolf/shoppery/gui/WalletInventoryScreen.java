@@ -2,14 +2,13 @@ package com.ki11erwolf.shoppery.gui;
 
 import com.ki11erwolf.shoppery.config.ModConfig;
 import com.ki11erwolf.shoppery.config.categories.AppearanceConfig;
-import com.ki11erwolf.shoppery.config.categories.GeneralConfig;
-import com.ki11erwolf.shoppery.packets.FullBalanceRecPacket;
-import com.ki11erwolf.shoppery.packets.FullBalanceReqPacket;
-import com.ki11erwolf.shoppery.packets.ItemPriceRecPacket;
-import com.ki11erwolf.shoppery.packets.Packet;
+import com.ki11erwolf.shoppery.packets.BalanceSyncPacket;
+import com.ki11erwolf.shoppery.price.ClientItemPrices;
+import com.ki11erwolf.shoppery.price.ItemPrice;
 import com.ki11erwolf.shoppery.util.CurrencyUtil;
 import com.ki11erwolf.shoppery.util.LocaleDomains;
-import com.ki11erwolf.shoppery.util.WaitTimer;
+import com.ki11erwolf.shoppery.util.LocaleTemplate;
+import com.ki11erwolf.shoppery.util.RenderUtil.AnimationClock;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
@@ -17,13 +16,17 @@ import net.minecraft.client.gui.screen.inventory.CreativeScreen;
 import net.minecraft.client.gui.screen.inventory.InventoryScreen;
 import net.minecraft.crash.ReportedException;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.StringTextComponent;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
-import net.minecraftforge.fml.network.PacketDistributor;
 
 import javax.annotation.Nonnull;
+import java.util.HashSet;
+import java.util.Set;
 
 import static com.ki11erwolf.shoppery.item.ModItems.*;
 
@@ -67,13 +70,6 @@ public class WalletInventoryScreen extends InventoryScreen implements WidgetFix{
      */
     private static final String ERROR_MESSAGE = LocaleDomains.ERROR.get("balance");
 
-    /**
-     * WaitTimer that tracks and limits the sending of
-     * multiple balance requests.
-     */
-    private static final WaitTimer BALANCE_REQUEST_TIMER
-            = new WaitTimer(ModConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getPacketWaitTime());
-
     /**
      * The width of the money section background in pixels.
      */
@@ -115,6 +111,33 @@ public class WalletInventoryScreen extends InventoryScreen implements WidgetFix{
      */
     private int trueX, trueY;
 
+    /**
+     * The clock the animations of the screens widgets are timed by.
+     */
+    private final AnimationClock clock = new AnimationClock();
+
+    /**
+     * The text drawn by the screen. Built by {@link #updateText()}
+     * only when what it shows changes, rather than every frame.
+     */
+    private ITextComponent walletTitle, buyTitle, sellTitle, noPriceText, balanceText, buyPriceText, sellPriceText;
+
+    /**
+     * The {@link LocaleTemplate#getGeneration() translations}
+     * the text was built from, or {@code -1} if not yet built.
+     */
+    private int textGeneration = -1;
+
+    /**
+     * The balance String the balance text was built from.
+     */
+    private String textBalance;
+
+    /**
+     * The price the price texts were built from.
+     */
+    private ItemPrice textPrice;
+
     /**
      * @param player the player the inventory belongs/is showed to.
      */
@@ -133,8 +156,24 @@ public class WalletInventoryScreen extends InventoryScreen implements WidgetFix{
         super.init();
         calculateOriginPosition();
         initCashSection();
-        this.addButton(new WalletHelpButton(relX, relY));
+        this.addButton(new WalletHelpButton(relX, relY, clock));
         this.addButton((this.inputSlot = new WalletInputSlot(player, relX + 122, relY + 36)));
+        prefetchItemPrices();
+    }
+
+    /**
+     * Requests the prices of every item in the players
+     * inventory in a single batch, so price checks
+     * done from the inventory are answered instantly.
+     */
+    private void prefetchItemPrices(){
+        Set<Item> items = new HashSet<>();
+
+        for(ItemStack stack : player.inventory.mainInventory)
+            if(!stack.isEmpty())
+                items.add(stack.getItem());
+
+        ClientItemPrices.prefetch(items);
     }
 
     /**
@@ -149,12 +188,25 @@ public class WalletInventoryScreen extends InventoryScreen implements WidgetFix{
      *
      * @param mouseXPos mouseX
      * @param mouseYPos mouseY
-     * @param frameTime frame render time
+     * @param partialTicks the time since the last
+     *                     tick, as a fraction of a tick.
      */
     @Override
-    public void render(@Nonnull MatrixStack matrix, int mouseXPos, int mouseYPos, float frameTime) {
+    public void render(@Nonnull MatrixStack matrix, int mouseXPos, int mouseYPos, float partialTicks) {
         calculateOriginPosition();
-        super.render(matrix, mouseXPos, mouseYPos, frameTime);
+        clock.onRender(partialTicks);
+        super.render(matrix, mouseXPos, mouseYPos, partialTicks);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Advances the clock the widget animations are timed by.
+     */
+    @Override
+    public void tick() {
+        super.tick();
+        clock.tick();
     }
 
     /**
@@ -211,6 +263,7 @@ public class WalletInventoryScreen extends InventoryScreen implements WidgetFix{
     protected void drawGuiContainerForegroundLayer(@Nonnull MatrixStack matrix, int mouseX, int mouseY) {
         super.drawGuiContainerForegroundLayer(matrix, mouseX, mouseY);
 
+        updateText();
         drawTitles(matrix);
 
         //Info screen: balance/prices
@@ -226,17 +279,10 @@ public class WalletInventoryScreen extends InventoryScreen implements WidgetFix{
         FontRenderer fr = this.font;
 
         if(inputSlot.isOccupied()){
-            renderTooltip2(matrix, fr, new StringTextComponent(
-                    LocaleDomains.TEXT.sub(LocaleDomains.SCREEN).get("buy")
-            ), X(24), Y(7), 0xff1212);
-
-            renderTooltip2(matrix, fr, new StringTextComponent(
-                    LocaleDomains.TEXT.sub(LocaleDomains.SCREEN).get("sell")
-            ), X(81), Y(7), 0x23ff17);
+            renderTooltip2(matrix, fr, buyTitle, X(24), Y(7), 0xff1212);
+            renderTooltip2(matrix, fr, sellTitle, X(81), Y(7), 0x23ff17);
         } else {
-            renderTooltip2(matrix, fr, new StringTextComponent(
-                    LocaleDomains.TITLE.sub(LocaleDomains.SCREEN).format("wallet", player.getDisplayName().getString())
-            ), X(5), Y(7), 0x42ecf5);
+            renderTooltip2(matrix, fr, walletTitle, X(5), Y(7), 0x42ecf5);
         }
     }
 
@@ -247,20 +293,13 @@ public class WalletInventoryScreen extends InventoryScreen implements WidgetFix{
      * information screen.
      */
     protected void drawItemPrices(MatrixStack matrix){
-        if(!ItemPriceRecPacket.doesLastReceivedHavePrice()){
-            drawCenteredString(matrix, font,
-                    LocaleDomains.TEXT.sub(LocaleDomains.SCREEN).get("no_price"), X(73), Y(23), 0x9C1313
-            );
+        if(textPrice == null){
+            drawCenteredString(matrix, font, noPriceText, X(73), Y(23), 0x9C1313);
             return;
         }
 
-        drawCenteredString( matrix, font, CurrencyUtil.CURRENCY_SYMBOL
-                        + CurrencyUtil.toFullString(ItemPriceRecPacket.getLastReceivedBuyPrice()),
-                X(38), Y(23), 0xD11F1F);
-
-        drawCenteredString(matrix, font, CurrencyUtil.CURRENCY_SYMBOL
-                        + CurrencyUtil.toFullString(ItemPriceRecPacket.getLastReceivedSellPrice()),
-                X(108), Y(23), 0x00E500);
+        drawCenteredString(matrix, font, buyPriceText, X(38), Y(23), 0xD11F1F);
+        drawCenteredString(matrix, font, sellPriceText, X(108), Y(23), 0x00E500);
     }
 
     /**
@@ -268,34 +307,63 @@ public class WalletInventoryScreen extends InventoryScreen implements WidgetFix{
      * information screen section.
      */
     protected void drawPlayerBalance(MatrixStack matrix){
-        drawCenteredString(matrix, font, CurrencyUtil.CURRENCY_SYMBOL + getBalance(),
+        drawCenteredString(matrix, font, balanceText,
                 X(73), Y(23), ModConfig.GENERAL_CONFIG.getCategory(AppearanceConfig.class).getWalletGuiBalanceColor()
         );
     }
 
+    /**
+     * Rebuilds the text drawn by the screen, if the translations
+     * (e.g. the selected language), the players balance, or the
+     * price of the item in the input slot has changed since it
+     * was last built.
+     *
+     * <p/>The balance and prices are compared by reference,
+     * as a new balance String or ItemPrice is only created
+     * when one is received from the server.
+     */
+    private void updateText(){
+        if(textGeneration != LocaleTemplate.getGeneration()){
+            textGeneration = LocaleTemplate.getGeneration();
+            walletTitle = new StringTextComponent(LocaleDomains.TITLE.sub(LocaleDomains.SCREEN)
+                    .format("wallet", player.getDisplayName().getString()));
+            buyTitle = new StringTextComponent(LocaleDomains.TEXT.sub(LocaleDomains.SCREEN).get("buy"));
+            sellTitle = new StringTextComponent(LocaleDomains.TEXT.sub(LocaleDomains.SCREEN).get("sell"));
+            noPriceText = new StringTextComponent(LocaleDomains.TEXT.sub(LocaleDomains.SCREEN).get("no_price"));
+        }
+
+        String balance = getBalance();
+        if(balance != textBalance){
+            textBalance = balance;
+            balanceText = new StringTextComponent(balance);
+        }
+
+        ItemPrice price = inputSlot.isOccupied()
+                ? ClientItemPrices.getPrice(inputSlot.getContainedItem().getItem()) : null;
+
+        if(price != textPrice){
+            textPrice = price;
+
+            if(price != null){
+                buyPriceText = new StringTextComponent(CurrencyUtil.CURRENCY_SYMBOL
+                        + CurrencyUtil.toFullString(price.getBuyPrice()));
+                sellPriceText = new StringTextComponent(CurrencyUtil.CURRENCY_SYMBOL
+                        + CurrencyUtil.toFullString(price.getSellPrice()));
+            }
+        }
+    }
+
     // *****
     // Logic
     // *****
 
     /**
-     * Gets the players last known balance from server.
-     * Will also request a balance update if enough time
-     * has elapsed.
+     * Gets the players last known balance (with currency
+     * symbol), as pushed by the server whenever it changes.
      */
     protected static String getBalance(){
-        PlayerEntity player = Minecraft.getInstance().player;
-        if(player == null) //No player, no balance.
-            return ERROR_MESSAGE;
-
-        BALANCE_REQUEST_TIMER.time((x) -> {
-            Packet.send(PacketDistributor.SERVER.noArg(),
-                    new FullBalanceReqPacket(player.getUniqueID().toString())
-            );
-            return null;
-        });
-
-        return FullBalanceRecPacket.getLastKnownBalance() == null ?
-                ERROR_MESSAGE : FullBalanceRecPacket.getLastKnownBalance();
+        String balance = BalanceSyncPacket.getLastFullBalance();
+        return balance == null ? ERROR_MESSAGE : balance;
     }
 
     /**
@@ -333,47 +401,47 @@ public class WalletInventoryScreen extends InventoryScreen implements WidgetFix{
         int beginY = relY + 6;
 
         //Row 1
-        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_ONE, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_ONE, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_FIVE, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_FIVE, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_TEN, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_TEN, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_TWENTY, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_TWENTY, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_FIFTY, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_FIFTY, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_EIGHTY, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, COIN_EIGHTY, player, clock));
 
         //Row 2
         beginX = relX + 144; beginY += 18;
 
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_ONE, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_ONE, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_FIVE, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_FIVE, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_TEN, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_TEN, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_TWENTY, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_TWENTY, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_FIFTY, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_FIFTY, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_ONE_HUNDRED, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_ONE_HUNDRED, player, clock));
 
         //Row 3
         beginX = relX + 144; beginY += 18;
 
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_FIVE_HUNDRED, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_FIVE_HUNDRED, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_ONE_K, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_ONE_K, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_FIVE_K, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_FIVE_K, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_TEN_K, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_TEN_K, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_FIFTY_K, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_FIFTY_K, player, clock));
         beginX += 18;
-        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_ONE_HUNDRED_K, player));
+        this.addButton(new WalletMoneySlot(beginX, beginY, NOTE_ONE_HUNDRED_K, player, clock));
     }
 
     // ************
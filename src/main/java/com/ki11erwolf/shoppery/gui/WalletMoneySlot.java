@@ -1,12 +1,10 @@
 package com.ki11erwolf.shoppery.gui;
 
 import com.ki11erwolf.shoppery.ShopperySoundEvents;
-import com.ki11erwolf.shoppery.config.ModConfig;
-import com.ki11erwolf.shoppery.config.categories.GeneralConfig;
 import com.ki11erwolf.shoppery.item.ICurrencyItem;
 import com.ki11erwolf.shoppery.item.ModItem;
 import com.ki11erwolf.shoppery.packets.*;
-import com.ki11erwolf.shoppery.util.WaitTimer;
+import com.ki11erwolf.shoppery.util.RenderUtil.AnimationClock;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.SimpleSound;
@@ -22,7 +20,6 @@ import net.minecraftforge.fml.network.PacketDistributor;
 import org.apache.commons.lang3.RandomUtils;
 
 import javax.annotation.Nonnull;
-import java.util.UUID;
 
 /**
  * A button that represents a clickable Currency
@@ -34,13 +31,6 @@ import java.util.UUID;
 @OnlyIn(Dist.CLIENT)
 public class WalletMoneySlot extends Widget implements WidgetFix {
 
-    /**
-     * Timer to prevent spamming the server with
-     * balance update requests.
-     */
-    private static final WaitTimer BALANCE_REQ_TIMER
-            = new WaitTimer(ModConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getPacketWaitTime());
-
     /**
      * The height and width of the button.
      */
@@ -58,6 +48,19 @@ public class WalletMoneySlot extends Widget implements WidgetFix {
      */
     private static final int FRAMES_PER_SECOND = 6;
 
+    /**
+     * The offset of the image in each frame
+     * of the hover animation.
+     */
+    private static final Vector2f[] HOVER_ANIMATION_PATH = {
+            new Vector2f(0, -1), new Vector2f(0, 0), new Vector2f(0, 1), new Vector2f(0, 0)
+    };
+
+    /**
+     * The offset of the image when not animated.
+     */
+    private static final Vector2f NO_OFFSET = new Vector2f(0, 0);
+
     /**
      * The currency item this Money Button represents.
      */
@@ -69,12 +72,6 @@ public class WalletMoneySlot extends Widget implements WidgetFix {
      */
     private final ResourceLocation itemImageResource;
 
-    /**
-     * The unique ID of the player that's
-     * interacting with this button.
-     */
-    private final UUID playerUUID;
-
     /**
      * Cached player balance.
      */
@@ -86,16 +83,15 @@ public class WalletMoneySlot extends Widget implements WidgetFix {
     private byte cents;
 
     /**
-     * The current animation key frame in the
-     * animation render cycle.
+     * The clock of the screen, that animations are timed by.
      */
-    private int frame = 0;
+    private final AnimationClock clock;
 
     /**
-     * The amount of time (in milliseconds) that has passed
-     * since the last key frame.
+     * The {@link AnimationClock#getTime() time} the hover
+     * animation started, or {@code -1} if not playing.
      */
-    private int renderTime;
+    private long hoverStart = -1;
 
     /**
      * Creates a new CurrencyItem representation
@@ -104,10 +100,12 @@ public class WalletMoneySlot extends Widget implements WidgetFix {
      * @param x X coordinate
      * @param y Y coordinate
      * @param currencyItem the currency item to represent.
+     * @param clock the clock of the screen, that
+     *              animations are timed by.
      */
-    public WalletMoneySlot(int x, int y, ModItem<?> currencyItem, PlayerEntity player) {
+    public WalletMoneySlot(int x, int y, ModItem<?> currencyItem, PlayerEntity player, AnimationClock clock) {
         super(x, y, SIZE, SIZE, new StringTextComponent(""));
-        this.playerUUID = player.getUniqueID();
+        this.clock = clock;
         this.updateBalance();
 
         if(currencyItem.getRegistryName() == null)
@@ -136,13 +134,13 @@ public class WalletMoneySlot extends Widget implements WidgetFix {
      *
      * @param mouseXPos mouse X coordinate
      * @param mouseYPos mouse Y coordinate.
-     * @param frameTime the amount of time (in milliseconds)
-     *            the frame took render.
+     * @param partialTicks the time since the last tick,
+     *                     as a fraction of a tick.
      */
     @Override
-    public void render(@Nonnull MatrixStack matrixStack, int mouseXPos, int mouseYPos, float frameTime) {
+    public void render(@Nonnull MatrixStack matrixStack, int mouseXPos, int mouseYPos, float partialTicks) {
         updateBalance(); //Update and calculate position.
-        Vector2f animationOffset = this.getHoverAnimationOffset(mouseXPos, mouseYPos, this.affordable(), frameTime);
+        Vector2f animationOffset = this.getHoverAnimationOffset(mouseXPos, mouseYPos, this.affordable());
         int x = this.getXPos() + (int) animationOffset.x;
         int y = this.getYPos() + (int) animationOffset.y;
 
@@ -160,19 +158,17 @@ public class WalletMoneySlot extends Widget implements WidgetFix {
      * in the x & y positions at this point in the animation.
      *
      * @param affordable if the player can afford the currency.
-     * @param frameTime time to render the frame.
      */
-    private Vector2f getHoverAnimationOffset(int mouseX, int mouseY, boolean affordable, float frameTime){
-        Vector2f animation;
-        if(isMouseOver(mouseX, mouseY) && affordable){
-            stepAnimationRenderer(frameTime);
-            animation = getHoverAnimationPath(frame);
-        } else {
-            resetAnimationRenderer();
-            animation = new Vector2f(0, 0);
+    private Vector2f getHoverAnimationOffset(int mouseX, int mouseY, boolean affordable){
+        if(!(isMouseOver(mouseX, mouseY) && affordable)){
+            hoverStart = -1;
+            return NO_OFFSET;
         }
 
-        return animation;
+        if(hoverStart < 0)
+            hoverStart = clock.getTime();
+
+        return getHoverAnimationPath(clock.getFrame(hoverStart, 1000 / FRAMES_PER_SECOND, FRAMES));
     }
 
     /**
@@ -193,39 +189,6 @@ public class WalletMoneySlot extends Widget implements WidgetFix {
     }
 
 
-    /**
-     * Resets the animation render cycle
-     * and animation key frame.
-     */
-    private void resetAnimationRenderer(){
-        renderTime = 0;
-        frame = 0;
-    }
-
-    /**
-     * Calculates the current animation key frame
-     * based on the amount of time passed during
-     * renders.
-     *
-     * <p/>Effectively steps through the animation
-     * render cycle, in sync with the frame rate.
-     *
-     * <p/>Called each render cycle, but only steps
-     * through when the animation(s) are supposed to
-     * be changed.
-     *
-     * @param frameTime the amount of time the frame
-     * took render.
-     */
-    private void stepAnimationRenderer(float frameTime){
-        if(renderTime >= (1000 / FRAMES_PER_SECOND)){
-            renderTime = 0;
-            if(frame >= FRAMES - 1)
-                frame = 0;
-            else frame++;
-        } else renderTime += frameTime * 100;
-    }
-
     /**
      * Used to get a vector translating the rendering
      * start position based on a key frame in a loop.
@@ -237,15 +200,8 @@ public class WalletMoneySlot extends Widget implements WidgetFix {
      * @return a vector describing the coordinates to add
      * to the renders coordinates.
      */
-    @SuppressWarnings("DuplicateBranchesInSwitch")
     protected Vector2f getHoverAnimationPath(int frame){
-        switch (frame + 1){
-            case 1: return new Vector2f(0, -1);
-            case 2: return new Vector2f(0, 0);
-            case 3: return new Vector2f(0, 1);
-            case 4: return new Vector2f(0, 0);
-            default: return new Vector2f(0, -1);
-        }
+        return HOVER_ANIMATION_PATH[frame % HOVER_ANIMATION_PATH.length];
     }
 
 
@@ -278,44 +234,41 @@ public class WalletMoneySlot extends Widget implements WidgetFix {
      * Called when the button is clicked by the player.
      * Sends a {@link com.ki11erwolf.shoppery.packets.MoneyWithdrawPacket}
      * in an attempt to withdraw the requested amount.
+     *
+     * <p/>If the player can afford it, the withdrawal is
+     * {@link BalanceSyncPacket#predict(long) predicted},
+     * so the balance changes before the server answers.
      */
     public void onPress(){
         playDownSound(Minecraft.getInstance().getSoundHandler());
         ICurrencyItem cItem = (ICurrencyItem) currencyItem;
 
+        if(!cItem.isWholeCashValue() && !cItem.isFractionalCashValue())
+            return;
+
+        int action = affordable() ? BalanceSyncPacket.predict(-cItem.getCashValueInCents()) : 0;
+
         if(cItem.isWholeCashValue())
             Packet.send(PacketDistributor.SERVER.noArg(),
-                    new MoneyWithdrawPacket(playerUUID.toString(), true, cItem.getSimpleCashValue())
+                    new MoneyWithdrawPacket(cItem.getSimpleCashValue(), (byte)0, action)
             );
 
-        else if(cItem.isFractionalCashValue())
-            Packet.send(PacketDistributor.SERVER.noArg(),
-                    new MoneyWithdrawPacket(playerUUID.toString(), false, cItem.getSimpleCashValue())
+        else Packet.send(PacketDistributor.SERVER.noArg(),
+                    new MoneyWithdrawPacket(0, (byte)cItem.getSimpleCashValue(), action)
             );
+
+        updateBalance();
     }
 
     /**
-     * Requests the server send the players updated balance,
-     * provided enough time has passed since the last request.
-     *
-     * <p/>Also sets {@link #balance} & {@link #cents} to the
-     * updated balance.
+     * Sets {@link #balance} & {@link #cents} to the players
+     * last known balance, as pushed by the server whenever
+     * it changes, with the withdrawals & deposits not yet
+     * handled by the server predicted.
      */
     private void updateBalance(){
-        BALANCE_REQ_TIMER.time((x) -> {
-            Packet.send(PacketDistributor.SERVER.noArg(),
-                    new PlayerBalanceReqPacket(playerUUID.toString())
-            );
-
-            Packet.send(PacketDistributor.SERVER.noArg(),
-                    new PlayerCentsReqPacket(playerUUID.toString())
-            );
-
-            return null;
-        });
-
-        this.balance = PlayerBalanceRecPacket.getLastReceivedBalance();
-        this.cents = PlayerCentsRecPacket.getLastReceivedBalance();
+        this.balance = BalanceSyncPacket.getLastBalance();
+        this.cents = BalanceSyncPacket.getLastCents();
     }
 
     /**
@@ -1,13 +1,9 @@
 package com.ki11erwolf.shoppery.gui;
 
 import com.ki11erwolf.shoppery.ShopperyMod;
-import com.ki11erwolf.shoppery.config.ModConfig;
-import com.ki11erwolf.shoppery.config.categories.GeneralConfig;
-import com.ki11erwolf.shoppery.packets.FormattedBalanceRecPacket;
-import com.ki11erwolf.shoppery.packets.FormattedBalanceReqPacket;
+import com.ki11erwolf.shoppery.packets.BalanceSyncPacket;
+import com.ki11erwolf.shoppery.packets.BalanceSyncReqPacket;
 import com.ki11erwolf.shoppery.packets.Packet;
-import com.ki11erwolf.shoppery.util.CurrencyUtil;
-import com.ki11erwolf.shoppery.util.WaitTimer;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screen.Screen;
@@ -59,19 +55,6 @@ public abstract class WalletToggleButton extends ImageButton implements WidgetFi
             REL_X       = 125,            //Relative X position to gui.
             REL_INV_Y   = 61;             //Relative -Y position to half gui height.
 
-    /**
-     * WaitTimer that tracks and limits the sending of
-     * multiple balance requests.
-     */
-    private static WaitTimer BALANCE_REQUEST_TIMER;
-
-    static{
-        if(BALANCE_REQUEST_TIMER == null)
-            BALANCE_REQUEST_TIMER = new WaitTimer(
-                    ModConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getPacketWaitTime()
-            );
-    }
-
     /**
      * The inventory gui screen this button is attached to.
      */
@@ -215,10 +198,8 @@ public abstract class WalletToggleButton extends ImageButton implements WidgetFi
                 return;
             }
 
-            //First request balance, for button.
-            Packet.send(PacketDistributor.SERVER.noArg(), new FormattedBalanceReqPacket(
-                    player.getUniqueID().toString()
-            ));
+            //First request balance, once. Changes are pushed after.
+            Packet.send(PacketDistributor.SERVER.noArg(), new BalanceSyncReqPacket());
 
             //Then create and add new button
             WalletToggleButton button = makeButton(screen, player);
@@ -243,29 +224,12 @@ public abstract class WalletToggleButton extends ImageButton implements WidgetFi
                 screen) {
             @Override
             protected String getShortenedBalance() {
-                WalletToggleButton.requestBalance(player);
-                return CurrencyUtil.CURRENCY_SYMBOL + FormattedBalanceRecPacket
-                        .getLastKnownBalance();
+                String balance = BalanceSyncPacket.getLastShortenedBalance();
+                return balance == null ? "" : balance;
             }
         };
     }
 
-    /**
-     * Will request an update of the players balance from
-     * the server, within a WaitTimer.
-     *
-     * @param player the player who's balance we're requesting.
-     */
-    private static void requestBalance(PlayerEntity player){
-        BALANCE_REQUEST_TIMER.time((x) -> {
-            Packet.send(
-                    PacketDistributor.SERVER.noArg(),
-                    new FormattedBalanceReqPacket(player.getUniqueID().toString())
-            );
-            return null;
-        });
-    }
-
     // ****
     // Init
     // ****
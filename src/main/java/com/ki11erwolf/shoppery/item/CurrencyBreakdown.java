@@ -0,0 +1,165 @@
+package com.ki11erwolf.shoppery.item;
+
+import com.ki11erwolf.shoppery.bank.Wallet;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Breaks amounts of money down into the notes & coins
+ * ({@link ModItems#NOTES}, {@link ModItems#COINS}) worth
+ * the amount, and allows withdrawing money from a {@link
+ * Wallet} as those notes & coins in a single operation.
+ *
+ * <p/>Amounts are broken down by taking as many of the most
+ * valuable note (or coin, for cents) as possible, then as many
+ * of the next most valuable, and so on. Shoppery's note & coin
+ * values are chosen such that this gives the fewest possible
+ * items for every amount.
+ */
+public final class CurrencyBreakdown {
+
+    /**
+     * The possible outcomes of a withdrawal.
+     */
+    public enum Result {
+
+        /**
+         * The money was withdrawn and
+         * given to the player.
+         */
+        SUCCESS,
+
+        /**
+         * The amount was zero or negative.
+         */
+        INVALID_AMOUNT,
+
+        /**
+         * The amount would take more stacks than
+         * fit in the players inventory.
+         */
+        TOO_MANY_ITEMS,
+
+        /**
+         * The wallet does not hold the amount.
+         */
+        INSUFFICIENT_FUNDS
+    }
+
+    /**
+     * Private constructor.
+     */
+    private CurrencyBreakdown(){}
+
+    /**
+     * Breaks the given amount down into the fewest notes
+     * & coins worth the amount, as stacks no larger than
+     * the maximum stack size of each item.
+     *
+     * @param amount the amount (excluding cents).
+     * @param cents the amount of cents (0-99).
+     * @return the stacks of notes & coins worth the amount,
+     * from most to least valuable.
+     */
+    public static List<ItemStack> of(long amount, byte cents){
+        List<ItemStack> stacks = new ArrayList<>();
+
+        breakdown(amount, ModItems.NOTES, stacks);
+        breakdown(cents, ModItems.COINS, stacks);
+
+        return stacks;
+    }
+
+    /**
+     * Counts the number of stacks the given amount breaks
+     * down into, without creating them.
+     *
+     * @param amount the amount (excluding cents).
+     * @param cents the amount of cents (0-99).
+     * @return the number of stacks {@link #of(long, byte)}
+     * would return.
+     */
+    public static long countStacks(long amount, byte cents){
+        return countStacks(amount, ModItems.NOTES) + countStacks(cents, ModItems.COINS);
+    }
+
+    /**
+     * Takes the given amount from the players Wallet and gives
+     * it to the player as the fewest notes & coins worth the
+     * amount. Stacks that don't fit in the players inventory
+     * are dropped at the players feet.
+     *
+     * <p/>Nothing is taken or given unless the result is
+     * {@link Result#SUCCESS}.
+     *
+     * @param wallet the Wallet to take the amount from.
+     * @param player the player to give the notes & coins to.
+     * @param amount the amount (excluding cents).
+     * @param cents the amount of cents (0-99).
+     * @param free {@code true} to give the notes & coins
+     *             even if the Wallet doesn't hold the amount
+     *             (e.g. for creative mode players).
+     * @return the outcome of the withdrawal.
+     */
+    public static Result withdraw(Wallet wallet, PlayerEntity player, long amount, byte cents, boolean free){
+        if(amount < 0 || cents < 0 || cents > 99 || (amount == 0 && cents == 0))
+            return Result.INVALID_AMOUNT;
+
+        if(countStacks(amount, cents) > player.inventory.mainInventory.size())
+            return Result.TOO_MANY_ITEMS;
+
+        if(!wallet.subtract(amount, cents) && !free)
+            return Result.INSUFFICIENT_FUNDS;
+
+        for(ItemStack stack : of(amount, cents))
+            if(!player.inventory.addItemStackToInventory(stack))
+                player.dropItem(stack, false);
+
+        return Result.SUCCESS;
+    }
+
+    /**
+     * Breaks the given amount down into the given currency
+     * items, adding the stacks to the given list.
+     */
+    private static void breakdown(long amount, List<? extends Item> currency, List<ItemStack> stacks){
+        for(Item item : currency){
+            int worth = ((ICurrencyItem)item).getSimpleCashValue();
+            if(worth <= 0)
+                continue;
+
+            long count = amount / worth;
+            amount %= worth;
+
+            int maxStackSize = item.getMaxStackSize();
+            for(; count > 0; count -= maxStackSize)
+                stacks.add(new ItemStack(item, (int) Math.min(count, maxStackSize)));
+        }
+    }
+
+    /**
+     * Counts the stacks the given amount breaks down into,
+     * in the given currency items.
+     */
+    private static long countStacks(long amount, List<? extends Item> currency){
+        long stacks = 0;
+
+        for(Item item : currency){
+            int worth = ((ICurrencyItem)item).getSimpleCashValue();
+            if(worth <= 0)
+                continue;
+
+            long count = amount / worth;
+            amount %= worth;
+
+            int maxStackSize = item.getMaxStackSize();
+            stacks += (count + maxStackSize - 1) / maxStackSize;
+        }
+
+        return stacks;
+    }
+}
@@ -115,4 +115,13 @@ public interface ICurrencyItem {
             return (int)(cashValue * 100);
         else return 0;
     }
+
+    /**
+     * @return the {@link #getCashValue() cash value}
+     * in cents, for whole and fractional currency
+     * alike (e.g. {@code 500} for a $5 note).
+     */
+    default long getCashValueInCents() {
+        return isWholeCashValue() ? getSimpleCashValue() * 100L : getSimpleCashValue();
+    }
 }
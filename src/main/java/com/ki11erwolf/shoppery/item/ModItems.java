@@ -8,6 +8,9 @@ import net.minecraftforge.event.RegistryEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -124,6 +127,23 @@ public final class ModItems extends QueueRegisterer<Item> {
     public static final NoteItem NOTE_ONE_HUNDRED_K                                                              //6
             = new NoteItem("one_hundred_k", 100_000).queueRegistration();
 
+    // Currency
+
+    /**
+     * Every coin item, from most to least valuable.
+     */
+    public static final List<CoinItem> COINS = mostValuableFirst(
+            COIN_ONE, COIN_FIVE, COIN_TEN, COIN_TWENTY, COIN_FIFTY, COIN_EIGHTY
+    );
+
+    /**
+     * Every note item, from most to least valuable.
+     */
+    public static final List<NoteItem> NOTES = mostValuableFirst(
+            NOTE_ONE, NOTE_FIVE, NOTE_TEN, NOTE_TWENTY, NOTE_FIFTY, NOTE_ONE_HUNDRED,
+            NOTE_FIVE_HUNDRED, NOTE_ONE_K, NOTE_FIVE_K, NOTE_TEN_K, NOTE_FIFTY_K, NOTE_ONE_HUNDRED_K
+    );
+
     // Debug Items
 
     /**
@@ -165,6 +185,21 @@ public final class ModItems extends QueueRegisterer<Item> {
         this.iterateQueue(item -> event.getRegistry().register(item));
     }
 
+    /**
+     * Creates an unmodifiable list of the given currency
+     * items, sorted from most to least valuable.
+     *
+     * @param items the currency items.
+     * @param <T> the type of currency item.
+     * @return the sorted, unmodifiable, list.
+     */
+    @SafeVarargs
+    private static <T extends ICurrencyItem> List<T> mostValuableFirst(T... items){
+        List<T> list = new ArrayList<>(Arrays.asList(items));
+        list.sort(Comparator.comparingInt(ICurrencyItem::getSimpleCashValue).reversed());
+        return Collections.unmodifiableList(list);
+    }
+
     /**
      * Adds a Shoppery Item instance
      * to the item registration queue.
@@ -0,0 +1,327 @@
+package com.ki11erwolf.shoppery.packets;
+
+import com.ki11erwolf.shoppery.bank.Wallet;
+import com.ki11erwolf.shoppery.util.CurrencyUtil;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Packet sent by the server to a player whenever their {@link
+ * Wallet} balance changes, and once when they open an inventory
+ * screen displaying their balance (see {@link BalanceSyncReqPacket}).
+ *
+ * <p/>The client caches the received balance, as well as its
+ * full and shortened String forms, so GUIs can display the
+ * balance every frame without ever asking the server for it,
+ * or formatting it again.
+ *
+ * <p/>The client also predicts the outcome of the balance
+ * changes it requests (e.g. withdrawals, see {@link
+ * #predict(long)}), so GUIs show them instantly. Each request
+ * is numbered, and the server sends the number of the last
+ * request it handled with the balance. Handled predictions
+ * are then replaced by the received balance, rolling back
+ * any that turned out wrong (e.g. failed withdrawals), while
+ * the rest are shown on top of it until handled or expired.
+ */
+public class BalanceSyncPacket extends Packet<BalanceSyncPacket> {
+
+    /**
+     * The time (in milliseconds) after which a prediction the
+     * server has not answered is dropped, such as one for a
+     * request dropped by the {@link PacketLimiter}.
+     */
+    private static final long PREDICTION_TIMEOUT = 2000;
+
+    /**
+     * The last received balance, in cents.
+     */
+    private static long receivedBalance = 0;
+
+    /**
+     * The predictions not yet handled by the server,
+     * in the order they were made.
+     */
+    private static final Deque<Prediction> PREDICTIONS = new ArrayDeque<>();
+
+    /**
+     * The number of the last prediction made.
+     */
+    private static int lastAction = 0;
+
+    /**
+     * The last received balance (excluding cents),
+     * with the predictions applied.
+     */
+    private static long lastBalance = 0;
+
+    /**
+     * The last received cents balance, with
+     * the predictions applied.
+     */
+    private static byte lastCents = 0;
+
+    /**
+     * The last received balance as a full String (e.g.
+     * $1,000.00), with the predictions applied, or
+     * {@code null} if none.
+     */
+    private static String lastFullBalance = null;
+
+    /**
+     * The last received balance as a shortened String
+     * (e.g. $1K), with the predictions applied, or
+     * {@code null} if none.
+     */
+    private static String lastShortenedBalance = null;
+
+    /**
+     * Builder the String forms of received
+     * balances are written with.
+     */
+    private static final StringBuilder BALANCE_BUILDER = new StringBuilder(32);
+
+    /**
+     * The balance of the player (excluding cents).
+     */
+    private final long balance;
+
+    /**
+     * The cents balance of the player.
+     */
+    private final byte cents;
+
+    /**
+     * The number of the last predicted request
+     * the server handled, or {@code 0} if none.
+     */
+    private final int action;
+
+    /**
+     * Creates a new packet containing the
+     * current balance of the given Wallet.
+     *
+     * @param wallet the changed Wallet.
+     */
+    public BalanceSyncPacket(Wallet wallet){
+        this(wallet.getBalance(), wallet.getCents(), wallet.getAcknowledgedAction());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param balance the balance of the player (excluding cents).
+     * @param cents the cents balance of the player.
+     * @param action the number of the last predicted request
+     *               handled (see {@link Wallet#acknowledge(int)}).
+     */
+    BalanceSyncPacket(long balance, byte cents, int action){
+        this.balance = balance;
+        this.cents = cents;
+        this.action = action;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    BiConsumer<BalanceSyncPacket, PacketBuffer> getEncoder() {
+        return (packet, buffer) -> {
+            buffer.writeVarLong(packet.balance);
+            buffer.writeByte(packet.cents);
+            buffer.writeVarInt(packet.action);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Function<PacketBuffer, BalanceSyncPacket> getDecoder() {
+        return (buffer) -> new BalanceSyncPacket(buffer.readVarLong(), buffer.readByte(), buffer.readVarInt());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Caches the received balance and its String forms.
+     */
+    @Override
+    BiConsumer<BalanceSyncPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return (packet, ctx) -> handle(ctx, () -> cache(packet.balance, packet.cents, packet.action));
+    }
+
+    // ************
+    // Client Cache
+    // ************
+
+    /**
+     * Caches the given balance, received from the server
+     * in this or another packet (e.g. a {@link TradeResultPacket}),
+     * and its String forms. Drops the predictions the server
+     * has handled, as the balance includes their outcome.
+     *
+     * @param balance the received balance (excluding cents).
+     * @param cents the received cents balance.
+     * @param action the number of the last predicted
+     *               request the server handled.
+     */
+    static void cache(long balance, byte cents, int action){
+        receivedBalance = balance * 100 + cents;
+
+        while(!PREDICTIONS.isEmpty() && PREDICTIONS.peekFirst().action <= action)
+            PREDICTIONS.removeFirst();
+
+        update(true);
+    }
+
+    /**
+     * Predicts the outcome of a balance change requested from
+     * the server, showing it immediately. The returned number
+     * must be sent with the request, so the server can say when
+     * it has been handled.
+     *
+     * @param change the requested change to the balance, in
+     *               cents (e.g. negative for withdrawals).
+     * @return the number of the prediction, to send with the request.
+     */
+    public static int predict(long change){
+        if(++lastAction <= 0)
+            lastAction = 1;
+
+        PREDICTIONS.addLast(new Prediction(lastAction, change));
+        update(false);
+        return lastAction;
+    }
+
+    /**
+     * @return the players last received
+     * balance (excluding cents), with the
+     * predictions applied.
+     */
+    public static long getLastBalance(){
+        expirePredictions();
+        return lastBalance;
+    }
+
+    /**
+     * @return the players last received cents
+     * balance, with the predictions applied.
+     */
+    public static byte getLastCents(){
+        expirePredictions();
+        return lastCents;
+    }
+
+    /**
+     * @return the players last received balance as
+     * a full String (with currency symbol), with the
+     * predictions applied, or {@code null} if no
+     * balance has been received.
+     */
+    public static String getLastFullBalance(){
+        expirePredictions();
+        return lastFullBalance;
+    }
+
+    /**
+     * @return the players last received balance as
+     * a shortened String (with currency symbol), with
+     * the predictions applied, or {@code null} if no
+     * balance has been received.
+     */
+    public static String getLastShortenedBalance(){
+        expirePredictions();
+        return lastShortenedBalance;
+    }
+
+    /**
+     * Drops the predictions the server has not answered
+     * in time, rolling them back.
+     */
+    private static void expirePredictions(){
+        if(PREDICTIONS.isEmpty())
+            return;
+
+        long now = System.currentTimeMillis();
+        if(PREDICTIONS.peekFirst().expiry > now)
+            return;
+
+        while(!PREDICTIONS.isEmpty() && PREDICTIONS.peekFirst().expiry <= now)
+            PREDICTIONS.removeFirst();
+
+        update(false);
+    }
+
+    /**
+     * Applies the predictions to the last received balance, and
+     * rebuilds the String forms if the result has changed.
+     *
+     * @param received {@code true} if a balance was just received.
+     */
+    private static void update(boolean received){
+        long predicted = receivedBalance;
+        for(Prediction prediction : PREDICTIONS)
+            predicted += prediction.change;
+
+        predicted = Math.max(0, predicted);
+        long balance = predicted / 100;
+        byte cents = (byte) (predicted % 100);
+
+        if(balance == lastBalance && cents == lastCents && lastFullBalance != null)
+            return;
+
+        lastBalance = balance;
+        lastCents = cents;
+
+        //The Strings mean a balance has been received.
+        if(!received && lastFullBalance == null)
+            return;
+
+        BALANCE_BUILDER.setLength(0);
+        lastFullBalance = CurrencyUtil.appendFull(
+                BALANCE_BUILDER.append(CurrencyUtil.CURRENCY_SYMBOL), balance, cents
+        ).toString();
+
+        BALANCE_BUILDER.setLength(0);
+        lastShortenedBalance = CurrencyUtil.appendShort(
+                BALANCE_BUILDER.append(CurrencyUtil.CURRENCY_SYMBOL), balance, cents
+        ).toString();
+    }
+
+    /**
+     * A predicted balance change, not yet handled by the server.
+     */
+    private static final class Prediction {
+
+        /**
+         * The number sent with the request.
+         */
+        private final int action;
+
+        /**
+         * The predicted change, in cents.
+         */
+        private final long change;
+
+        /**
+         * The time the prediction is dropped, if not handled.
+         */
+        private final long expiry = System.currentTimeMillis() + PREDICTION_TIMEOUT;
+
+        /**
+         * @param action the number sent with the request.
+         * @param change the predicted change, in cents.
+         */
+        private Prediction(int action, long change){
+            this.action = action;
+            this.change = change;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ki11erwolf.shoppery.packets;
+
+import com.ki11erwolf.shoppery.ShopperyMod;
+import com.ki11erwolf.shoppery.bank.BankManager;
+import com.ki11erwolf.shoppery.bank.Wallet;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sent by clients once when opening an inventory screen that
+ * displays the players balance, asking the server to send a
+ * {@link BalanceSyncPacket}. All later balance changes are
+ * pushed by the server as they happen, so this packet is
+ * never sent repeatedly.
+ *
+ * <p/>Carries no data: the requesting player is the sender.
+ * Answered on the network thread whenever possible, and
+ * dropped while an identical request is still pending.
+ */
+public class BalanceSyncReqPacket extends Packet<BalanceSyncReqPacket> {
+
+    /**
+     * Constructor.
+     */
+    public BalanceSyncReqPacket(){}
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    BiConsumer<BalanceSyncReqPacket, PacketBuffer> getEncoder() {
+        return (packet, buffer) -> {};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Function<PacketBuffer, BalanceSyncReqPacket> getDecoder() {
+        return (buffer) -> new BalanceSyncReqPacket();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sends back the senders current balance. The balance is
+     * read on the network thread if the senders Wallet is
+     * already loaded, otherwise the Wallet is loaded on the
+     * main thread.
+     */
+    @Override
+    BiConsumer<BalanceSyncReqPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return (packet, ctx) -> handleOffThreadCoalesced(packet, ctx, () -> {
+            ServerPlayerEntity player = ctx.get().getSender();
+
+            if(player == null){
+                ShopperyMod.getNewLogger().error("Player requesting balance cannot be found");
+                return null;
+            }
+
+            Wallet wallet = BankManager._findWallet(player.getEntityWorld(), player.getUniqueID());
+
+            if(wallet == null)
+                return () -> send(
+                        PacketDistributor.PLAYER.with(() -> player),
+                        new BalanceSyncPacket(BankManager._getWallet(player.getEntityWorld(), player))
+                );
+
+            //Read before the balance, which then includes the outcome of the request.
+            int action = wallet.getAcknowledgedAction();
+            long balance;
+            byte cents;
+
+            synchronized (wallet){
+                balance = wallet.getBalance();
+                cents = wallet.getCents();
+            }
+
+            send(PacketDistributor.PLAYER.with(() -> player), new BalanceSyncPacket(balance, cents, action));
+            return null;
+        });
+    }
+}
@@ -5,15 +5,12 @@ import com.ki11erwolf.shoppery.bank.BankManager;
 import com.ki11erwolf.shoppery.bank.Wallet;
 import com.ki11erwolf.shoppery.item.CoinItem;
 import com.ki11erwolf.shoppery.item.ICurrencyItem;
-import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.network.NetworkEvent;
-import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
-import java.util.Objects;
-import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -26,11 +23,6 @@ import java.util.function.Supplier;
  */
 public class DepositCashPacket extends Packet<DepositCashPacket> {
 
-    /**
-     * The player requesting the deposit.
-     */
-    private final String playerUUID;
-
     /**
      * Defines whether the packet will
      * consume the stack or a single item;
@@ -41,13 +33,23 @@ public class DepositCashPacket extends Packet<DepositCashPacket> {
     private final boolean stack;
 
     /**
-     * @param playerUUID The player requesting the deposit.
+     * The number of the clients prediction of the
+     * deposit, or {@code 0} if not predicted.
+     */
+    private final int action;
+
+    /**
+     * The player requesting the deposit is the sender.
+     *
      * @param stack {@code true} if the entire stack should,
      *        {@code false} if a single item should be consumed.
+     * @param action the number of the clients prediction of the
+     *               deposit (see {@link BalanceSyncPacket#predict(long)}),
+     *               or {@code 0} if not predicted.
      */
-    public DepositCashPacket(String playerUUID, boolean stack){
-        this.playerUUID = playerUUID;
+    public DepositCashPacket(boolean stack, int action){
         this.stack = stack;
+        this.action = action;
     }
 
     /**
@@ -57,7 +59,7 @@ public class DepositCashPacket extends Packet<DepositCashPacket> {
     BiConsumer<DepositCashPacket, PacketBuffer> getEncoder() {
         return (packet, buffer) -> {
             buffer.writeBoolean(packet.stack);
-            writeString(packet.playerUUID, buffer);
+            buffer.writeVarInt(packet.action);
         };
     }
 
@@ -66,11 +68,7 @@ public class DepositCashPacket extends Packet<DepositCashPacket> {
      */
     @Override
     Function<PacketBuffer, DepositCashPacket> getDecoder() {
-        return (buffer) -> {
-            boolean stack = buffer.readBoolean();
-            String playerUUID = readString(buffer);
-            return new DepositCashPacket(playerUUID, stack);
-        };
+        return (buffer) -> new DepositCashPacket(buffer.readBoolean(), buffer.readVarInt());
     }
 
     /**
@@ -84,13 +82,10 @@ public class DepositCashPacket extends Packet<DepositCashPacket> {
         return (packet, ctx) -> handle(ctx, () -> {
             try{
                 //Get player
-                PlayerEntity player = Objects.requireNonNull(ServerLifecycleHooks.getCurrentServer())
-                        .getPlayerList().getPlayerByUUID(UUID.fromString(packet.playerUUID));
+                ServerPlayerEntity player = ctx.get().getSender();
 
                 if(player == null){
-                    ShopperyMod.getNewLogger().error(
-                            "Player requesting balance cannot be found: " + packet.playerUUID
-                    );
+                    ShopperyMod.getNewLogger().error("Player requesting deposit cannot be found");
                     return;
                 }
 
@@ -102,7 +97,10 @@ public class DepositCashPacket extends Packet<DepositCashPacket> {
                 //Ensure item is a currency item.
                 if(deposit.getItem() instanceof ICurrencyItem)
                     cItem = (ICurrencyItem) deposit.getItem();
-                else return;
+                else {
+                    senderWallet.acknowledge(packet.action);
+                    return;
+                }
 
                 //Do deposit
                 if(cItem.isWholeCashValue()){
@@ -119,6 +117,8 @@ public class DepositCashPacket extends Packet<DepositCashPacket> {
                     if(packet.stack) deposit.setCount(0);
                     else deposit.shrink(1);
                 }
+
+                senderWallet.acknowledge(packet.action);
             } catch (Exception e){
                 ShopperyMod.getNewLogger().error("Failed to deposit cash item stack", e);
             }
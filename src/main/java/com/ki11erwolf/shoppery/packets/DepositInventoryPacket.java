@@ -4,14 +4,11 @@ import com.ki11erwolf.shoppery.ShopperyMod;
 import com.ki11erwolf.shoppery.bank.BankManager;
 import com.ki11erwolf.shoppery.bank.Wallet;
 import com.ki11erwolf.shoppery.item.ICurrencyItem;
-import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.network.NetworkEvent;
-import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
-import java.util.Objects;
-import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -24,25 +21,17 @@ import java.util.function.Supplier;
 public class DepositInventoryPacket extends Packet<DepositInventoryPacket> {
 
     /**
-     * The player requesting the inventory deposit.
+     * Constructor. The player requesting the
+     * inventory deposit is the sender.
      */
-    private final String playerUUID;
-
-    /**
-     * Constructor.
-     *
-     * @param playerUUID The player requesting the inventory deposit.
-     */
-    public DepositInventoryPacket(String playerUUID){
-        this.playerUUID = playerUUID;
-    }
+    public DepositInventoryPacket(){}
 
     /**
      * {@inheritDoc}
      */
     @Override
     BiConsumer<DepositInventoryPacket, PacketBuffer> getEncoder() {
-        return (packet, buffer) -> writeString(packet.playerUUID, buffer);
+        return (packet, buffer) -> {};
     }
 
     /**
@@ -50,7 +39,7 @@ public class DepositInventoryPacket extends Packet<DepositInventoryPacket> {
      */
     @Override
     Function<PacketBuffer, DepositInventoryPacket> getDecoder() {
-        return (buffer) -> new DepositInventoryPacket(readString(buffer));
+        return (buffer) -> new DepositInventoryPacket();
     }
 
     /**
@@ -61,15 +50,12 @@ public class DepositInventoryPacket extends Packet<DepositInventoryPacket> {
      */
     @Override
     BiConsumer<DepositInventoryPacket, Supplier<NetworkEvent.Context>> getHandler() {
-        return (packet, ctx) -> handle(ctx, () -> {
+        return (packet, ctx) -> handleCoalesced(packet, ctx, () -> {
             try{
-                PlayerEntity player = Objects.requireNonNull(ServerLifecycleHooks.getCurrentServer())
-                        .getPlayerList().getPlayerByUUID(UUID.fromString(packet.playerUUID));
+                ServerPlayerEntity player = ctx.get().getSender();
 
                 if(player == null){
-                    ShopperyMod.getNewLogger().error(
-                            "Player requesting balance cannot be found: " + packet.playerUUID
-                    );
+                    ShopperyMod.getNewLogger().error("Player requesting deposit cannot be found");
                     return;
                 }
 
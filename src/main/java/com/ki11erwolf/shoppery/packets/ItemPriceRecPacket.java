@@ -1,58 +1,47 @@
 package com.ki11erwolf.shoppery.packets;
 
+import com.ki11erwolf.shoppery.price.ClientItemPrices;
+import com.ki11erwolf.shoppery.price.ItemPrice;
+import net.minecraft.item.Item;
 import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.loading.FMLEnvironment;
 import net.minecraftforge.fml.network.NetworkEvent;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * Servers {@link com.ki11erwolf.shoppery.price.ItemPrice}
- * response packet, receiver and cache.
+ * Servers {@link ItemPrice} response packet. Answers a batched
+ * {@link ItemPriceReqPacket} with the price of every requested
+ * item, tagged with the servers price registry version, which is
+ * then stored in the {@link ClientItemPrices} cache.
  */
 public class ItemPriceRecPacket extends Packet<ItemPriceRecPacket> {
 
     /**
-     * The cached flag from the last received packet
-     * telling us whether the item has a price.
+     * The version of the servers price registry
+     * the prices were taken from.
      */
-    private static boolean lastReceivedHasPrice;
+    private final int registryVersion;
 
     /**
-     * The cached buy price from the last received packet.
+     * The prices of the requested items, or {@code null}
+     * for items that don't have a price.
      */
-    private static double lastReceivedBuyPrice;
+    private final Map<Item, ItemPrice> prices;
 
     /**
-     * The cached sell price from the last received packet.
+     * @param registryVersion the version of the servers price
+     *                        registry the prices were taken from.
+     * @param prices the prices of the requested items, or {@code
+     *               null} for items that don't have a price.
      */
-    private static double lastReceivedSellPrice;
-
-    /**
-     * The flag telling us whether the item has a price.
-     */
-    private boolean hasPrice;
-
-    /**
-     * The buy price of the item.
-     */
-    private double buyPrice;
-
-    /**
-     * The sell price of the item.
-     */
-    private double sellPrice;
-
-    /**
-     * @param hasPrice The flag telling us whether the item has a price.
-     * @param buyPrice The buy price of the item.
-     * @param sellPrice The sell price of the item.
-     */
-    ItemPriceRecPacket(boolean hasPrice, double buyPrice, double sellPrice){
-        this.hasPrice = hasPrice;
-        this.buyPrice = buyPrice;
-        this.sellPrice = sellPrice;
+    ItemPriceRecPacket(int registryVersion, Map<Item, ItemPrice> prices){
+        this.registryVersion = registryVersion;
+        this.prices = prices;
     }
 
     /**
@@ -63,9 +52,16 @@ public class ItemPriceRecPacket extends Packet<ItemPriceRecPacket> {
      * @param buf given buffer.
      */
     private static void encode(ItemPriceRecPacket msg, PacketBuffer buf){
-        buf.writeBoolean(msg.hasPrice);
-        buf.writeDouble(msg.buyPrice);
-        buf.writeDouble(msg.sellPrice);
+        buf.writeVarInt(msg.registryVersion);
+        buf.writeVarInt(msg.prices.size());
+
+        msg.prices.forEach((item, price) -> {
+            PacketCodec.writeItem(item, buf);
+            buf.writeBoolean(price != null);
+
+            if(price != null)
+                PacketCodec.writePrice(price, buf);
+        });
     }
 
     /**
@@ -76,50 +72,33 @@ public class ItemPriceRecPacket extends Packet<ItemPriceRecPacket> {
      * @return the created packet.
      */
     private static ItemPriceRecPacket decode(PacketBuffer buf){
-        boolean hasPrice = buf.readBoolean();
-        double buyPrice = buf.readDouble();
-        double sellPrice = buf.readDouble();
+        int registryVersion = buf.readVarInt();
+        int size = buf.readVarInt();
+        Map<Item, ItemPrice> prices = new LinkedHashMap<>(size);
 
-        return new ItemPriceRecPacket(hasPrice, buyPrice, sellPrice);
+        for(int i = 0; i < size; i++){
+            Item item = PacketCodec.readItem(buf);
+            prices.put(item, buf.readBoolean() ? PacketCodec.readPrice(item.getRegistryName(), buf) : null);
+        }
+
+        return new ItemPriceRecPacket(registryVersion, prices);
     }
 
     /**
-     * Caches the given item price information
-     * from the received packet.
+     * Caches the given item prices from
+     * the received packet.
      *
      * @param message the received packet.
      * @param ctx the sender.
      */
     private static void handle(final ItemPriceRecPacket message, Supplier<NetworkEvent.Context> ctx){
         handle(ctx, () -> {
-            lastReceivedHasPrice = message.hasPrice;
-            lastReceivedBuyPrice = message.buyPrice;
-            lastReceivedSellPrice = message.sellPrice;
-        });
-    }
-
-    /**
-     * @return The flag telling us whether the item in the last
-     * request packet has a price.
-     */
-    public static boolean doesLastReceivedHavePrice() {
-        return lastReceivedHasPrice;
-    }
+            //Make sure we're on client before
+            if(!FMLEnvironment.dist.isClient())
+                return;
 
-    /**
-     * @return The buy price of the item in the last
-     * request packet.
-     */
-    public static double getLastReceivedBuyPrice() {
-        return lastReceivedBuyPrice;
-    }
-
-    /**
-     * @return The sell price of the item in the last
-     * request packet.
-     */
-    public static double getLastReceivedSellPrice() {
-        return lastReceivedSellPrice;
+            ClientItemPrices.update(message.registryVersion, message.prices);
+        });
     }
 
     /**
@@ -1,52 +1,63 @@
 package com.ki11erwolf.shoppery.packets;
 
-import com.ki11erwolf.shoppery.ShopperyMod;
+import com.ki11erwolf.shoppery.price.ClientItemPrices;
 import com.ki11erwolf.shoppery.price.ItemPrice;
 import com.ki11erwolf.shoppery.price.ItemPrices;
-import net.minecraft.block.Block;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.Item;
-import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fml.network.NetworkEvent;
 import net.minecraftforge.fml.network.PacketDistributor;
-import net.minecraftforge.registries.ForgeRegistries;
 
-import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Sent by client players to request the server send back the
- * {@link ItemPrice} of a defined item.
+ * {@link ItemPrice ItemPrices} of a batch of items, such as every
+ * item in an inventory, in a single {@link ItemPriceRecPacket}.
+ *
+ * <p/>Clients should not send this packet directly, but rather look
+ * up prices through the {@link ClientItemPrices} cache, which batches
+ * requests for any prices it doesn't have.
  */
 public class ItemPriceReqPacket extends Packet<ItemPriceReqPacket> {
 
     /**
-     * The item to do the price check on.
+     * The maximum number of items that can be price
+     * checked by a single request.
      */
-    private final ResourceLocation itemRegistryName;
+    public static final int MAX_BATCH_SIZE = 256;
 
     /**
-     * @param itemRegistryName the registry name of the item
-     *                         to get the price of.
+     * The items to do the price check on.
      */
-    public ItemPriceReqPacket(ResourceLocation itemRegistryName){
-        this.itemRegistryName = itemRegistryName;
+    private final List<Item> items;
+
+    /**
+     * @param items the items to get the prices of.
+     */
+    public ItemPriceReqPacket(List<Item> items){
+        this.items = items;
     }
 
     /**
      * A static utility method that allows quickly
-     * sending price check requests to the server.
+     * sending batched price check requests to the
+     * server.
      *
-     * @param itemRegistryName the registry name of
-     *        the item to price check.
+     * @param items the items to price check. Must
+     *              not exceed {@link #MAX_BATCH_SIZE}.
      */
-    public static void send(@Nullable ResourceLocation itemRegistryName){
-        if(itemRegistryName != null)
-            Packet.send(PacketDistributor.SERVER.noArg(), new ItemPriceReqPacket(itemRegistryName));
+    public static void send(List<Item> items){
+        if(!items.isEmpty())
+            Packet.send(PacketDistributor.SERVER.noArg(), new ItemPriceReqPacket(new ArrayList<>(items)));
     }
 
     /**
@@ -57,62 +68,61 @@ public class ItemPriceReqPacket extends Packet<ItemPriceReqPacket> {
      * @param buf given buffer.
      */
     private static void encode(ItemPriceReqPacket msg, PacketBuffer buf){
-        writeString(msg.itemRegistryName.getNamespace(), buf);
-        writeString(msg.itemRegistryName.getPath(), buf);
+        buf.writeVarInt(msg.items.size());
+
+        for(Item item : msg.items)
+            PacketCodec.writeItem(item, buf);
     }
 
     /**
      * Creates and returns a new packet containing the
-     * data in the given buffer.
+     * data in the given buffer. Items beyond the
+     * {@link #MAX_BATCH_SIZE} are ignored.
      *
      * @param buf the given buffer.
      * @return the created packet.
      */
     private static ItemPriceReqPacket decode(PacketBuffer buf){
-        String namespace = readString(buf);
-        String path = readString(buf);
+        int size = buf.readVarInt();
+        List<Item> items = new ArrayList<>(Math.min(size, MAX_BATCH_SIZE));
+
+        for(int i = 0; i < size; i++){
+            Item item = PacketCodec.readItem(buf);
+
+            if(i < MAX_BATCH_SIZE)
+                items.add(item);
+        }
 
-        return new ItemPriceReqPacket(new ResourceLocation(namespace, path));
+        return new ItemPriceReqPacket(items);
     }
 
     /**
-     * Sends back the requested items price.
+     * Sends back the requested items prices, answered
+     * from the registry in a single response.
+     *
+     * <p/>Price lookups are read-only, so the request is
+     * answered on the network thread, without ever
+     * touching the main thread.
      *
      * @param message the received packet.
      * @param ctx the sender.
      */
     private static void handle(final ItemPriceReqPacket message, Supplier<NetworkEvent.Context> ctx){
-        handle(ctx, () -> {
-            ItemStack itemStack;
-
-            if(ForgeRegistries.BLOCKS.containsKey(message.itemRegistryName)){
-                Block block = ForgeRegistries.BLOCKS.getValue(message.itemRegistryName);
-                itemStack = new ItemStack(block == null ? Items.AIR : block);
-            } else if(ForgeRegistries.ITEMS.containsKey(message.itemRegistryName)){
-                Item item = ForgeRegistries.ITEMS.getValue(message.itemRegistryName);
-                itemStack = new ItemStack(item == null ? Items.AIR : item);
-            } else {
-                ShopperyMod.getNewLogger().error(
-                        "Failed to get requested item for item price check: ["
-                                + message.itemRegistryName.toString() + "]"
-                );
-
-                send(PacketDistributor.PLAYER.with(() -> ctx.get().getSender()),
-                        new ItemPriceRecPacket(false, 0, 0)
-                );
-
-                return;
-            }
-
-            ItemPrice itemStackPrice = ItemPrices.getPrice(itemStack);
-
-            send(PacketDistributor.PLAYER.with(() -> ctx.get().getSender()),
-                    (itemStackPrice == null) ?
-                    new ItemPriceRecPacket(false, 0, 0) :
-                    new ItemPriceRecPacket(true, itemStackPrice.getBuyPrice(),
-                            itemStackPrice.getSellPrice()
-                )
+        handleOffThread(ctx, () -> {
+            ServerPlayerEntity player = ctx.get().getSender();
+            if(player == null || !ItemPrices.isLoaded())
+                return null;
+
+            Map<Item, ItemPrice> prices = new LinkedHashMap<>(message.items.size());
+
+            for(Item item : message.items)
+                prices.put(item, item == Items.AIR ? null : ItemPrices.getPrice(item));
+
+            send(PacketDistributor.PLAYER.with(() -> player),
+                    new ItemPriceRecPacket(ItemPrices.getRegistryVersion(), prices)
             );
+
+            return null;
         });
     }
 
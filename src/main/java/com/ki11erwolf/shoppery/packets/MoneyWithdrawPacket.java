@@ -3,54 +3,56 @@ package com.ki11erwolf.shoppery.packets;
 import com.ki11erwolf.shoppery.ShopperyMod;
 import com.ki11erwolf.shoppery.bank.BankManager;
 import com.ki11erwolf.shoppery.bank.Wallet;
-import com.ki11erwolf.shoppery.item.ModItems;
-import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.item.ItemStack;
+import com.ki11erwolf.shoppery.item.CurrencyBreakdown;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.network.NetworkEvent;
-import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
-import java.util.Objects;
-import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * Sent by clients to request the server put the requested
- * coin/note in the players inventory, provided they have
- * enough funds.
+ * Sent by clients to request the server withdraw the given
+ * amount from the players wallet, and put it in the players
+ * inventory as the fewest notes & coins worth the amount (see
+ * {@link CurrencyBreakdown}), provided they have enough funds.
+ *
+ * <p/>Any amount can be withdrawn with a single packet, such as
+ * the worth of a single note, or thousands in stacks of notes.
  */
 public class MoneyWithdrawPacket extends Packet<MoneyWithdrawPacket> {
 
     /**
-     * The player who's requesting the money.
+     * The amount to withdraw (excluding cents).
      */
-    private final String playerUUID;
+    private final long amount;
 
     /**
-     * True if it's a note item, false
-     * if it's a coin item.
+     * The amount of cents to withdraw.
      */
-    private final boolean isNote;
+    private final byte cents;
 
     /**
-     * The worth of the coin/note.
+     * The number of the clients prediction of the
+     * withdrawal, or {@code 0} if not predicted.
      */
-    private final int amount;
+    private final int action;
 
     /**
-     * Constructor
+     * Constructor. The player requesting
+     * the money is the sender.
      *
-     * @param playerUUID The player who's requesting the money.
-     * @param isNote True if it's a note item, false
-     * if it's a coin item.
-     * @param amount The worth of the coin/note.
+     * @param amount the amount to withdraw (excluding cents).
+     * @param cents the amount of cents to withdraw (0-99).
+     * @param action the number of the clients prediction of the
+     *               withdrawal (see {@link BalanceSyncPacket#predict(long)}),
+     *               or {@code 0} if not predicted.
      */
-    public MoneyWithdrawPacket(String playerUUID, boolean isNote, int amount){
-        this.playerUUID = playerUUID;
-        this.isNote = isNote;
+    public MoneyWithdrawPacket(long amount, byte cents, int action){
         this.amount = amount;
+        this.cents = cents;
+        this.action = action;
     }
 
     /**
@@ -59,9 +61,9 @@ public class MoneyWithdrawPacket extends Packet<MoneyWithdrawPacket> {
     @Override
     BiConsumer<MoneyWithdrawPacket, PacketBuffer> getEncoder() {
         return (packet, buffer) -> {
-            writeString(packet.playerUUID, buffer);
-            buffer.writeBoolean(packet.isNote);
-            buffer.writeInt(packet.amount);
+            buffer.writeVarLong(packet.amount);
+            buffer.writeByte(packet.cents);
+            buffer.writeVarInt(packet.action);
         };
     }
 
@@ -70,101 +72,28 @@ public class MoneyWithdrawPacket extends Packet<MoneyWithdrawPacket> {
      */
     @Override
     Function<PacketBuffer, MoneyWithdrawPacket> getDecoder() {
-        return (buffer) -> new MoneyWithdrawPacket(readString(buffer), buffer.readBoolean(), buffer.readInt());
+        return (buffer) -> new MoneyWithdrawPacket(buffer.readVarLong(), buffer.readByte(), buffer.readVarInt());
     }
 
     /**
      * {@inheritDoc}
      *
-     * Gives the player the requested amount as a note/coin
+     * Gives the player the requested amount as notes & coins
      * provided they have enough funds.
      */
     @Override
     BiConsumer<MoneyWithdrawPacket, Supplier<NetworkEvent.Context>> getHandler() {
         return (packet, ctx) -> handle(ctx, () -> {
-            PlayerEntity player = Objects.requireNonNull(ServerLifecycleHooks.getCurrentServer())
-                    .getPlayerList().getPlayerByUUID(UUID.fromString(packet.playerUUID));
+            ServerPlayerEntity player = ctx.get().getSender();
 
             if(player == null){
-                ShopperyMod.getNewLogger().error(
-                        "Player requesting balance cannot be found: " + packet.playerUUID
-                );
+                ShopperyMod.getNewLogger().error("Player requesting money cannot be found");
                 return;
             }
 
-            Wallet senderWallet = BankManager._getWallet(player.getEntityWorld(), player);
-
-            boolean isNote = packet.isNote;
-            int amount = packet.amount;
-
-            if(isNote){
-                if(senderWallet.subtract(amount)) {
-                    //Notes
-                    switch (amount) {
-                        case 1:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_ONE));
-                            break;
-                        case 5:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_FIVE));
-                            break;
-                        case 10:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_TEN));
-                            break;
-                        case 20:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_TWENTY));
-                            break;
-                        case 50:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_FIFTY));
-                            break;
-                        case 100:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_ONE_HUNDRED));
-                            break;
-
-                        case 500:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_FIVE_HUNDRED));
-                            break;
-                        case 1_000:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_ONE_K));
-                            break;
-                        case 5_000:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_FIVE_K));
-                            break;
-                        case 10_000:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_TEN_K));
-                            break;
-                        case 50_000:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_FIFTY_K));
-                            break;
-                        case 100_000:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.NOTE_ONE_HUNDRED_K));
-                            break;
-                    }
-                }
-            } else {
-                if(senderWallet.subtract(0, (byte)amount)) {
-                    //Coins
-                    switch (amount) {
-                        case 1:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.COIN_ONE));
-                            break;
-                        case 5:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.COIN_FIVE));
-                            break;
-                        case 10:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.COIN_TEN));
-                            break;
-                        case 20:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.COIN_TWENTY));
-                            break;
-                        case 50:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.COIN_FIFTY));
-                            break;
-                        case 80:
-                            player.inventory.addItemStackToInventory(new ItemStack(ModItems.COIN_EIGHTY));
-                            break;
-                    }
-                }
-            }
+            Wallet wallet = BankManager._getWallet(player.getEntityWorld(), player);
+            CurrencyBreakdown.withdraw(wallet, player, packet.amount, packet.cents, false);
+            wallet.acknowledge(packet.action);
         });
     }
 }
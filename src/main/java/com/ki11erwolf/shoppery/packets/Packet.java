@@ -1,6 +1,7 @@
 package com.ki11erwolf.shoppery.packets;
 
 import com.ki11erwolf.shoppery.ShopperyMod;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fml.network.NetworkEvent;
@@ -17,6 +18,8 @@ import java.util.function.Supplier;
  *
  * This class handles the registering of packets
  * as well as providing a base class for packets.
+ * Packet data should be written using the compact
+ * encoding provided by {@link PacketCodec}.
  *
  * @param <S> the class implementing this class.
  */
@@ -62,50 +65,129 @@ public abstract class Packet<S extends Packet<S>> {
     abstract BiConsumer<S, Supplier<NetworkEvent.Context>> getHandler();
 
     /**
-     * Writes a String (and the length of the string)
-     * to the given PacketBuffer.
+     * Utility method to handle receiving a packet
+     * on the work thread & flag the packet as handled.
+     *
+     * <p/>Packets received by the server are subject to the
+     * senders rate limit ({@link PacketLimiter}), and are
+     * dropped without being handled when over it.
      *
-     * @param s the String to write.
-     * @param buffer the buffer to write the String to.
+     * @param context packet handle parameters.
+     * @param runnable code to execute.
      */
-    static void writeString(String s, PacketBuffer buffer){
-        int chars = s.length();
-        buffer.writeInt(chars);
+    static void handle(Supplier<NetworkEvent.Context> context, Runnable runnable){
+        if(PacketLimiter.tryAccept(context.get().getSender()))
+            context.get().enqueueWork(PacketStats.track(runnable));
 
-        for(char c : s.toCharArray()){
-            buffer.writeChar(c);
+        context.get().setPacketHandled(true);
+    }
+
+    /**
+     * Utility method to handle receiving a request packet,
+     * like {@link #handle(Supplier, Runnable)}, that is
+     * dropped if an identical request (same packet type)
+     * from the same player is still waiting to be handled.
+     *
+     * <p/>Only to be used for requests without data, where
+     * handling the waiting request answers both.
+     *
+     * @param packet the received packet.
+     * @param context packet handle parameters.
+     * @param runnable code to execute.
+     */
+    static void handleCoalesced(Packet<?> packet, Supplier<NetworkEvent.Context> context, Runnable runnable){
+        ServerPlayerEntity sender = context.get().getSender();
+
+        if(sender == null){
+            handle(context, runnable);
+            return;
         }
+
+        Object key = PacketLimiter.getKey(sender, packet);
+
+        if(PacketLimiter.tryAccept(sender) && PacketLimiter.tryMarkPending(key))
+            context.get().enqueueWork(PacketStats.track(() -> {
+                PacketLimiter.clearPending(key);
+                runnable.run();
+            }));
+
+        context.get().setPacketHandled(true);
     }
 
     /**
-     * Reads the next String in the given
-     * PacketBuffer. Must be used with {@link
-     * #writeString(String, PacketBuffer)}.
+     * Utility method to handle receiving a packet in two stages,
+     * subject to the same rate limit as {@link #handle(Supplier,
+     * Runnable)}.
+     *
+     * <p/>The given work is run immediately on the network thread
+     * that received the packet, and must therefore only validate the
+     * packet and do thread-safe, read-only work (e.g. price lookups,
+     * balance reads). If the work needs to change game state, it returns
+     * the change, which is then run on the work (main) thread. Otherwise,
+     * the packet is handled without ever touching the work thread.
      *
-     * @param buffer the given packet buffer.
-     * @return the next String in the given packet buffer.
+     * @param context packet handle parameters.
+     * @param work the read-only work, returning the state change
+     *             to run on the work thread, or {@code null} if none.
      */
-    static String readString(PacketBuffer buffer){
-        int chars = buffer.readInt();
-        StringBuilder string = new StringBuilder();
+    static void handleOffThread(Supplier<NetworkEvent.Context> context, Supplier<Runnable> work){
+        if(PacketLimiter.tryAccept(context.get().getSender())){
+            Runnable change = work.get();
 
-        for(int i = 0; i < chars; i++){
-            char c = buffer.readChar();
-            string.append(c);
+            if(change != null)
+                context.get().enqueueWork(PacketStats.track(change));
         }
 
-        return string.toString();
+        context.get().setPacketHandled(true);
     }
 
     /**
-     * Utility method to handle receiving a packet
-     * on the work thread & flag the packet as handled.
+     * Utility method to handle receiving a request packet in two
+     * stages, like {@link #handleOffThread(Supplier, Supplier)},
+     * that is dropped if an identical request (same packet type)
+     * from the same player is still waiting to be handled, like
+     * {@link #handleCoalesced(Packet, Supplier, Runnable)}.
+     *
+     * <p/>The request stays pending until the work, and the state
+     * change it returns (if any), has run on its thread.
      *
+     * <p/>Only to be used for requests without data, where
+     * handling the waiting request answers both.
+     *
+     * @param packet the received packet.
      * @param context packet handle parameters.
-     * @param runnable code to execute.
+     * @param work the read-only work, returning the state change
+     *             to run on the work thread, or {@code null} if none.
      */
-    static void handle(Supplier<NetworkEvent.Context> context, Runnable runnable){
-        context.get().enqueueWork(runnable);
+    static void handleOffThreadCoalesced(Packet<?> packet, Supplier<NetworkEvent.Context> context,
+                                         Supplier<Runnable> work){
+        ServerPlayerEntity sender = context.get().getSender();
+
+        if(sender == null){
+            handleOffThread(context, work);
+            return;
+        }
+
+        Object key = PacketLimiter.getKey(sender, packet);
+
+        if(PacketLimiter.tryAccept(sender) && PacketLimiter.tryMarkPending(key)){
+            Runnable change;
+
+            try {
+                change = work.get();
+            } catch (RuntimeException e){
+                PacketLimiter.clearPending(key);
+                throw e;
+            }
+
+            if(change == null)
+                PacketLimiter.clearPending(key);
+            else context.get().enqueueWork(PacketStats.track(() -> {
+                PacketLimiter.clearPending(key);
+                change.run();
+            }));
+        }
+
         context.get().setPacketHandled(true);
     }
 
@@ -115,9 +197,9 @@ public abstract class Packet<S extends Packet<S>> {
     private static class PacketManager{
 
         /**
-         * Communication protocol version. Value = 1.
+         * Communication protocol version. Value = 9.
          */
-        private final String protocolVersion = Integer.toString(1);
+        private final String protocolVersion = Integer.toString(9);
 
         /**
          * Forge handler provided to register packets.
@@ -143,15 +225,20 @@ public abstract class Packet<S extends Packet<S>> {
 
         /**
          * Registers the given packet (must be an
-         * object instance) to the game.
+         * object instance) to the game, recording
+         * its traffic in the {@link PacketStats}.
          *
          * @param packet the given packet object instance.
          */
         @SuppressWarnings("unchecked")
         void register(@SuppressWarnings("rawtypes") Packet packet){
+            PacketStats.Entry stats = PacketStats.register(packet.getClass());
+
             handler.registerMessage(
                     lastID++, packet.getClass(),
-                    packet.getEncoder(), packet.getDecoder(), packet.getHandler()
+                    PacketStats.encoder(stats, packet.getEncoder()),
+                    PacketStats.decoder(stats, packet.getDecoder()),
+                    PacketStats.handler(stats, packet.getHandler())
             );
         }
     }
@@ -190,24 +277,19 @@ public abstract class Packet<S extends Packet<S>> {
         & registration.
      */
     static {
-        MANAGER.register(new FormattedBalanceReqPacket(null));
-        MANAGER.register(new FormattedBalanceRecPacket(null));
-
-        MANAGER.register(new FullBalanceReqPacket(null));
-        MANAGER.register(new FullBalanceRecPacket(null));
-
-        MANAGER.register(new PlayerBalanceReqPacket(null));
-        MANAGER.register(new PlayerBalanceRecPacket(0));
-
-        MANAGER.register(new PlayerCentsReqPacket(null));
-        MANAGER.register(new PlayerCentsRecPacket((byte)0));
+        MANAGER.register(new BalanceSyncReqPacket());
+        MANAGER.register(new BalanceSyncPacket(0, (byte)0, 0));
 
-        MANAGER.register(new PlaySoundOnClientPacket(null, "", 0F, 0F));
-        MANAGER.register(new DepositInventoryPacket(null));
-        MANAGER.register(new MoneyWithdrawPacket(null, false, 0));
-        MANAGER.register(new PlayerMessagePacket(null, null, null));
-        MANAGER.register(new DepositCashPacket(null, false));
+        MANAGER.register(new PlaySoundOnClientPacket(null, 0F, 0F));
+        MANAGER.register(new DepositInventoryPacket());
+        MANAGER.register(new MoneyWithdrawPacket(0, (byte)0, 0));
+        MANAGER.register(new PlayerMessagePacket(-1, null));
+        MANAGER.register(new DepositCashPacket(false, 0));
         MANAGER.register(new ItemPriceReqPacket(null));
-        MANAGER.register(new ItemPriceRecPacket(false, 0, 0));
+        MANAGER.register(new ItemPriceRecPacket(0, null));
+        MANAGER.register(new PriceSyncPacket(0, 0, 0, null));
+        MANAGER.register(new PriceDeltaPacket(0, null));
+        MANAGER.register(new ShopDataSyncPacket());
+        MANAGER.register(new TradeResultPacket(null, 0F, 0F, 0, (byte)0, 0, null));
     }
 }
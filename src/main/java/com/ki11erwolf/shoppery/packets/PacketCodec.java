@@ -0,0 +1,205 @@
+package com.ki11erwolf.shoppery.packets;
+
+import com.ki11erwolf.shoppery.ShopperySoundEvents;
+import com.ki11erwolf.shoppery.price.ItemPrice;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.SoundEvent;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.ForgeRegistry;
+
+import java.util.UUID;
+
+/**
+ * The shared, compact, encoding used by every Shoppery {@link Packet}.
+ *
+ * <p/>Rather than writing values in their full (and often text) form,
+ * values are written in the smallest form both sides can understand:
+ * <ul>
+ *     <li>Strings are written as UTF-8 prefixed with a VarInt length.</li>
+ *     <li>UUIDs are written as two longs, rather than 36 characters.</li>
+ *     <li>Items and sound events are written as their numeric ids, which
+ *     are the same on both the server & client, rather than their
+ *     registry names.</li>
+ * </ul>
+ *
+ * <p/>Counts and other small numbers should be written directly to
+ * the buffer as VarInts ({@link PacketBuffer#writeVarInt(int)}).
+ */
+final class PacketCodec {
+
+    /**
+     * The maximum length of any String read from a packet.
+     */
+    static final int MAX_STRING_LENGTH = Short.MAX_VALUE;
+
+    /**
+     * Private constructor.
+     */
+    private PacketCodec(){}
+
+    // Strings
+
+    /**
+     * Writes a String, as UTF-8 prefixed with its
+     * VarInt length, to the given buffer.
+     *
+     * @param s the String to write.
+     * @param buffer the buffer to write the String to.
+     */
+    static void writeString(String s, PacketBuffer buffer){
+        buffer.writeString(s, MAX_STRING_LENGTH);
+    }
+
+    /**
+     * Reads the next String in the given buffer. Must
+     * be used with {@link #writeString(String, PacketBuffer)}.
+     *
+     * @param buffer the given packet buffer.
+     * @return the next String in the given packet buffer.
+     */
+    static String readString(PacketBuffer buffer){
+        return buffer.readString(MAX_STRING_LENGTH);
+    }
+
+    // UUIDs
+
+    /**
+     * Writes a UUID, as two longs, to the given buffer.
+     *
+     * @param uuid the UUID to write.
+     * @param buffer the buffer to write the UUID to.
+     */
+    static void writeUUID(UUID uuid, PacketBuffer buffer){
+        buffer.writeUniqueId(uuid);
+    }
+
+    /**
+     * Reads the next UUID in the given buffer. Must
+     * be used with {@link #writeUUID(UUID, PacketBuffer)}.
+     *
+     * @param buffer the given packet buffer.
+     * @return the next UUID in the given packet buffer.
+     */
+    static UUID readUUID(PacketBuffer buffer){
+        return buffer.readUniqueId();
+    }
+
+    // Items
+
+    /**
+     * Writes an Item, as its numeric registry id,
+     * to the given buffer.
+     *
+     * @param item the Item to write.
+     * @param buffer the buffer to write the Item to.
+     */
+    static void writeItem(Item item, PacketBuffer buffer){
+        buffer.writeVarInt(getItemRegistry().getID(item));
+    }
+
+    /**
+     * Writes an Item, as the numeric registry id of the
+     * Item registered under the given name, to the given
+     * buffer. Unknown names are written as air.
+     *
+     * @param item the registry name of the Item to write.
+     * @param buffer the buffer to write the Item to.
+     */
+    static void writeItem(ResourceLocation item, PacketBuffer buffer){
+        int id = getItemRegistry().getID(item);
+        buffer.writeVarInt(id < 0 ? getItemRegistry().getID(Items.AIR) : id);
+    }
+
+    /**
+     * Reads the next Item in the given buffer. Must be used
+     * with {@link #writeItem(Item, PacketBuffer)} or {@link
+     * #writeItem(ResourceLocation, PacketBuffer)}.
+     *
+     * @param buffer the given packet buffer.
+     * @return the next Item in the given packet buffer,
+     * or air if the id is unknown.
+     */
+    static Item readItem(PacketBuffer buffer){
+        Item item = getItemRegistry().getValue(buffer.readVarInt());
+        return item == null ? Items.AIR : item;
+    }
+
+    /**
+     * @return the Forge Item registry, which provides the
+     * numeric ids (synced between server and client) used
+     * to send Items.
+     */
+    @SuppressWarnings("unchecked")
+    private static ForgeRegistry<Item> getItemRegistry() {
+        return (ForgeRegistry<Item>) ForgeRegistries.ITEMS;
+    }
+
+    // Prices
+
+    /**
+     * The bit flags used to write the
+     * prohibitions of an ItemPrice.
+     */
+    private static final int PROHIBIT_BUY = 1, PROHIBIT_SELL = 1 << 1;
+
+    /**
+     * Writes the values of an ItemPrice (but not its Item) to
+     * the given buffer: the prohibitions as a single byte,
+     * followed by the buy price, sell price, and fluctuation.
+     *
+     * @param price the ItemPrice to write.
+     * @param buffer the buffer to write the ItemPrice to.
+     */
+    static void writePrice(ItemPrice price, PacketBuffer buffer){
+        buffer.writeByte((price.allowsBuying() ? 0 : PROHIBIT_BUY) | (price.allowsSelling() ? 0 : PROHIBIT_SELL));
+        buffer.writeDouble(price.getBuyPrice());
+        buffer.writeDouble(price.getSellPrice());
+        buffer.writeDouble(price.getPriceFluctuation());
+    }
+
+    /**
+     * Reads the next ItemPrice in the given buffer. Must be
+     * used with {@link #writePrice(ItemPrice, PacketBuffer)}.
+     *
+     * @param item the registry name of the Item the price is for.
+     * @param buffer the given packet buffer.
+     * @return the next ItemPrice in the given packet buffer.
+     */
+    static ItemPrice readPrice(ResourceLocation item, PacketBuffer buffer){
+        int prohibitions = buffer.readByte();
+
+        return new ItemPrice(
+                item, (prohibitions & PROHIBIT_BUY) != 0, buffer.readDouble(),
+                (prohibitions & PROHIBIT_SELL) != 0, buffer.readDouble(), buffer.readDouble()
+        );
+    }
+
+    // Sounds
+
+    /**
+     * Writes a Shoppery sound event, as its numeric
+     * id, to the given buffer.
+     *
+     * @param sound the sound event to write.
+     * @param buffer the buffer to write the sound event to.
+     * @see ShopperySoundEvents#getSoundEventID(SoundEvent)
+     */
+    static void writeSound(SoundEvent sound, PacketBuffer buffer){
+        buffer.writeVarInt(ShopperySoundEvents.getSoundEventID(sound));
+    }
+
+    /**
+     * Reads the next Shoppery sound event in the given buffer.
+     * Must be used with {@link #writeSound(SoundEvent, PacketBuffer)}.
+     *
+     * @param buffer the given packet buffer.
+     * @return the next sound event in the given packet
+     * buffer, or {@code null} if the id is unknown.
+     */
+    static SoundEvent readSound(PacketBuffer buffer){
+        return ShopperySoundEvents.getSoundEvent(buffer.readVarInt());
+    }
+}
@@ -0,0 +1,253 @@
+package com.ki11erwolf.shoppery.packets;
+
+import com.ki11erwolf.shoppery.ShopperyMod;
+import com.ki11erwolf.shoppery.config.ModConfig;
+import com.ki11erwolf.shoppery.config.categories.GeneralConfig;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Protects the server from clients flooding it with
+ * request packets, which are all handled on the main
+ * (tick) thread.
+ *
+ * <p/>Each player is given a token bucket, which holds up to
+ * the configured burst limit of tokens and refills at the
+ * configured rate limit. Every request packet takes a token,
+ * and requests that arrive when the bucket is empty are dropped.
+ *
+ * <p/>Requests that can be coalesced (see {@link
+ * Packet#handleCoalesced(Packet, java.util.function.Supplier, Runnable)})
+ * are also dropped if an identical request from the same player is
+ * already waiting to be handled, as it will be answered by the
+ * waiting request.
+ *
+ * <p/>The number of handled, limited & coalesced requests are
+ * counted for monitoring.
+ */
+public enum PacketLimiter {
+
+    /**
+     * Singleton instance of this class.
+     */
+    INSTANCE;
+
+    /*
+     * Registers the limiter to the forge
+     * event bus when the class is first used.
+     */
+    static {
+        MinecraftForge.EVENT_BUS.register(INSTANCE);
+    }
+
+    /**
+     * The logger for this class.
+     */
+    private static final Logger LOG = ShopperyMod.getNewLogger();
+
+    /**
+     * The token bucket of each player that has sent a request.
+     */
+    private final Map<UUID, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of coalesced requests waiting to be handled.
+     */
+    private final Set<Object> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Request counters.
+     */
+    private final AtomicLong accepted = new AtomicLong(), limited = new AtomicLong(),
+            coalesced = new AtomicLong();
+
+    // **********
+    // Public API
+    // **********
+
+    /**
+     * @return the number of requests accepted
+     * and handled since the game started.
+     */
+    public static long getAcceptedCount(){
+        return INSTANCE.accepted.get();
+    }
+
+    /**
+     * @return the number of requests dropped for exceeding
+     * the rate limit since the game started.
+     */
+    public static long getLimitedCount(){
+        return INSTANCE.limited.get();
+    }
+
+    /**
+     * @return the number of requests dropped because an
+     * identical request was already waiting to be
+     * handled since the game started.
+     */
+    public static long getCoalescedCount(){
+        return INSTANCE.coalesced.get();
+    }
+
+    // *********
+    // Internals
+    // *********
+
+    /**
+     * Takes a token from the given players bucket.
+     *
+     * @param player the player who sent the request, or
+     *               {@code null} if the request was
+     *               received by the client.
+     * @return {@code true} if the request may be handled,
+     * {@code false} if it must be dropped.
+     */
+    static boolean tryAccept(ServerPlayerEntity player){
+        if(player == null)
+            return true;
+
+        Bucket bucket = INSTANCE.buckets.computeIfAbsent(player.getUniqueID(), id -> new Bucket());
+
+        if(bucket.tryTake()){
+            INSTANCE.accepted.incrementAndGet();
+            return true;
+        }
+
+        INSTANCE.limited.incrementAndGet();
+
+        if(bucket.warn())
+            LOG.warn("Player " + player.getName().getString() + " is sending too many requests, dropping them.");
+
+        return false;
+    }
+
+    /**
+     * Creates the key identifying identical
+     * requests from the same player.
+     *
+     * @param player the player who sent the request.
+     * @param packet the request.
+     * @return the requests key.
+     */
+    static Object getKey(ServerPlayerEntity player, Packet<?> packet){
+        return new AbstractMap.SimpleImmutableEntry<>(player.getUniqueID(), packet.getClass());
+    }
+
+    /**
+     * Marks the request with the given key as waiting.
+     *
+     * @param key the requests key.
+     * @return {@code true} if no identical request was
+     * already waiting, {@code false} if the request has
+     * been coalesced and must be dropped.
+     */
+    static boolean tryMarkPending(Object key){
+        if(INSTANCE.pending.add(key))
+            return true;
+
+        INSTANCE.coalesced.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Marks the request with the given key as handled.
+     *
+     * @param key the requests key.
+     */
+    static void clearPending(Object key){
+        INSTANCE.pending.remove(key);
+    }
+
+    /**
+     * Forgets the bucket of players who leave.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event){
+        buckets.remove(event.getPlayer().getUniqueID());
+    }
+
+    /**
+     * A single players token bucket.
+     */
+    private static class Bucket {
+
+        /**
+         * The number of tokens in the bucket.
+         */
+        private double tokens;
+
+        /**
+         * The time (in nanoseconds) the bucket was last refilled.
+         */
+        private long lastRefill = System.nanoTime();
+
+        /**
+         * {@code true} if the player has already been
+         * logged as limited since their last accepted request.
+         */
+        private boolean warned = false;
+
+        /**
+         * Creates a new full bucket.
+         */
+        private Bucket(){
+            this.tokens = getConfig().getPacketBurstLimit();
+        }
+
+        /**
+         * Refills the bucket for the time passed since
+         * the last refill, and takes a token if any.
+         *
+         * @return {@code true} if a token was taken.
+         */
+        private synchronized boolean tryTake(){
+            GeneralConfig config = getConfig();
+            long now = System.nanoTime();
+
+            tokens = Math.min(
+                    config.getPacketBurstLimit(),
+                    tokens + (now - lastRefill) * config.getPacketRateLimit() / 1_000_000_000D
+            );
+            lastRefill = now;
+
+            if(tokens < 1)
+                return false;
+
+            tokens--;
+            warned = false;
+            return true;
+        }
+
+        /**
+         * @return {@code true} if the player should be
+         * warned about, only once each time the player
+         * is limited.
+         */
+        private synchronized boolean warn(){
+            if(warned)
+                return false;
+
+            return warned = true;
+        }
+
+        /**
+         * @return the config category holding the limits.
+         */
+        private static GeneralConfig getConfig(){
+            return ModConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.ki11erwolf.shoppery.packets;
+
+import com.ki11erwolf.shoppery.ShopperyMod;
+import com.ki11erwolf.shoppery.config.ModConfig;
+import com.ki11erwolf.shoppery.config.categories.GeneralConfig;
+import com.ki11erwolf.shoppery.stats.EconomyMetrics;
+import com.ki11erwolf.shoppery.stats.Histogram;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records the network traffic of every registered Shoppery
+ * {@link Packet} type, so the packets dominating bandwidth
+ * and handling time on busy servers can be found.
+ *
+ * <p/>For each packet type, the number of packets and encoded
+ * bytes sent & received are counted, and the time taken to
+ * decode each packet, as well as the latency from receiving a
+ * packet until it has been handled (including any wait for the
+ * main thread), are recorded in histograms.
+ *
+ * <p/>The statistics are shown by the {@code /shoppery stats net}
+ * command, and summarised in the log at the configured interval.
+ */
+public enum PacketStats {
+
+    /**
+     * Singleton instance of this class.
+     */
+    INSTANCE;
+
+    /*
+     * Registers the stats logger to the forge
+     * event bus when the class is first used.
+     */
+    static {
+        MinecraftForge.EVENT_BUS.register(INSTANCE);
+    }
+
+    /**
+     * The logger for this class.
+     */
+    private static final Logger LOG = ShopperyMod.getNewLogger();
+
+    /**
+     * The number of entries shown in the log line.
+     */
+    private static final int LOGGED_ENTRIES = 3;
+
+    /**
+     * The packet received, but not yet handled,
+     * by the current network thread.
+     */
+    private static final ThreadLocal<Receipt> RECEIPT = new ThreadLocal<>();
+
+    /**
+     * The statistics of every packet type,
+     * in registration order.
+     */
+    private final List<Entry> entries = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Server ticks since the log line was last written.
+     */
+    private int ticks = 0;
+
+    // **********
+    // Public API
+    // **********
+
+    /**
+     * @return a snapshot of the statistics of every packet
+     * type, ordered by total (sent + received) bytes, largest
+     * first.
+     */
+    public static List<Entry> getEntries(){
+        List<Entry> entries;
+
+        synchronized (INSTANCE.entries){
+            entries = new ArrayList<>(INSTANCE.entries);
+        }
+
+        entries.sort(Comparator.comparingLong(Entry::getTotalBytes).reversed());
+        return entries;
+    }
+
+    // *********
+    // Internals
+    // *********
+
+    /**
+     * Creates the statistics entry for a
+     * newly registered packet type.
+     *
+     * @param type the packet type.
+     * @return the packet types statistics entry.
+     */
+    static Entry register(Class<?> type){
+        Entry entry = new Entry(type.getSimpleName());
+        INSTANCE.entries.add(entry);
+        return entry;
+    }
+
+    /**
+     * @param entry the packet types statistics entry.
+     * @param encoder the packet types encoder.
+     * @return the encoder, counting sent packets & bytes.
+     */
+    static <S> BiConsumer<S, PacketBuffer> encoder(Entry entry, BiConsumer<S, PacketBuffer> encoder){
+        return (packet, buffer) -> {
+            int start = buffer.writerIndex();
+            encoder.accept(packet, buffer);
+
+            entry.sentPackets.increment();
+            entry.sentBytes.add(buffer.writerIndex() - start);
+        };
+    }
+
+    /**
+     * @param entry the packet types statistics entry.
+     * @param decoder the packet types decoder.
+     * @return the decoder, counting received packets &
+     * bytes, and recording the time taken to decode.
+     */
+    static <S> Function<PacketBuffer, S> decoder(Entry entry, Function<PacketBuffer, S> decoder){
+        return (buffer) -> {
+            int start = buffer.readerIndex();
+            long startTime = System.nanoTime();
+            S packet = decoder.apply(buffer);
+
+            entry.decodeTime.record(System.nanoTime() - startTime);
+            entry.receivedPackets.increment();
+            entry.receivedBytes.add(buffer.readerIndex() - start);
+            return packet;
+        };
+    }
+
+    /**
+     * @param entry the packet types statistics entry.
+     * @param handler the packet types handler.
+     * @return the handler, recording the latency until the
+     * packet is handled - either once the handler returns, or
+     * once the work it {@link #track(Runnable) queued} is done.
+     */
+    static <S> BiConsumer<S, Supplier<NetworkEvent.Context>> handler(
+            Entry entry, BiConsumer<S, Supplier<NetworkEvent.Context>> handler){
+        return (packet, ctx) -> {
+            Receipt receipt = new Receipt(entry, ctx.get().getDirection().getReceptionSide().isServer());
+            RECEIPT.set(receipt);
+
+            try {
+                handler.accept(packet, ctx);
+            } finally {
+                RECEIPT.remove();
+
+                if(!receipt.queued)
+                    entry.handleTime.record(System.nanoTime() - receipt.time);
+            }
+        };
+    }
+
+    /**
+     * Wraps work queued on the main thread by the packet
+     * currently being handled, so that the handling latency
+     * is recorded once the work is done. Time spent doing
+     * the work on the server thread is also recorded as
+     * {@link EconomyMetrics#PACKET_HANDLERS tick time}.
+     *
+     * @param work the queued work.
+     * @return the work, recording the handling latency.
+     */
+    static Runnable track(Runnable work){
+        Receipt receipt = RECEIPT.get();
+        if(receipt == null)
+            return work;
+
+        receipt.queued = true;
+
+        return () -> {
+            long start = System.nanoTime();
+
+            try {
+                work.run();
+            } finally {
+                long end = System.nanoTime();
+                receipt.entry.handleTime.record(end - receipt.time);
+
+                if(receipt.server)
+                    EconomyMetrics.PACKET_HANDLERS.record(end - start);
+            }
+        };
+    }
+
+    /**
+     * Logs the packet types using the most bandwidth
+     * at the configured interval.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent event){
+        if(event.phase != TickEvent.Phase.END)
+            return;
+
+        int interval = ModConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getNetworkStatsLogInterval();
+        if(interval <= 0 || ++ticks < interval * 60 * 20)
+            return;
+
+        ticks = 0;
+        StringBuilder line = new StringBuilder("Network traffic - top packets by bytes:");
+
+        List<Entry> entries = getEntries();
+        for(int i = 0; i < Math.min(LOGGED_ENTRIES, entries.size()); i++){
+            Entry entry = entries.get(i);
+            line.append(' ').append(entry.getName())
+                    .append(" [sent ").append(entry.getSentPackets()).append(" / ").append(entry.getSentBytes())
+                    .append("B, received ").append(entry.getReceivedPackets()).append(" / ")
+                    .append(entry.getReceivedBytes()).append("B, handle p99 ")
+                    .append(entry.getHandleTime().getPercentile(0.99)).append("us]");
+        }
+
+        line.append(" | rate limited: ").append(PacketLimiter.getLimitedCount())
+                .append(", coalesced: ").append(PacketLimiter.getCoalescedCount());
+
+        LOG.info(line.toString());
+    }
+
+    /**
+     * A packet received by the current
+     * network thread, not yet handled.
+     */
+    private static class Receipt {
+
+        /**
+         * The statistics entry of the packets type.
+         */
+        private final Entry entry;
+
+        /**
+         * The time (in nanoseconds) the packet was received.
+         */
+        private final long time = System.nanoTime();
+
+        /**
+         * {@code true} if the packet was
+         * received by the server.
+         */
+        private final boolean server;
+
+        /**
+         * {@code true} if the packets handler queued
+         * work on the main thread.
+         */
+        private boolean queued = false;
+
+        /**
+         * @param entry the statistics entry of the packets type.
+         * @param server {@code true} if the packet was received
+         *               by the server.
+         */
+        private Receipt(Entry entry, boolean server){
+            this.entry = entry;
+            this.server = server;
+        }
+    }
+
+    /**
+     * The traffic statistics of a single packet type.
+     */
+    public static final class Entry {
+
+        /**
+         * The packet types name.
+         */
+        private final String name;
+
+        /**
+         * Packet & byte counters.
+         */
+        private final LongAdder sentPackets = new LongAdder(), sentBytes = new LongAdder(),
+                receivedPackets = new LongAdder(), receivedBytes = new LongAdder();
+
+        /**
+         * The time taken to decode each received packet.
+         */
+        private final Histogram decodeTime = new Histogram();
+
+        /**
+         * The time from receiving each packet until it was handled.
+         */
+        private final Histogram handleTime = new Histogram();
+
+        /**
+         * @param name the packet types name.
+         */
+        private Entry(String name){
+            this.name = name;
+        }
+
+        /**
+         * @return the packet types name.
+         */
+        public String getName(){
+            return name;
+        }
+
+        /**
+         * @return the number of packets sent.
+         */
+        public long getSentPackets(){
+            return sentPackets.sum();
+        }
+
+        /**
+         * @return the number of encoded bytes sent.
+         */
+        public long getSentBytes(){
+            return sentBytes.sum();
+        }
+
+        /**
+         * @return the number of packets received.
+         */
+        public long getReceivedPackets(){
+            return receivedPackets.sum();
+        }
+
+        /**
+         * @return the number of encoded bytes received.
+         */
+        public long getReceivedBytes(){
+            return receivedBytes.sum();
+        }
+
+        /**
+         * @return the number of encoded bytes
+         * sent & received.
+         */
+        public long getTotalBytes(){
+            return getSentBytes() + getReceivedBytes();
+        }
+
+        /**
+         * @return the time taken to decode
+         * each received packet.
+         */
+        public Histogram getDecodeTime(){
+            return decodeTime;
+        }
+
+        /**
+         * @return the time from receiving each
+         * packet until it was handled.
+         */
+        public Histogram getHandleTime(){
+            return handleTime;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.ki11erwolf.shoppery.packets;
 
 import com.ki11erwolf.shoppery.ShopperyMod;
-import com.ki11erwolf.shoppery.ShopperySoundEvents;
 import com.ki11erwolf.shoppery.util.ClientPlayerFetcher;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.network.PacketBuffer;
@@ -28,14 +27,9 @@ public class PlaySoundOnClientPacket extends Packet<PlaySoundOnClientPacket> {
     private static final Logger LOG = ShopperyMod.getNewLogger();
 
     /**
-     * The player who's requesting the money.
+     * The sound event to play.
      */
-    private final String playerUUID;
-
-    /**
-     * The registry name identifying the sound event.
-     */
-    private final String soundID;
+    private final SoundEvent sound;
 
     /**
      * The volume to play the sound event at.
@@ -50,29 +44,12 @@ public class PlaySoundOnClientPacket extends Packet<PlaySoundOnClientPacket> {
     /**
      * Creates a new sound event requesting the given sound be played.
      *
-     * @param player the player to send the request to.
-     * @param soundEvent the sound event to play.
-     * @param volume the volume of the sound event.
-     * @param pitch the pitch of the sound event.
-     */
-    public PlaySoundOnClientPacket(PlayerEntity player, SoundEvent soundEvent, float volume, float pitch){
-        this.playerUUID = player.getUniqueID().toString();
-        this.soundID = soundEvent.getName().toString();
-        this.volume = volume;
-        this.pitch = pitch;
-    }
-
-    /**
-     * Creates a new sound event requesting the given sound be played.
-     *
-     * @param playerUUID the UUUID of the player to send the request to.
-     * @param soundID the registry name of the sound event to play.
+     * @param soundEvent the Shoppery sound event to play.
      * @param volume the volume of the sound event.
      * @param pitch the pitch of the sound event.
      */
-    PlaySoundOnClientPacket(String playerUUID, String soundID, float volume, float pitch){
-        this.playerUUID = playerUUID;
-        this.soundID = soundID;
+    public PlaySoundOnClientPacket(SoundEvent soundEvent, float volume, float pitch){
+        this.sound = soundEvent;
         this.volume = volume;
         this.pitch = pitch;
     }
@@ -83,8 +60,7 @@ public class PlaySoundOnClientPacket extends Packet<PlaySoundOnClientPacket> {
     @Override
     BiConsumer<PlaySoundOnClientPacket, PacketBuffer> getEncoder() {
         return (packet, buffer) -> {
-            writeString(packet.playerUUID, buffer);
-            writeString(packet.soundID, buffer);
+            PacketCodec.writeSound(packet.sound, buffer);
             buffer.writeFloat(packet.volume);
             buffer.writeFloat(packet.pitch);
         };
@@ -96,7 +72,7 @@ public class PlaySoundOnClientPacket extends Packet<PlaySoundOnClientPacket> {
     @Override
     Function<PacketBuffer, PlaySoundOnClientPacket> getDecoder() {
         return (buffer) -> new PlaySoundOnClientPacket(
-                readString(buffer), readString(buffer), buffer.readFloat(), buffer.readFloat()
+                PacketCodec.readSound(buffer), buffer.readFloat(), buffer.readFloat()
         );
     }
 
@@ -113,14 +89,14 @@ public class PlaySoundOnClientPacket extends Packet<PlaySoundOnClientPacket> {
             if(!FMLEnvironment.dist.isClient())
                 return;
 
-            PlayerEntity player = ClientPlayerFetcher.getClientPlayer();
-            if(!player.getUniqueID().toString().equals(packet.playerUUID)) {
-                LOG.warn(String.format("Sound event received with mismatching player UUID's! To: '%s'. From: %s",
-                        playerUUID, player.getUniqueID().toString()
-                ));
+            if(packet.sound == null) {
+                LOG.warn("Sound event received with an unknown sound id");
+                return;
             }
 
-            player.playSound(ShopperySoundEvents.getSoundEvent(packet.soundID), packet.volume, packet.pitch);
+            PlayerEntity player = ClientPlayerFetcher.getClientPlayer();
+            if(player != null)
+                player.playSound(packet.sound, packet.volume, packet.pitch);
         });
     }
 }
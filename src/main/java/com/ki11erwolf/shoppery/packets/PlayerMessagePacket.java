@@ -1,9 +1,9 @@
 package com.ki11erwolf.shoppery.packets;
 
 import com.ki11erwolf.shoppery.util.ClientPlayerFetcher;
+import com.ki11erwolf.shoppery.util.CurrencyUtil;
 import com.ki11erwolf.shoppery.util.LocaleDomain;
-import com.ki11erwolf.shoppery.util.LocaleDomains;
-import com.ki11erwolf.shoppery.util.MCUtil;
+import com.ki11erwolf.shoppery.util.LocaleTemplate;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
@@ -13,8 +13,9 @@ import net.minecraftforge.fml.network.NetworkEvent;
 import net.minecraftforge.fml.network.PacketDistributor;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -22,29 +23,75 @@ import java.util.function.Supplier;
 /**
  * Allows sending players formatted client side localized chat messages
  * from the server side.
+ *
+ * <p/>Messages that are {@link #register(LocaleDomain, String...)
+ * registered} at startup are sent as a numeric id rather than their
+ * full translation key. Registration happens on both the server and
+ * client in the same order, so the ids match on both sides. Messages
+ * that aren't registered are still sent, by translation key.
+ *
+ * <p/>Parameters are sent in their typed form: whole numbers as
+ * VarLongs, decimals as doubles, and {@link Money} as a balance &
+ * cents, which the client formats. Only other objects are sent as
+ * Strings.
+ *
+ * <p/>The client formats messages using a {@link LocaleTemplate}
+ * compiled once per message.
  */
 public class PlayerMessagePacket extends Packet<PlayerMessagePacket> {
 
     /**
-     * The UUID of the player to send the message to in string form.
+     * The translation keys of every registered message,
+     * in registration order (i.e. indexed by id).
      */
-    private final String playerUUID;
+    private static final List<String> MESSAGE_KEYS = new ArrayList<>();
 
     /**
-     * The LocaleDomain of the message.
+     * The id of every registered message,
+     * mapped to its translation key.
      */
-    private final String messageDomain;
+    private static final Map<String, Integer> MESSAGE_IDS = new HashMap<>();
 
     /**
-     * The locale messages identifying String.
+     * The parameter types.
      */
-    private final String messageIdentifier;
+    private static final byte STRING = 0, LONG = 1, DOUBLE = 2, MONEY = 3, SHORT_MONEY = 4;
+
+    /**
+     * The id of the message, or {@code -1}
+     * if the message isn't registered.
+     */
+    private final int messageID;
+
+    /**
+     * The translation key of the message.
+     */
+    private final String messageKey;
 
     /**
      * Formatting parameters.
      */
     private final Object[] parameters;
 
+    /**
+     * Registers the given messages, allowing them to be sent by
+     * id. Must be called during startup, on both the server and
+     * client, in the same order.
+     *
+     * @param domain the domain of the messages.
+     * @param identifiers the identifiers of the messages.
+     */
+    public static synchronized void register(LocaleDomain domain, String... identifiers){
+        for(String identifier : identifiers){
+            String key = domain.getDomain() + identifier;
+
+            if(!MESSAGE_IDS.containsKey(key)){
+                MESSAGE_IDS.put(key, MESSAGE_KEYS.size());
+                MESSAGE_KEYS.add(key);
+            }
+        }
+    }
+
     /**
      * Sends a localized message to the given player.
      *
@@ -60,24 +107,35 @@ public class PlayerMessagePacket extends Packet<PlayerMessagePacket> {
     public static void send(PlayerEntity player, LocaleDomain domain,
                                String identifier, Object... parameters){
         ServerPlayerEntity serverPlayer = (ServerPlayerEntity) player;
+
         Packet.send(
                 PacketDistributor.PLAYER.with(() -> serverPlayer),
-                new PlayerMessagePacket(
-                        player.getUniqueID().toString(),
-                        domain.getDomain(),
-                        identifier, parameters
-                )
+                of(domain, identifier, parameters)
         );
     }
 
+    /**
+     * Creates a localized message, which can be {@link
+     * Packet#send(PacketDistributor.PacketTarget, Object) sent}
+     * on its own, or as part of another packet (e.g. a
+     * {@link TradeResultPacket}).
+     *
+     * @param domain the localized messages domain.
+     * @param identifier the localized messages identifier.
+     * @param parameters the formatting parameters.
+     * @return the message.
+     */
+    public static PlayerMessagePacket of(LocaleDomain domain, String identifier, Object... parameters){
+        String key = domain.getDomain() + identifier;
+        return new PlayerMessagePacket(MESSAGE_IDS.getOrDefault(key, -1), key, parameters);
+    }
+
     /**
      * Generic Constructor.
      */
-    PlayerMessagePacket(String playerUUID, String messageDomain,
-                               String messageIdentifier, Object... parameters){
-        this.playerUUID = playerUUID;
-        this.messageDomain = messageDomain;
-        this.messageIdentifier = messageIdentifier;
+    PlayerMessagePacket(int messageID, String messageKey, Object... parameters){
+        this.messageID = messageID;
+        this.messageKey = messageKey;
         this.parameters = parameters;
     }
 
@@ -86,17 +144,7 @@ public class PlayerMessagePacket extends Packet<PlayerMessagePacket> {
      */
     @Override
     BiConsumer<PlayerMessagePacket, PacketBuffer> getEncoder() {
-        return (packet, buffer) -> {
-            writeString(packet.playerUUID, buffer);
-            writeString(packet.messageDomain, buffer);
-            writeString(packet.messageIdentifier, buffer);
-
-            for(Object parameter : packet.parameters){
-                writeString(parameter.toString(), buffer);
-            }
-
-            writeString("§", buffer);
-        };
+        return PlayerMessagePacket::write;
     }
 
     /**
@@ -104,21 +152,7 @@ public class PlayerMessagePacket extends Packet<PlayerMessagePacket> {
      */
     @Override
     Function<PacketBuffer, PlayerMessagePacket> getDecoder() {
-        return (buffer) -> {
-            String playerUUID = readString(buffer);
-            String messageDomain = readString(buffer);
-            String messageIdentifier = readString(buffer);
-            List<String> parameters = new ArrayList<>();
-
-            String parameter;
-            while(!(parameter = readString(buffer)).equals("§")){
-                parameters.add(parameter);
-            }
-
-            return new PlayerMessagePacket(
-                    playerUUID, messageDomain, messageIdentifier, parameters.toArray(new Object[0])
-            );
-        };
+        return PlayerMessagePacket::read;
     }
 
     /**
@@ -130,28 +164,189 @@ public class PlayerMessagePacket extends Packet<PlayerMessagePacket> {
     @Override
     BiConsumer<PlayerMessagePacket, Supplier<NetworkEvent.Context>> getHandler() {
         return (packet, ctx) -> handle(ctx, () -> {
-            PlayerEntity player = ((FMLEnvironment.dist.isClient())
-                    ? ClientPlayerFetcher.getClientPlayer()
-                    : MCUtil.getPlayerFromUUID(UUID.fromString(packet.playerUUID))
-            );
-
-            if(player != null)
-                player.sendMessage(new StringTextComponent(
-                        ((LocaleDomain) () -> removeLastChar(packet.messageDomain
-                                .replace(LocaleDomains.DEFAULT.getName() + ".", ""))
-                        ).format(packet.messageIdentifier, packet.parameters)
-                ), player.getUniqueID());
+            //Make sure we're on client before
+            if(!FMLEnvironment.dist.isClient())
+                return;
+
+            packet.show();
         });
     }
 
+    // Encoding
+
+    /**
+     * Writes the given message to the given buffer.
+     *
+     * @param packet the message to write.
+     * @param buffer the buffer to write the message to.
+     */
+    static void write(PlayerMessagePacket packet, PacketBuffer buffer){
+        //0 means the key follows, ids are offset by 1.
+        buffer.writeVarInt(packet.messageID + 1);
+        if(packet.messageID == -1)
+            PacketCodec.writeString(packet.messageKey, buffer);
+
+        buffer.writeVarInt(packet.parameters.length);
+
+        for(Object parameter : packet.parameters){
+            writeParameter(parameter, buffer);
+        }
+    }
+
     /**
-     * Removes the last character from a given String.
+     * Reads the next message in the given buffer. Must be
+     * used with {@link #write(PlayerMessagePacket, PacketBuffer)}.
      *
-     * @param str the given String.
-     * @return the given String with the last character
-     * removed.
+     * @param buffer the given packet buffer.
+     * @return the next message in the given packet buffer.
      */
-    private static String removeLastChar(String str) {
-        return str.substring(0, str.length() - 1);
+    static PlayerMessagePacket read(PacketBuffer buffer){
+        int messageID = buffer.readVarInt() - 1;
+        String messageKey = messageID == -1 ? PacketCodec.readString(buffer) : getMessageKey(messageID);
+        Object[] parameters = new Object[buffer.readVarInt()];
+
+        for(int i = 0; i < parameters.length; i++){
+            parameters[i] = readParameter(buffer);
+        }
+
+        return new PlayerMessagePacket(messageID, messageKey, parameters);
+    }
+
+    /**
+     * Formats the message and shows it to the client
+     * side player in the chat. Client side only.
+     */
+    void show(){
+        PlayerEntity player = ClientPlayerFetcher.getClientPlayer();
+
+        if(player != null && messageKey != null)
+            player.sendMessage(new StringTextComponent(
+                    LocaleTemplate.get(messageKey).format(parameters)
+            ), player.getUniqueID());
+    }
+
+    /**
+     * @param messageID the id of a registered message.
+     * @return the translation key of the message, or
+     * {@code null} if no message has the given id.
+     */
+    private static synchronized String getMessageKey(int messageID){
+        return messageID >= 0 && messageID < MESSAGE_KEYS.size() ? MESSAGE_KEYS.get(messageID) : null;
+    }
+
+    // Parameters
+
+    /**
+     * Writes a parameter, as its type followed by
+     * its value, to the given buffer.
+     *
+     * @param parameter the parameter to write.
+     * @param buffer the buffer to write the parameter to.
+     */
+    private static void writeParameter(Object parameter, PacketBuffer buffer){
+        if(parameter instanceof Long || parameter instanceof Integer
+                || parameter instanceof Short || parameter instanceof Byte){
+            buffer.writeByte(LONG);
+            buffer.writeVarLong(((Number) parameter).longValue());
+        } else if(parameter instanceof Double || parameter instanceof Float){
+            buffer.writeByte(DOUBLE);
+            buffer.writeDouble(((Number) parameter).doubleValue());
+        } else if(parameter instanceof Money){
+            Money money = (Money) parameter;
+            buffer.writeByte(money.shortened ? SHORT_MONEY : MONEY);
+            buffer.writeVarLong(money.balance);
+            buffer.writeByte(money.cents);
+        } else {
+            buffer.writeByte(STRING);
+            PacketCodec.writeString(String.valueOf(parameter), buffer);
+        }
+    }
+
+    /**
+     * Reads the next parameter in the given buffer. Must be
+     * used with {@link #writeParameter(Object, PacketBuffer)}.
+     *
+     * @param buffer the given packet buffer.
+     * @return the next parameter in the given packet buffer.
+     */
+    private static Object readParameter(PacketBuffer buffer){
+        byte type = buffer.readByte();
+
+        switch (type){
+            case LONG: return buffer.readVarLong();
+            case DOUBLE: return buffer.readDouble();
+            case MONEY: case SHORT_MONEY:
+                return new Money(buffer.readVarLong(), buffer.readByte(), type == SHORT_MONEY);
+            default: return PacketCodec.readString(buffer);
+        }
+    }
+
+    /**
+     * An amount of money, given as a message parameter. Sent
+     * as numbers, and shown with the currency symbol in the
+     * full (e.g. 1,000.00) or shortened (e.g. 1k) form.
+     */
+    public static final class Money {
+
+        /**
+         * The amount (excluding cents).
+         */
+        private final long balance;
+
+        /**
+         * The amount of cents.
+         */
+        private final byte cents;
+
+        /**
+         * {@code true} to show the amount in its
+         * shortened form.
+         */
+        private final boolean shortened;
+
+        /**
+         * @param balance the amount (excluding cents).
+         * @param cents the amount of cents.
+         * @param shortened {@code true} to show the amount
+         *                  in its shortened form.
+         */
+        private Money(long balance, byte cents, boolean shortened){
+            this.balance = balance;
+            this.cents = cents;
+            this.shortened = shortened;
+        }
+
+        /**
+         * @param balance the amount (excluding cents).
+         * @param cents the amount of cents.
+         * @return the amount as a parameter shown
+         * in full, e.g. $1,000.00.
+         */
+        public static Money full(long balance, byte cents){
+            return new Money(balance, cents, false);
+        }
+
+        /**
+         * @param balance the amount (excluding cents).
+         * @param cents the amount of cents.
+         * @return the amount as a parameter shown
+         * shortened, e.g. $1k.
+         */
+        public static Money shortened(long balance, byte cents){
+            return new Money(balance, cents, true);
+        }
+
+        /**
+         * @return the amount with the currency
+         * symbol, in its full or shortened form.
+         */
+        @Override
+        public String toString(){
+            StringBuilder amount = new StringBuilder(32).append(CurrencyUtil.CURRENCY_SYMBOL);
+
+            return (shortened
+                    ? CurrencyUtil.appendShort(amount, balance, cents)
+                    : CurrencyUtil.appendFull(amount, balance, cents)).toString();
+        }
     }
 }
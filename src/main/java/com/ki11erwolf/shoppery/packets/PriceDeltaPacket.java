@@ -0,0 +1,132 @@
+package com.ki11erwolf.shoppery.packets;
+
+import com.ki11erwolf.shoppery.price.ClientItemPrices;
+import com.ki11erwolf.shoppery.price.ItemPrice;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.loading.FMLEnvironment;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Packet sent by the server to every client when prices in its
+ * registry are changed (e.g. through {@link
+ * com.ki11erwolf.shoppery.price.ItemPrices#setPrice(ItemPrice)}),
+ * containing only the changed prices and the registry version
+ * after the change.
+ *
+ * <p/>Clients apply the changes to their mirror of the registry,
+ * which is first filled by a {@link PriceSyncPacket}.
+ */
+public class PriceDeltaPacket extends Packet<PriceDeltaPacket> {
+
+    /**
+     * The version of the servers price
+     * registry after the changes.
+     */
+    private final int registryVersion;
+
+    /**
+     * The changed prices.
+     */
+    private final Collection<ItemPrice> prices;
+
+    /**
+     * @param registryVersion the version of the servers price
+     *                        registry after the changes.
+     * @param prices the changed prices.
+     */
+    public PriceDeltaPacket(int registryVersion, Collection<ItemPrice> prices){
+        this.registryVersion = registryVersion;
+        this.prices = prices;
+    }
+
+    /**
+     * Writes the given packets data to the
+     * given PacketBuffer.
+     *
+     * @param msg given packet.
+     * @param buf given buffer.
+     */
+    private static void encode(PriceDeltaPacket msg, PacketBuffer buf){
+        buf.writeVarInt(msg.registryVersion);
+        buf.writeVarInt(msg.prices.size());
+
+        for(ItemPrice price : msg.prices){
+            PacketCodec.writeItem(price.getItem(), buf);
+            PacketCodec.writePrice(price, buf);
+        }
+    }
+
+    /**
+     * Creates and returns a new packet containing the
+     * data in the given buffer. Prices for Items unknown
+     * to the client are skipped.
+     *
+     * @param buf the given buffer.
+     * @return the created packet.
+     */
+    private static PriceDeltaPacket decode(PacketBuffer buf){
+        int registryVersion = buf.readVarInt();
+        int size = buf.readVarInt();
+        List<ItemPrice> prices = new ArrayList<>(Math.min(size, 256));
+
+        for(int i = 0; i < size; i++){
+            Item item = PacketCodec.readItem(buf);
+            ItemPrice price = PacketCodec.readPrice(item.getRegistryName(), buf);
+
+            if(item != Items.AIR)
+                prices.add(price);
+        }
+
+        return new PriceDeltaPacket(registryVersion, prices);
+    }
+
+    /**
+     * Applies the changed prices to the
+     * clients cached prices.
+     *
+     * @param message the received packet.
+     * @param ctx the sender.
+     */
+    private static void handle(final PriceDeltaPacket message, Supplier<NetworkEvent.Context> ctx){
+        handle(ctx, () -> {
+            //Make sure we're on client before
+            if(!FMLEnvironment.dist.isClient())
+                return;
+
+            ClientItemPrices.applyDelta(message.registryVersion, message.prices);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    BiConsumer<PriceDeltaPacket, PacketBuffer> getEncoder() {
+        return PriceDeltaPacket::encode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Function<PacketBuffer, PriceDeltaPacket> getDecoder() {
+        return PriceDeltaPacket::decode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    BiConsumer<PriceDeltaPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return PriceDeltaPacket::handle;
+    }
+}
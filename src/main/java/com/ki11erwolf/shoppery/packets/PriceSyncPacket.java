@@ -0,0 +1,262 @@
+package com.ki11erwolf.shoppery.packets;
+
+import com.ki11erwolf.shoppery.price.ClientItemPrices;
+import com.ki11erwolf.shoppery.price.ItemPrice;
+import io.netty.buffer.Unpooled;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.loading.FMLEnvironment;
+import net.minecraftforge.fml.network.NetworkEvent;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Packet sent by the server to stream its entire price registry
+ * to clients, when they log in and whenever the registry is
+ * (re)loaded. Clients mirror the registry in the {@link
+ * ClientItemPrices} cache, so they never need to ask for prices.
+ *
+ * <p/>The registry is split into chunks of up to {@link
+ * #CHUNK_SIZE} prices, each sent as its own packet. Every chunk
+ * is compressed separately, and carries the registry version
+ * it was taken from, its index, and the total number of chunks,
+ * so the client knows when the entire registry has arrived.
+ *
+ * <p/>Changes made after the sync are sent as {@link PriceDeltaPacket
+ * PriceDeltaPackets}.
+ */
+public class PriceSyncPacket extends Packet<PriceSyncPacket> {
+
+    /**
+     * The maximum number of prices sent in a single chunk.
+     */
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * The maximum size, in bytes, of a chunk,
+     * both compressed and decompressed.
+     */
+    private static final int MAX_CHUNK_BYTES = 1 << 20;
+
+    /**
+     * The version of the servers price registry
+     * the prices were taken from.
+     */
+    private final int registryVersion;
+
+    /**
+     * The index of this chunk.
+     */
+    private final int chunk;
+
+    /**
+     * The total number of chunks in the sync.
+     */
+    private final int chunks;
+
+    /**
+     * The compressed prices in this chunk.
+     */
+    private final byte[] data;
+
+    /**
+     * Constructor.
+     *
+     * @param registryVersion the version of the servers price
+     *                        registry the prices were taken from.
+     * @param chunk the index of this chunk.
+     * @param chunks the total number of chunks in the sync.
+     * @param data the compressed prices in this chunk.
+     */
+    PriceSyncPacket(int registryVersion, int chunk, int chunks, byte[] data){
+        this.registryVersion = registryVersion;
+        this.chunk = chunk;
+        this.chunks = chunks;
+        this.data = data;
+    }
+
+    /**
+     * Splits the given prices into compressed chunks, and
+     * sends every chunk to the given target. Each chunk is
+     * compressed once, no matter how many players it is sent to.
+     *
+     * @param target the player(s) to send the prices to.
+     * @param registryVersion the version of the registry the
+     *                        prices were taken from.
+     * @param prices every price in the registry.
+     */
+    public static void send(PacketDistributor.PacketTarget target, int registryVersion, ItemPrice[] prices){
+        int chunks = Math.max(1, (prices.length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+        for(int i = 0; i < chunks; i++){
+            int from = i * CHUNK_SIZE;
+            byte[] data = compress(prices, from, Math.min(prices.length, from + CHUNK_SIZE));
+
+            send(target, new PriceSyncPacket(registryVersion, i, chunks, data));
+        }
+    }
+
+    // Encoding
+
+    /**
+     * Writes the given packets data to the
+     * given PacketBuffer.
+     *
+     * @param msg given packet.
+     * @param buf given buffer.
+     */
+    private static void encode(PriceSyncPacket msg, PacketBuffer buf){
+        buf.writeVarInt(msg.registryVersion);
+        buf.writeVarInt(msg.chunk);
+        buf.writeVarInt(msg.chunks);
+        buf.writeByteArray(msg.data);
+    }
+
+    /**
+     * Creates and returns a new packet containing the
+     * data in the given buffer.
+     *
+     * @param buf the given buffer.
+     * @return the created packet.
+     */
+    private static PriceSyncPacket decode(PacketBuffer buf){
+        return new PriceSyncPacket(
+                buf.readVarInt(), buf.readVarInt(), buf.readVarInt(), buf.readByteArray(MAX_CHUNK_BYTES)
+        );
+    }
+
+    /**
+     * Adds the prices in the received chunk to the
+     * clients mirror of the price registry.
+     *
+     * @param message the received packet.
+     * @param ctx the sender.
+     */
+    private static void handle(final PriceSyncPacket message, Supplier<NetworkEvent.Context> ctx){
+        handle(ctx, () -> {
+            //Make sure we're on client before
+            if(!FMLEnvironment.dist.isClient())
+                return;
+
+            ClientItemPrices.sync(
+                    message.registryVersion, message.chunk, message.chunks, decompress(message.data)
+            );
+        });
+    }
+
+    // Compression
+
+    /**
+     * Writes the given range of prices, as a VarInt count followed
+     * by each Item and its price, and compresses the written bytes.
+     *
+     * @param prices the prices to write.
+     * @param from the index of the first price to write.
+     * @param to the index after the last price to write.
+     * @return the compressed prices.
+     */
+    private static byte[] compress(ItemPrice[] prices, int from, int to){
+        PacketBuffer raw = new PacketBuffer(Unpooled.buffer());
+        raw.writeVarInt(to - from);
+
+        for(int i = from; i < to; i++){
+            PacketCodec.writeItem(prices[i].getItem(), raw);
+            PacketCodec.writePrice(prices[i], raw);
+        }
+
+        Deflater deflater = new Deflater();
+        deflater.setInput(raw.array(), raw.arrayOffset() + raw.readerIndex(), raw.readableBytes());
+        deflater.finish();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.readableBytes() / 2);
+        byte[] buffer = new byte[4096];
+
+        while(!deflater.finished())
+            out.write(buffer, 0, deflater.deflate(buffer));
+
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    /**
+     * Decompresses and reads the prices written by
+     * {@link #compress(ItemPrice[], int, int)}. Prices
+     * for Items unknown to the client are skipped.
+     *
+     * @param data the compressed prices.
+     * @return the read prices.
+     */
+    private static List<ItemPrice> decompress(byte[] data){
+        Inflater inflater = new Inflater();
+        inflater.setInput(data);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+        byte[] buffer = new byte[4096];
+
+        try {
+            while(!inflater.finished()){
+                int read = inflater.inflate(buffer);
+
+                if(read == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    throw new IllegalArgumentException("Truncated price sync chunk");
+
+                out.write(buffer, 0, read);
+
+                if(out.size() > MAX_CHUNK_BYTES)
+                    throw new IllegalArgumentException("Oversized price sync chunk");
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Malformed price sync chunk", e);
+        } finally {
+            inflater.end();
+        }
+
+        PacketBuffer raw = new PacketBuffer(Unpooled.wrappedBuffer(out.toByteArray()));
+        int size = raw.readVarInt();
+        List<ItemPrice> prices = new ArrayList<>(Math.min(size, CHUNK_SIZE));
+
+        for(int i = 0; i < size; i++){
+            Item item = PacketCodec.readItem(raw);
+            ItemPrice price = PacketCodec.readPrice(item.getRegistryName(), raw);
+
+            if(item != Items.AIR)
+                prices.add(price);
+        }
+
+        return prices;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    BiConsumer<PriceSyncPacket, PacketBuffer> getEncoder() {
+        return PriceSyncPacket::encode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Function<PacketBuffer, PriceSyncPacket> getDecoder() {
+        return PriceSyncPacket::decode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    BiConsumer<PriceSyncPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return PriceSyncPacket::handle;
+    }
+}
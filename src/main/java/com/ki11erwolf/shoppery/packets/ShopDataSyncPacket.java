@@ -0,0 +1,129 @@
+package com.ki11erwolf.shoppery.packets;
+
+import com.ki11erwolf.shoppery.tile.ShopTile;
+import com.ki11erwolf.shoppery.util.ClientPlayerFetcher;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.loading.FMLEnvironment;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Packet sent by the server to every client tracking a chunk,
+ * containing the changed data of every Shop in the chunk
+ * that changed during the last tick. Each Shop is identified
+ * by its position, and only carries the fields that changed.
+ */
+public class ShopDataSyncPacket extends Packet<ShopDataSyncPacket> {
+
+    /**
+     * The changed data of each Shop mapped
+     * to the Shops position as a long.
+     */
+    private final Map<Long, CompoundNBT> deltas;
+
+    /**
+     * Creates a new empty sync packet, which
+     * Shop data deltas can be added to.
+     */
+    public ShopDataSyncPacket(){
+        this(new LinkedHashMap<>());
+    }
+
+    /**
+     * Creates a new sync packet with the given
+     * Shop data deltas.
+     *
+     * @param deltas the data deltas mapped to the
+     *               Shops positions.
+     */
+    private ShopDataSyncPacket(Map<Long, CompoundNBT> deltas){
+        this.deltas = deltas;
+    }
+
+    /**
+     * Adds the data delta of a single Shop to this packet.
+     *
+     * @param pos the position of the Shop.
+     * @param delta the Shops changed data.
+     */
+    public void add(BlockPos pos, CompoundNBT delta){
+        deltas.put(pos.toLong(), delta);
+    }
+
+    /**
+     * @return {@code true} if this packet
+     * contains no Shop data.
+     */
+    public boolean isEmpty(){
+        return deltas.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    BiConsumer<ShopDataSyncPacket, PacketBuffer> getEncoder() {
+        return (packet, buffer) -> {
+            buffer.writeVarInt(packet.deltas.size());
+
+            packet.deltas.forEach((pos, delta) -> {
+                buffer.writeLong(pos);
+                buffer.writeCompoundTag(delta);
+            });
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Function<PacketBuffer, ShopDataSyncPacket> getDecoder() {
+        return (buffer) -> {
+            int size = buffer.readVarInt();
+            Map<Long, CompoundNBT> deltas = new LinkedHashMap<>(size);
+
+            for(int i = 0; i < size; i++)
+                deltas.put(buffer.readLong(), buffer.readCompoundTag());
+
+            return new ShopDataSyncPacket(deltas);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Applies the data delta of each Shop in the packet
+     * to the matching client side Shop, if it's loaded.
+     */
+    @Override
+    BiConsumer<ShopDataSyncPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return (packet, ctx) -> handle(ctx, () -> {
+            //Make sure we're on client before
+            if(!FMLEnvironment.dist.isClient())
+                return;
+
+            World world = ClientPlayerFetcher.getClientWorld();
+            if(world == null)
+                return;
+
+            packet.deltas.forEach((pos, delta) -> {
+                BlockPos blockPos = BlockPos.fromLong(pos);
+                if(delta == null || !world.isBlockLoaded(blockPos))
+                    return;
+
+                TileEntity tile = world.getTileEntity(blockPos);
+                if(tile instanceof ShopTile)
+                    ((ShopTile<?>) tile).handleSyncDelta(delta);
+            });
+        });
+    }
+}
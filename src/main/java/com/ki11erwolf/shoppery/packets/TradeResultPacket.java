@@ -0,0 +1,176 @@
+package com.ki11erwolf.shoppery.packets;
+
+import com.ki11erwolf.shoppery.bank.Wallet;
+import com.ki11erwolf.shoppery.util.ClientPlayerFetcher;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.SoundEvent;
+import net.minecraftforge.fml.loading.FMLEnvironment;
+import net.minecraftforge.fml.network.NetworkEvent;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Packet sent by the server to a player once they make (or fail)
+ * a trade with a Shop, carrying everything the client needs to
+ * show the outcome of the trade in one small packet:
+ * <ul>
+ *     <li>the sound to play, if any,</li>
+ *     <li>the players new {@link Wallet} balance,</li>
+ *     <li>and an optional {@link PlayerMessagePacket message}.</li>
+ * </ul>
+ *
+ * <p/>The balance is cached by the client immediately (see {@link
+ * BalanceSyncPacket}), and the players Wallet is marked as synced,
+ * so no separate {@link BalanceSyncPacket} is sent for the trade.
+ */
+public class TradeResultPacket extends Packet<TradeResultPacket> {
+
+    /**
+     * The sound event to play, or {@code null} if none.
+     */
+    private final SoundEvent sound;
+
+    /**
+     * The volume to play the sound event at.
+     */
+    private final float volume;
+
+    /**
+     * The pitch to play the sound event at.
+     */
+    private final float pitch;
+
+    /**
+     * The new balance of the player (excluding cents).
+     */
+    private final long balance;
+
+    /**
+     * The new cents balance of the player.
+     */
+    private final byte cents;
+
+    /**
+     * The number of the last predicted request the server
+     * handled (see {@link Wallet#acknowledge(int)}).
+     */
+    private final int action;
+
+    /**
+     * The message to show the player, or {@code null} if none.
+     */
+    private final PlayerMessagePacket message;
+
+    /**
+     * Sends the result of a trade to the player who made it,
+     * marking their Wallet as synced.
+     *
+     * @param player the player who made the trade.
+     * @param wallet the players Wallet, after the trade.
+     * @param sound the Shoppery sound event to play,
+     *              or {@code null} if none.
+     * @param volume the volume of the sound event.
+     * @param pitch the pitch of the sound event.
+     * @param message the message to show the player,
+     *                or {@code null} if none.
+     */
+    public static void send(ServerPlayerEntity player, Wallet wallet, SoundEvent sound, float volume, float pitch,
+                            PlayerMessagePacket message){
+        Packet.send(PacketDistributor.PLAYER.with(() -> player), new TradeResultPacket(
+                sound, volume, pitch, wallet.getBalance(), wallet.getCents(), wallet.getAcknowledgedAction(), message
+        ));
+
+        wallet.synced();
+    }
+
+    /**
+     * Constructor.
+     */
+    TradeResultPacket(SoundEvent sound, float volume, float pitch, long balance, byte cents, int action,
+                      PlayerMessagePacket message){
+        this.sound = sound;
+        this.volume = volume;
+        this.pitch = pitch;
+        this.balance = balance;
+        this.cents = cents;
+        this.action = action;
+        this.message = message;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    BiConsumer<TradeResultPacket, PacketBuffer> getEncoder() {
+        return (packet, buffer) -> {
+            buffer.writeBoolean(packet.sound != null);
+            if(packet.sound != null){
+                PacketCodec.writeSound(packet.sound, buffer);
+                buffer.writeFloat(packet.volume);
+                buffer.writeFloat(packet.pitch);
+            }
+
+            buffer.writeVarLong(packet.balance);
+            buffer.writeByte(packet.cents);
+            buffer.writeVarInt(packet.action);
+
+            buffer.writeBoolean(packet.message != null);
+            if(packet.message != null)
+                PlayerMessagePacket.write(packet.message, buffer);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Function<PacketBuffer, TradeResultPacket> getDecoder() {
+        return (buffer) -> {
+            SoundEvent sound = null;
+            float volume = 0, pitch = 0;
+
+            if(buffer.readBoolean()){
+                sound = PacketCodec.readSound(buffer);
+                volume = buffer.readFloat();
+                pitch = buffer.readFloat();
+            }
+
+            long balance = buffer.readVarLong();
+            byte cents = buffer.readByte();
+            int action = buffer.readVarInt();
+
+            PlayerMessagePacket message = buffer.readBoolean() ? PlayerMessagePacket.read(buffer) : null;
+
+            return new TradeResultPacket(sound, volume, pitch, balance, cents, action, message);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Caches the new balance, plays the sound,
+     * and shows the message, if any.
+     */
+    @Override
+    BiConsumer<TradeResultPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return (packet, ctx) -> handle(ctx, () -> {
+            //Make sure we're on client before
+            if(!FMLEnvironment.dist.isClient())
+                return;
+
+            BalanceSyncPacket.cache(packet.balance, packet.cents, packet.action);
+
+            PlayerEntity player = ClientPlayerFetcher.getClientPlayer();
+            if(player != null && packet.sound != null)
+                player.playSound(packet.sound, packet.volume, packet.pitch);
+
+            if(packet.message != null)
+                packet.message.show();
+        });
+    }
+}
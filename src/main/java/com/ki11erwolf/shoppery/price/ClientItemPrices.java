@@ -0,0 +1,304 @@
+package com.ki11erwolf.shoppery.price;
+
+import com.ki11erwolf.shoppery.packets.ItemPriceReqPacket;
+import com.ki11erwolf.shoppery.packets.PriceDeltaPacket;
+import com.ki11erwolf.shoppery.packets.PriceSyncPacket;
+import net.minecraft.item.Item;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.util.*;
+
+/**
+ * The client side cache of {@link ItemPrice ItemPrices}, which
+ * mirrors the servers price registry for the Items the client
+ * has needed a price for.
+ *
+ * <p/>Prices are looked up with {@link #getPrice(Item)}, which
+ * never blocks. Items without a cached price are queued and, at the
+ * end of the client tick, requested from the server in a single
+ * batched {@link ItemPriceReqPacket} - so looking up the price of an
+ * entire inventory (e.g. for tooltips) in one frame costs a single
+ * round trip.
+ *
+ * <p/>The cache is bounded, dropping the least recently used prices
+ * when full, and is tagged with the {@link ItemPrices#getRegistryVersion()
+ * registry version} the server last answered with. A server response
+ * with a different version clears the cache, as any cached price may
+ * have changed.
+ *
+ * <p/>Once the server has streamed its entire registry ({@link
+ * PriceSyncPacket}), prices are answered from a complete mirror of
+ * the registry instead, which is kept up to date by {@link
+ * PriceDeltaPacket PriceDeltaPackets}, and no further requests
+ * are made.
+ *
+ * <p/>Client side only, and only used from the client thread.
+ */
+public enum ClientItemPrices {
+
+    /**
+     * Singleton instance of this class.
+     */
+    INSTANCE;
+
+    /*
+     * Registers the cache to the forge
+     * event bus when the class is first used.
+     */
+    static {
+        MinecraftForge.EVENT_BUS.register(INSTANCE);
+    }
+
+    /**
+     * The maximum number of prices held in the cache.
+     */
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * Marks an Item the server has said has no price.
+     */
+    private static final ItemPrice NO_PRICE = new ItemPrice(null, 0, 0);
+
+    /**
+     * The cached prices, in least to most recently used order.
+     */
+    private final Map<Item, ItemPrice> cache = new LinkedHashMap<Item, ItemPrice>(64, 0.75F, true){
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Item, ItemPrice> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * The complete mirror of the servers price registry,
+     * or {@code null} until the server has sent it.
+     */
+    private Map<Item, ItemPrice> mirror = null;
+
+    /**
+     * The prices received so far from an incomplete
+     * registry sync, or {@code null} if none is in progress.
+     */
+    private Map<Item, ItemPrice> incoming = null;
+
+    /**
+     * The registry version of the sync in progress.
+     */
+    private int incomingVersion = -1;
+
+    /**
+     * Items whose price has been requested, but not yet received.
+     */
+    private final Set<Item> requested = new HashSet<>();
+
+    /**
+     * Items whose price is needed, to be requested at the end of the tick.
+     */
+    private final Set<Item> queued = new LinkedHashSet<>();
+
+    /**
+     * The registry version the cached prices belong to.
+     */
+    private int version = -1;
+
+    // **********
+    // Public API
+    // **********
+
+    /**
+     * Gets the cached price of the given Item, queueing a request
+     * for the price if it isn't cached. Never blocks.
+     *
+     * @param item the Item to get the price of.
+     * @return the cached price of the Item, or {@code null}
+     * if the Item has no price or its price isn't known yet.
+     */
+    public static ItemPrice getPrice(Item item){
+        if(INSTANCE.mirror != null)
+            return INSTANCE.mirror.get(item);
+
+        ItemPrice price = INSTANCE.cache.get(item);
+
+        if(price == null){
+            INSTANCE.queue(item);
+            return null;
+        }
+
+        return price == NO_PRICE ? null : price;
+    }
+
+    /**
+     * @param item the Item to check.
+     * @return {@code true} if the server has answered
+     * with the price (or lack of price) of the Item.
+     */
+    public static boolean isKnown(Item item){
+        return INSTANCE.mirror != null || INSTANCE.cache.containsKey(item);
+    }
+
+    /**
+     * Requests the prices of all the given Items that aren't
+     * already cached, such as every Item in an inventory,
+     * in the next batched request.
+     *
+     * @param items the Items whose prices will be needed.
+     */
+    public static void prefetch(Iterable<Item> items){
+        if(INSTANCE.mirror != null)
+            return;
+
+        for(Item item : items)
+            if(!INSTANCE.cache.containsKey(item))
+                INSTANCE.queue(item);
+    }
+
+    /**
+     * Caches the prices sent by the server. Called when
+     * a price response is received.
+     *
+     * @param registryVersion the version of the servers
+     *                        registry the prices are from.
+     * @param prices the received prices mapped to their
+     *               Items. Items without a price are
+     *               mapped to {@code null}.
+     */
+    public static void update(int registryVersion, Map<Item, ItemPrice> prices){
+        if(INSTANCE.mirror != null){
+            INSTANCE.requested.removeAll(prices.keySet());
+            return;
+        }
+
+        if(registryVersion != INSTANCE.version){
+            INSTANCE.cache.clear();
+            INSTANCE.version = registryVersion;
+        }
+
+        prices.forEach((item, price) -> {
+            INSTANCE.cache.put(item, price == null ? NO_PRICE : price);
+            INSTANCE.requested.remove(item);
+        });
+    }
+
+    /**
+     * Adds a chunk of the servers price registry to the
+     * registry being synced. Once every chunk has been
+     * received, the synced registry replaces the cache.
+     *
+     * @param registryVersion the version of the servers
+     *                        registry the prices are from.
+     * @param chunk the index of the received chunk.
+     * @param chunks the total number of chunks.
+     * @param prices the prices in the chunk.
+     */
+    public static void sync(int registryVersion, int chunk, int chunks, Collection<ItemPrice> prices){
+        if(chunk == 0){
+            INSTANCE.incoming = new HashMap<>(chunks * prices.size());
+            INSTANCE.incomingVersion = registryVersion;
+        } else if(INSTANCE.incoming == null || INSTANCE.incomingVersion != registryVersion)
+            return; //Part of a sync that was superseded, or started before we joined.
+
+        INSTANCE.putAll(INSTANCE.incoming, prices);
+
+        if(chunk != chunks - 1)
+            return;
+
+        INSTANCE.mirror = INSTANCE.incoming;
+        INSTANCE.version = registryVersion;
+        INSTANCE.incoming = null;
+
+        INSTANCE.cache.clear();
+        INSTANCE.requested.clear();
+        INSTANCE.queued.clear();
+    }
+
+    /**
+     * Applies prices changed on the server
+     * to the cached prices.
+     *
+     * @param registryVersion the version of the servers
+     *                        registry after the change.
+     * @param prices the changed prices.
+     */
+    public static void applyDelta(int registryVersion, Collection<ItemPrice> prices){
+        INSTANCE.putAll(INSTANCE.mirror != null ? INSTANCE.mirror : INSTANCE.cache, prices);
+        INSTANCE.version = registryVersion;
+    }
+
+    /**
+     * Clears every cached price, as well as
+     * any pending requests.
+     */
+    public static void clear(){
+        INSTANCE.mirror = null;
+        INSTANCE.incoming = null;
+        INSTANCE.incomingVersion = -1;
+        INSTANCE.cache.clear();
+        INSTANCE.requested.clear();
+        INSTANCE.queued.clear();
+        INSTANCE.version = -1;
+    }
+
+    /**
+     * Clears the cache when the client disconnects from
+     * a server, as the next server may have entirely
+     * different prices. Changing dimension keeps the
+     * cache, as the prices are the same in every world.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onLoggedOut(ClientPlayerNetworkEvent.LoggedOutEvent event){
+        clear();
+    }
+
+    /**
+     * Puts the given prices into the given map,
+     * mapped to their Items.
+     */
+    private void putAll(Map<Item, ItemPrice> map, Collection<ItemPrice> prices){
+        for(ItemPrice price : prices){
+            Item item = ForgeRegistries.ITEMS.getValue(price.getItem());
+
+            if(item != null)
+                map.put(item, price);
+        }
+    }
+
+    // ********
+    // Requests
+    // ********
+
+    /**
+     * Queues the given Item to have its price requested,
+     * unless it already has been.
+     */
+    private void queue(Item item){
+        if(item == null || requested.contains(item))
+            return;
+
+        queued.add(item);
+    }
+
+    /**
+     * Sends every queued Item in a single
+     * batched request, once the tick ends.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event){
+        if(event.phase != TickEvent.Phase.END || queued.isEmpty())
+            return;
+
+        List<Item> items = new ArrayList<>(queued);
+        queued.clear();
+        requested.addAll(items);
+
+        for(int i = 0; i < items.size(); i += ItemPriceReqPacket.MAX_BATCH_SIZE)
+            ItemPriceReqPacket.send(items.subList(i, Math.min(items.size(), i + ItemPriceReqPacket.MAX_BATCH_SIZE)));
+    }
+}
@@ -4,6 +4,9 @@ import com.google.gson.JsonElement;
 import com.ki11erwolf.shoppery.util.MathUtil;
 import net.minecraft.util.ResourceLocation;
 
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Represents the price of an Item or Block in Minecraft.
  *
@@ -207,11 +210,25 @@ public class ItemPrice {
      * ItemPrice} object.
      */
     public ItemPrice withPriceFluctuation(){
+        return withPriceFluctuation(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Identical to {@link #withPriceFluctuation()}, except
+     * every random number is drawn from the given {@link Random}
+     * object instance. The same seeded Random will always
+     * produce the same prices.
+     *
+     * @param random the random object instance to use.
+     * @return the new prices for the same Item, as a new {@link
+     * ItemPrice} object.
+     */
+    public ItemPrice withPriceFluctuation(Random random){
         double exactBuy = -1;
         double exactSell = -1;
 
-        if(this.canBuy()) exactBuy = getFluctuatingBuyPrice();
-        if(this.canSell())  exactSell = getFluctuatingSellPrice();
+        if(this.canBuy()) exactBuy = applyFluctuation(buy, random);
+        if(this.canSell())  exactSell = applyFluctuation(sell, random);
 
         if(exactSell >= exactBuy){
             exactSell = exactBuy / 2;
@@ -234,10 +251,23 @@ public class ItemPrice {
      * @return the original input value changed as described above.
      */
     protected double applyFluctuation(double value){
+        return applyFluctuation(value, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Identical to {@link #applyFluctuation(double)}, except
+     * every random number is drawn from the given {@link Random}
+     * object instance.
+     *
+     * @param value the input value to fluctuate.
+     * @param random the random object instance to use.
+     * @return the original input value changed as described above.
+     */
+    protected double applyFluctuation(double value, Random random){
         if(value <= 0) return 0;
 
-        double change = (value * (MathUtil.getRandomDoubleInRange(0, fluctuation)/100));
-        if(MathUtil.getRandomBoolean()) value += change; else value -= change;
+        double change = (value * (MathUtil.getRandomDoubleInRange(random, 0, fluctuation)/100));
+        if(MathUtil.getRandomBoolean(random)) value += change; else value -= change;
 
         return MathUtil.roundToTwoDecimals((value > 0) ? value : 0.01);
     }
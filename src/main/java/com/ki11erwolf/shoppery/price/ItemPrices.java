@@ -109,6 +109,16 @@ public enum ItemPrices {
         return PriceRegistry.INSTANCE.isLoadedAndCleaned();
     }
 
+    /**
+     * @return a number that changes every time a price
+     * in the registry is changed. Caches built from the
+     * registry can compare this number to know when they
+     * need to be rebuilt.
+     */
+    public static int getRegistryVersion(){
+        return PriceRegistry.INSTANCE.getVersion();
+    }
+
     // *******
     // Getters
     // *******
@@ -124,7 +134,7 @@ public enum ItemPrices {
      */
     public static ItemPrice getPrice(ItemStack stack){
         PriceRegistry.INSTANCE.assertUsable();
-        return PriceRegistry.INSTANCE.getPriceMap().get(stack.getItem().getRegistryName());
+        return PriceRegistry.INSTANCE.getPrice(stack.getItem().getRegistryName());
     }
 
     /**
@@ -137,7 +147,7 @@ public enum ItemPrices {
      */
     public static ItemPrice getPrice(Item item){
         PriceRegistry.INSTANCE.assertUsable();
-        return PriceRegistry.INSTANCE.getPriceMap().get(item.getRegistryName());
+        return PriceRegistry.INSTANCE.getPrice(item.getRegistryName());
     }
 
     /**
@@ -150,7 +160,7 @@ public enum ItemPrices {
      */
     public static ItemPrice getPrice(Block block){
         PriceRegistry.INSTANCE.assertUsable();
-        return PriceRegistry.INSTANCE.getPriceMap().get(block.getRegistryName());
+        return PriceRegistry.INSTANCE.getPrice(block.getRegistryName());
     }
 
     /**
@@ -166,7 +176,17 @@ public enum ItemPrices {
      */
     public static ItemPrice getPrice(ResourceLocation registryName){
         PriceRegistry.INSTANCE.assertUsable();
-        return PriceRegistry.INSTANCE.getPriceMap().getOrDefault(registryName, null);
+        return PriceRegistry.INSTANCE.getPrice(registryName);
+    }
+
+    /**
+     * @return a snapshot copy of every ItemPrice in the
+     * registry, in registry order. Changes to the registry
+     * are not reflected in the returned array.
+     */
+    public static ItemPrice[] getAllPrices(){
+        PriceRegistry.INSTANCE.assertUsable();
+        return PriceRegistry.INSTANCE.getPrices();
     }
 
     /**
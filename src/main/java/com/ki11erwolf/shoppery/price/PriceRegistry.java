@@ -2,6 +2,7 @@ package com.ki11erwolf.shoppery.price;
 
 import com.ki11erwolf.shoppery.ShopperyMod;
 import com.ki11erwolf.shoppery.price.loaders.*;
+import com.ki11erwolf.shoppery.stats.EconomyMetrics;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
@@ -10,6 +11,7 @@ import net.minecraftforge.registries.ForgeRegistries;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * The singleton price registry instance that holds
@@ -122,6 +124,9 @@ enum PriceRegistry {
 
         //Schedule running the cleaner thread
         FMLJavaModLoadingContext.get().getModEventBus().addListener(this::onFMLLoadComplete);
+
+        //Keep clients in sync with the registry once usable
+        PriceSyncer.init();
     }
 
     /**
@@ -158,6 +163,34 @@ enum PriceRegistry {
         return getMap();
     }
 
+    /**
+     * Looks up a single ItemPrice under the registry lock,
+     * so it is safe to call from any thread (e.g. network
+     * threads answering price requests).
+     *
+     * @param item the registry name of the Item/Block.
+     * @return the ItemPrice of the Item/Block, or {@code
+     * null} if it does not have a price.
+     */
+    ItemPrice getPrice(ResourceLocation item){
+        if(item == null)
+            return null;
+
+        synchronized (PRICE_MAP_LOCK){
+            return priceMap.get(item);
+        }
+    }
+
+    /**
+     * @return a copy of every ItemPrice in the registry,
+     * in registry order, taken under the registry lock.
+     */
+    ItemPrice[] getPrices(){
+        synchronized (PRICE_MAP_LOCK){
+            return priceMap.values().toArray(new ItemPrice[0]);
+        }
+    }
+
     /**
      * Changes the price of a given item to the new price
      * specified.
@@ -174,7 +207,22 @@ enum PriceRegistry {
      * performed successfully.
      */
     boolean modifyPrice(ItemPrice price){
-        return registryModifier.setPrice(price);
+        if(!registryModifier.setPrice(price))
+            return false;
+
+        version++;
+        PriceSyncer.queue(price);
+        return true;
+    }
+
+    /**
+     * @return a number that changes every time the contents
+     * of the registry change after being loaded and cleaned.
+     * Allows caches built from the registry to detect when
+     * they are out of date.
+     */
+    int getVersion(){
+        return version;
     }
 
     // ********
@@ -219,6 +267,12 @@ enum PriceRegistry {
      */
     private volatile boolean isLoading = false;
 
+    /**
+     * The current version of the registry contents.
+     * Incremented on every change.
+     */
+    private volatile int version = 0;
+
     /**
      * The given list of loaders that will be executed
      * to provide the entries for this registry.
@@ -252,6 +306,111 @@ enum PriceRegistry {
         }
     }
 
+    // *************
+    // Merge & Clean
+    // *************
+
+    /**
+     * Checks that an ItemPrice gives the price of an existing
+     * Item (checked first) or Block (checked second) in the
+     * forge registries.
+     */
+    static final Predicate<ResourceLocation> FORGE_REGISTRY_CHECK
+            = item -> ForgeRegistries.ITEMS.containsKey(item) || ForgeRegistries.BLOCKS.containsKey(item);
+
+    /**
+     * Adds the given list of ItemPrices obtained from
+     * a loader to the given price map, replacing any
+     * existing prices for the same item.
+     *
+     * @param map the price map to add to.
+     * @param prices the list of ItemPrices.
+     * @return the amount of entries replaced
+     * in the map with entries from the list,
+     * if any.
+     */
+    static int merge(Map<ResourceLocation, ItemPrice> map, ItemPrice[] prices){
+        int replacements = 0;
+
+        for(ItemPrice price : prices){
+            if(map.put(price.getItem(), price) != null)
+                replacements++;
+        }
+
+        return replacements;
+    }
+
+    /**
+     * Performs the task of iterating over the given price
+     * map and checking that each entry gives the price
+     * of an existing item/block, removing it if not. The
+     * map is only accessed under the registry lock.
+     *
+     * @param map the price map to clean.
+     * @param exists checks if an item/block exists.
+     * @return the removed entries.
+     */
+    static List<ItemPrice> clean(Map<ResourceLocation, ItemPrice> map, Predicate<ResourceLocation> exists){
+        List<ItemPrice> removed = new ArrayList<>();
+        int registryEntries;
+
+        synchronized (PRICE_MAP_LOCK){
+            registryEntries = map.size();
+        }
+
+        for(int i = 0; i <= registryEntries - 1; i++){
+            ItemPrice entry;
+            synchronized (PRICE_MAP_LOCK){
+                entry = (new ArrayList<>(map.values())).get(i);
+            }
+
+            ResourceLocation entryID = entry.getItem();
+
+            if(!exists.test(entryID)){
+                //Entry does not have a matching item or block
+                removed.add(entry);
+                registryEntries--;
+                i--;
+
+                //Remove from map
+                synchronized (PRICE_MAP_LOCK){
+                    map.remove(entryID);
+                }
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Loads and cleans the registry immediately, on the calling
+     * thread, from the given prices, using the given check in
+     * place of the forge registries. Allows using the registry
+     * without a game running (e.g. in benchmarks).
+     *
+     * @param exists checks if an item/block exists.
+     * @param prices the ItemPrices to load, in load order.
+     * @throws IllegalStateException if the registry is in
+     * the process of loading itself, or it is already loaded.
+     */
+    void loadHeadless(Predicate<ResourceLocation> exists, ItemPrice[]... prices){
+        if(isLoaded || isLoading)
+            throw new IllegalStateException("Already loading or loaded registry!");
+
+        isLoading = true;
+
+        synchronized (PRICE_MAP_LOCK){
+            for(ItemPrice[] loaded : prices)
+                merge(priceMap, loaded);
+        }
+
+        isLoaded = true;
+        clean(priceMap, exists);
+
+        version++;
+        hasCleanerThreadRun = true;
+    }
+
     // ******
     // Loader
     // ******
@@ -304,9 +463,11 @@ enum PriceRegistry {
         @Override
         public void run(){
             loadTime = System.currentTimeMillis();
+            long start = EconomyMetrics.PRICE_REGISTRY_LOAD.start();
 
             //Run the loaders and append values to the map.
             runLoaders();
+            EconomyMetrics.PRICE_REGISTRY_LOAD.stop(start);
 
             //Consider finished loading
             LOG.info("Finished building Shoppery price registry!");
@@ -379,14 +540,7 @@ enum PriceRegistry {
          * if any.
          */
         private int addToMap(ItemPrice[] prices){
-            int replacements = 0;
-
-            for(ItemPrice price : prices){
-                if(getMap().put(price.getItem(), price) != null)
-                    replacements++;
-            }
-
-            return replacements;
+            return merge(getMap(), prices);
         }
 
         /**
@@ -542,9 +696,12 @@ enum PriceRegistry {
             //Clean the registry
             LOG.info("Cleaning price registry...");
             cleanTime = System.currentTimeMillis();
+            long start = EconomyMetrics.PRICE_REGISTRY_CLEAN.start();
             cleanRegistry();
+            EconomyMetrics.PRICE_REGISTRY_CLEAN.stop(start);
             cleanTime = System.currentTimeMillis() - cleanTime;
             //It's cleaned by this point. We just need to finish up
+            version++;
             hasCleanerThreadRun = true;
             LOG.info("Finished cleaning price registry!");
 
@@ -598,31 +755,7 @@ enum PriceRegistry {
          * it if not.
          */
         private void cleanRegistry(){
-            int registryEntries = getMap().size();
-            for(int i = 0; i <= registryEntries - 1; i++){
-                ItemPrice entry;
-                synchronized (PRICE_MAP_LOCK){
-                    entry = (new ArrayList<>(priceMap.values())).get(i);
-                }
-
-                ResourceLocation entryID = entry.getItem();
-
-                //Check
-                boolean found =
-                        ForgeRegistries.ITEMS.containsKey(entryID)
-                        || ForgeRegistries.BLOCKS.containsKey(entryID);
-
-                if(!found){
-                    //Entry does not have a matching item or block
-                    removedPrices.add(entry);
-                    registryEntries--;
-
-                    //Remove from map
-                    synchronized (PRICE_MAP_LOCK){
-                        priceMap.remove(entryID);
-                    }
-                }
-            }
+            removedPrices.addAll(PriceRegistry.clean(priceMap, FORGE_REGISTRY_CHECK));
         }
     }
 }
@@ -0,0 +1,133 @@
+package com.ki11erwolf.shoppery.price;
+
+import com.ki11erwolf.shoppery.packets.Packet;
+import com.ki11erwolf.shoppery.packets.PriceDeltaPacket;
+import com.ki11erwolf.shoppery.packets.PriceSyncPacket;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.network.PacketDistributor;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the {@link ClientItemPrices} mirror of every client
+ * in sync with the servers {@link PriceRegistry}.
+ *
+ * <p/>Players are sent the entire registry ({@link PriceSyncPacket})
+ * when they log in. After that, changed prices are queued rather than
+ * sent as they change, and at the end of each server tick, a single
+ * {@link PriceDeltaPacket} containing every changed price is sent
+ * to every player.
+ *
+ * <p/>If the registry version changed by more than the queued changes
+ * account for (e.g. the registry finished loading, or was reloaded),
+ * the entire registry is sent to every player again instead.
+ */
+enum PriceSyncer {
+
+    /**
+     * Singleton instance of this class.
+     */
+    INSTANCE;
+
+    /*
+     * Registers the syncer to the forge
+     * event bus when the class is first used.
+     */
+    static {
+        MinecraftForge.EVENT_BUS.register(INSTANCE);
+    }
+
+    /**
+     * The prices changed since the end of the
+     * last tick, mapped to their Items.
+     */
+    private final Map<ResourceLocation, ItemPrice> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The number of changes made since the end of the last tick.
+     */
+    private final AtomicInteger changes = new AtomicInteger();
+
+    /**
+     * The registry version last sent to every player,
+     * or {@code -1} if the registry has not been sent.
+     */
+    private int syncedVersion = -1;
+
+    /**
+     * Loads the class, registering the
+     * syncer to the forge event bus.
+     */
+    static void init(){}
+
+    /**
+     * Queues the given price change to be sent to
+     * every player at the end of the current tick.
+     *
+     * @param price the new price.
+     */
+    static void queue(ItemPrice price){
+        INSTANCE.pending.put(price.getItem(), price);
+        INSTANCE.changes.incrementAndGet();
+    }
+
+    /**
+     * Sends the entire registry to players as they log in.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event){
+        if(!ItemPrices.isLoaded() || !(event.getPlayer() instanceof ServerPlayerEntity))
+            return;
+
+        ServerPlayerEntity player = (ServerPlayerEntity) event.getPlayer();
+        PriceSyncPacket.send(
+                PacketDistributor.PLAYER.with(() -> player), ItemPrices.getRegistryVersion(), ItemPrices.getAllPrices()
+        );
+    }
+
+    /**
+     * Sends every queued price change, or the entire
+     * registry if required, once the tick ends.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent event){
+        if(event.phase != TickEvent.Phase.END || !ItemPrices.isLoaded())
+            return;
+
+        int version = ItemPrices.getRegistryVersion();
+        if(version == syncedVersion)
+            return;
+
+        int changes = this.changes.getAndSet(0);
+        List<ItemPrice> delta = new ArrayList<>(pending.size());
+
+        for(ResourceLocation item : pending.keySet())
+            delta.add(pending.remove(item));
+
+        boolean isDelta = syncedVersion != -1 && version - syncedVersion == changes;
+        syncedVersion = version;
+
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if(server == null || server.getPlayerList().getCurrentPlayerCount() == 0)
+            return;
+
+        if(isDelta)
+            Packet.send(PacketDistributor.ALL.noArg(), new PriceDeltaPacket(version, delta));
+        else PriceSyncPacket.send(PacketDistributor.ALL.noArg(), version, ItemPrices.getAllPrices());
+    }
+}
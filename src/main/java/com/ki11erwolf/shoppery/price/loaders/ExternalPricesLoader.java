@@ -6,7 +6,6 @@ import com.ki11erwolf.shoppery.ShopperyMod;
 import com.ki11erwolf.shoppery.price.ItemPrice;
 import com.ki11erwolf.shoppery.price.ItemPrices;
 import net.minecraft.util.ResourceLocation;
-import net.minecraftforge.fml.ModList;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
@@ -29,6 +28,27 @@ public class ExternalPricesLoader extends Loader{
      */
     private static final Logger LOG = ShopperyMod.getNewLogger();
 
+    /**
+     * The directory the external price files are found in.
+     */
+    private final File pricesDirectory;
+
+    /**
+     * Creates a loader for the external price files
+     * in {@link ItemPrices#PRICES_DIRECTORY}.
+     */
+    public ExternalPricesLoader(){
+        this(ItemPrices.PRICES_DIRECTORY);
+    }
+
+    /**
+     * @param pricesDirectory the directory the external
+     *                        price files are found in.
+     */
+    ExternalPricesLoader(File pricesDirectory){
+        this.pricesDirectory = pricesDirectory;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -91,7 +111,7 @@ public class ExternalPricesLoader extends Loader{
 
             //Check if mod prices are for is loaded.
             String modname = modPricesEntry.getKey();
-            if(ModList.get().isLoaded(modname))
+            if(isModLoaded(modname))
                 results.logAffectedMod(modname);
             else{ results.logUnaffectedMod(modname); continue;}
 
@@ -147,9 +167,9 @@ public class ExternalPricesLoader extends Loader{
      * abort the load.
      */
     private boolean abort(){
-        return !(ItemPrices.PRICES_DIRECTORY.exists()
-                && ItemPrices.PRICES_DIRECTORY.isDirectory()
-                && ItemPrices.PRICES_DIRECTORY.listFiles() != null
+        return !(pricesDirectory.exists()
+                && pricesDirectory.isDirectory()
+                && pricesDirectory.listFiles() != null
         );
     }
 
@@ -161,7 +181,7 @@ public class ExternalPricesLoader extends Loader{
      * in the root directory of {@code /prices/}.
      */
     private File[] getExternalPriceFiles(){
-        return ItemPrices.PRICES_DIRECTORY.listFiles(
+        return pricesDirectory.listFiles(
                 (dir, name) -> name.endsWith(".json")
         );
     }
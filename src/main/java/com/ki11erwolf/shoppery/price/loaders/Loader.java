@@ -1,6 +1,7 @@
 package com.ki11erwolf.shoppery.price.loaders;
 
 import com.ki11erwolf.shoppery.price.ItemPrice;
+import net.minecraftforge.fml.ModList;
 
 /**
  * Base class for all shoppery registry loaders.
@@ -80,6 +81,18 @@ public abstract class Loader {
         return this.results;
     }
 
+    /**
+     * Checks if the mod with the given id is loaded, and
+     * should therefore have its prices loaded. Overridable
+     * so loaders can run without Forge (e.g. in benchmarks).
+     *
+     * @param modid the id of the mod.
+     * @return {@code true} if the mod is loaded.
+     */
+    boolean isModLoaded(String modid){
+        return ModList.get().isLoaded(modid);
+    }
+
     /**
      * Called once by the price registry at load time
      * when it wants to load this loader and obtain
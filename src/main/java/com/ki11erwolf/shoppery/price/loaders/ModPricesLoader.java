@@ -9,7 +9,6 @@ import com.ki11erwolf.shoppery.price.ItemPrice;
 import com.ki11erwolf.shoppery.price.ItemPrices;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.ResourceLocationException;
-import net.minecraftforge.fml.ModList;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
@@ -155,7 +154,7 @@ public class ModPricesLoader extends Loader{
                 results.logError(modid + " is not a json object.");
             }
 
-            if(ModList.get().isLoaded(modid)){
+            if(isModLoaded(modid)){
                 results.logAffectedMod(modid);
                 this.results.logAffectedMod(modid);
                 //For each value
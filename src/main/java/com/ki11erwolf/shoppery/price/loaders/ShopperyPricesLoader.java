@@ -7,10 +7,10 @@ import com.ki11erwolf.shoppery.price.ItemPrice;
 import com.ki11erwolf.shoppery.price.ItemPrices;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.ResourceLocationException;
-import net.minecraftforge.fml.ModList;
 import org.apache.logging.log4j.Logger;
 
 import java.io.BufferedInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -59,7 +59,7 @@ public class ShopperyPricesLoader extends Loader {
                 results.logError(modid + " is not a json object.");
             }
 
-            if(ModList.get().isLoaded(modid)){
+            if(isModLoaded(modid)){
                 results.logAffectedMod(modid);
                 //For each value
                 price.getValue().getAsJsonObject().entrySet().forEach((priceDef) -> {
@@ -89,12 +89,19 @@ public class ShopperyPricesLoader extends Loader {
         return pricesList.toArray(new ItemPrice[0]);
     }
 
+    /**
+     * @return a new stream of shoppery's prices.json file.
+     */
+    InputStream openPricesFile(){
+        return this.getClass().getResourceAsStream(PRICES_FILE);
+    }
+
     /**
      * @return the json object contained in shoppery's prices.json file.
      */
     private JsonObject getPricesJson(){
         try{
-            BufferedInputStream reader = new BufferedInputStream(this.getClass().getResourceAsStream(PRICES_FILE));
+            BufferedInputStream reader = new BufferedInputStream(openPricesFile());
             StringBuilder prices = new StringBuilder();
             int chr;
 
@@ -0,0 +1,108 @@
+package com.ki11erwolf.shoppery.stats;
+
+import com.ki11erwolf.shoppery.bank.BankManager;
+import com.ki11erwolf.shoppery.stats.Metrics.Counter;
+import com.ki11erwolf.shoppery.stats.Metrics.Gauge;
+import com.ki11erwolf.shoppery.stats.Metrics.Timer;
+
+/**
+ * The {@link Metrics} of the Shoppery economy, recorded by the
+ * code they measure. Loading this class has no side effects, so
+ * the code recording metrics still runs without a game (e.g. in
+ * benchmarks).
+ *
+ * <p/>Timers marked as tick time measure Shoppery code run on
+ * the server thread, whether during a tick or between ticks,
+ * which {@link EconomyStats} attributes to the server tick period.
+ */
+public final class EconomyMetrics {
+
+    /**
+     * Private constructor.
+     */
+    private EconomyMetrics(){}
+
+    /**
+     * The name shared by the trade counters.
+     */
+    private static final String TRADES = "shoppery_trades_total";
+
+    /**
+     * The name shared by the tick time timers.
+     */
+    private static final String TICK_TIME = "shoppery_tick_time_seconds";
+
+    /**
+     * Changes made to wallet balances.
+     */
+    public static final Counter WALLET_MUTATIONS = Metrics.counter(
+            "shoppery_wallet_mutations_total", "Changes made to wallet balances."
+    );
+
+    /**
+     * The money in every loaded wallet, in cents. A lambda rather
+     * than method reference, so the BankManager is not loaded
+     * until the gauge is read.
+     */
+    public static final Gauge MONEY_SUPPLY = Metrics.gauge(
+            "shoppery_money_supply_cents", "The money in every loaded wallet, in cents.",
+            null, null, () -> BankManager._getMoneySupply()
+    );
+
+    /**
+     * The time taken to save a bank.
+     */
+    public static final Timer BANK_SAVE = Metrics.timer(
+            "shoppery_bank_save_seconds", "The time taken to save a bank.", null, null, false
+    );
+
+    /**
+     * The time taken to load the price registry.
+     */
+    public static final Timer PRICE_REGISTRY_LOAD = Metrics.timer(
+            "shoppery_price_registry_seconds", "The time taken to load & clean the price registry.",
+            "stage", "load", false
+    );
+
+    /**
+     * The time taken to clean the price registry.
+     */
+    public static final Timer PRICE_REGISTRY_CLEAN = Metrics.timer(
+            "shoppery_price_registry_seconds", "The time taken to load & clean the price registry.",
+            "stage", "clean", false
+    );
+
+    /**
+     * Server thread time spent handling shop block clicks.
+     */
+    public static final Timer SHOP_CLICKS = tickTimer("shop_click");
+
+    /**
+     * Server thread time spent running packet handlers.
+     */
+    public static final Timer PACKET_HANDLERS = tickTimer("packet_handlers");
+
+    /**
+     * Server thread time spent saving banks with the world.
+     */
+    public static final Timer WORLD_SAVE = tickTimer("world_save");
+
+    /**
+     * @param shopType the shops type (e.g. {@code basic_shop}).
+     * @return the counter of trades made by shops of the given
+     * type. Keep the counter, rather than looking it up per trade.
+     */
+    public static Counter trades(String shopType){
+        return Metrics.counter(TRADES, "Shop trades made, by shop type.", "shop", shopType);
+    }
+
+    /**
+     * @param source the Shoppery code timed.
+     * @return the tick time timer of the given code.
+     */
+    private static Timer tickTimer(String source){
+        return Metrics.timer(TICK_TIME, "Server thread time spent in Shoppery code, by source.",
+                "source", source, true
+        );
+    }
+}
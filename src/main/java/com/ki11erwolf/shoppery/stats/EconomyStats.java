@@ -0,0 +1,255 @@
+package com.ki11erwolf.shoppery.stats;
+
+import com.ki11erwolf.shoppery.ShopperyMod;
+import com.ki11erwolf.shoppery.config.ModConfig;
+import com.ki11erwolf.shoppery.config.categories.GeneralConfig;
+import com.ki11erwolf.shoppery.stats.Metrics.Counter;
+import com.ki11erwolf.shoppery.stats.Metrics.Gauge;
+import com.ki11erwolf.shoppery.stats.Metrics.Metric;
+import com.ki11erwolf.shoppery.stats.Metrics.Timer;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Drives the {@link Metrics} from the server tick: updates the
+ * rate of every {@link Counter}, attributes server thread time to
+ * Shoppery code using the tick time {@link Timer}s, and writes
+ * every metric to file at the configured interval.
+ *
+ * <p/>Server thread time is measured over the full tick period,
+ * from the end of one tick to the end of the next. This covers the
+ * tick itself and the queued work (e.g. received packets) the server
+ * runs between ticks, which is where most Shoppery code is timed,
+ * so Shoppery's time is always a share of the same window.
+ *
+ * <p/>The metrics are shown by the {@code /shoppery stats eco}
+ * command.
+ */
+public enum EconomyStats {
+
+    /**
+     * Singleton instance of this class.
+     */
+    INSTANCE;
+
+    /*
+     * Registers the tick listener to the forge
+     * event bus when the class is first used.
+     */
+    static {
+        MinecraftForge.EVENT_BUS.register(INSTANCE);
+    }
+
+    /**
+     * The logger for this class.
+     */
+    private static final Logger LOG = ShopperyMod.getNewLogger();
+
+    /**
+     * The number of ticks between updates of the
+     * counter rates & tick time averages.
+     */
+    private static final int UPDATE_INTERVAL = 5 * 20;
+
+    /**
+     * The file the metrics are written to.
+     */
+    private static final File METRICS_FILE = new File(ShopperyMod.SHOPPERY_DIRECTORY, "metrics.prom");
+
+    /**
+     * The help text of the tick time gauges.
+     */
+    private static final String TICK_TIME_HELP
+            = "Average time per server tick period (tick end to tick end), over the last few seconds.";
+
+    /**
+     * The average server thread time spent in Shoppery code per
+     * tick period, in microseconds, over the last update interval.
+     */
+    public static final Gauge SHOPPERY_TICK_TIME = Metrics.gauge(
+            "shoppery_tick_average_microseconds", TICK_TIME_HELP,
+            "scope", "shoppery", () -> INSTANCE.shopperyTickTime
+    );
+
+    /**
+     * The average server tick period, in microseconds,
+     * over the last update interval.
+     */
+    public static final Gauge SERVER_TICK_TIME = Metrics.gauge(
+            "shoppery_tick_average_microseconds", TICK_TIME_HELP,
+            "scope", "server", () -> INSTANCE.serverTickTime
+    );
+
+    /**
+     * Writes the metrics file off the server thread.
+     */
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Shoppery Metrics Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * If the first update interval has started,
+     * at the end of the first server tick.
+     */
+    private boolean started = false;
+
+    /**
+     * When the current update interval started,
+     * at the end of a server tick.
+     */
+    private long intervalStart;
+
+    /**
+     * Ticks in the current update interval.
+     */
+    private int intervalTicks = 0;
+
+    /**
+     * The total Shoppery tick time, as of the
+     * start of the current update interval.
+     */
+    private long lastShopperyTime = 0;
+
+    /**
+     * Server ticks since the metrics were last written.
+     */
+    private int ticksSinceWrite = 0;
+
+    /**
+     * See {@link #SHOPPERY_TICK_TIME} & {@link #SERVER_TICK_TIME}.
+     */
+    private volatile long shopperyTickTime = 0, serverTickTime = 0;
+
+    // **********
+    // Public API
+    // **********
+
+    /**
+     * Loads this class, starting the tick
+     * listener, if not already loaded.
+     */
+    public static void init(){}
+
+    /**
+     * @return the average server thread time spent in
+     * Shoppery code per tick period, in microseconds.
+     */
+    public static long getShopperyTickTime(){
+        return INSTANCE.shopperyTickTime;
+    }
+
+    /**
+     * @return the average server tick period (from the end
+     * of one tick to the end of the next), in microseconds.
+     */
+    public static long getServerTickTime(){
+        return INSTANCE.serverTickTime;
+    }
+
+    // *********
+    // Internals
+    // *********
+
+    /**
+     * Counts the server tick, updates the rates & averages
+     * every interval, and writes the metrics at the
+     * configured interval.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent event){
+        if(event.phase != TickEvent.Phase.END)
+            return;
+
+        long now = System.nanoTime();
+
+        //The first tick only starts the first interval.
+        if(!started){
+            started = true;
+            intervalStart = now;
+            lastShopperyTime = getShopperyTime();
+        } else if(++intervalTicks >= UPDATE_INTERVAL)
+            update(now);
+
+        int interval = ModConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getMetricsDumpInterval();
+        if(interval > 0 && ++ticksSinceWrite >= interval * 20){
+            ticksSinceWrite = 0;
+            write(Metrics.toPrometheus());
+        }
+    }
+
+    /**
+     * Updates the counter rates and tick time
+     * averages, and starts a new interval.
+     *
+     * @param now the current time.
+     */
+    private void update(long now){
+        double seconds = (now - intervalStart) / 1_000_000_000D;
+
+        for(Metric metric : Metrics.getMetrics())
+            if(metric instanceof Counter)
+                ((Counter) metric).updateRate(seconds);
+
+        long shopperyTime = getShopperyTime();
+
+        //Both cover the same tick periods: end of the last interval to now.
+        shopperyTickTime = (shopperyTime - lastShopperyTime) / intervalTicks / 1000;
+        serverTickTime = (now - intervalStart) / intervalTicks / 1000;
+
+        lastShopperyTime = shopperyTime;
+        intervalStart = now;
+        intervalTicks = 0;
+    }
+
+    /**
+     * @return the total server thread time spent in Shoppery
+     * code, in nanoseconds, according to the tick time timers.
+     */
+    private static long getShopperyTime(){
+        long shopperyTime = 0;
+
+        for(Metric metric : Metrics.getMetrics())
+            if(metric instanceof Timer && ((Timer) metric).isTickTime())
+                shopperyTime += ((Timer) metric).getTotalTime();
+
+        return shopperyTime;
+    }
+
+    /**
+     * Writes the given metrics to the metrics file, off
+     * the server thread. The file is replaced in a single
+     * move, so readers never see it half written.
+     *
+     * @param metrics the metrics, in the Prometheus format.
+     */
+    private void write(String metrics){
+        writer.execute(() -> {
+            try {
+                File temp = new File(METRICS_FILE.getPath() + ".tmp");
+
+                //noinspection ResultOfMethodCallIgnored
+                METRICS_FILE.getParentFile().mkdirs();
+                Files.write(temp.toPath(), metrics.getBytes(StandardCharsets.UTF_8));
+                Files.move(temp.toPath(), METRICS_FILE.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+                );
+            } catch (IOException e) {
+                LOG.warn("Failed to write metrics file: " + METRICS_FILE, e);
+            }
+        });
+    }
+}
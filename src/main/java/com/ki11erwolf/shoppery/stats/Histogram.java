@@ -0,0 +1,67 @@
+package com.ki11erwolf.shoppery.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations, with a bucket for each
+ * power of two microseconds. Percentiles are accurate to within
+ * a factor of two, which is enough to tell slow work from fast
+ * work at the cost of a single atomic increment.
+ */
+public final class Histogram {
+
+    /**
+     * The number of durations in each bucket, where bucket
+     * {@code i} holds durations under {@code 2^i} microseconds.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+
+    /**
+     * Creates a new empty histogram.
+     */
+    public Histogram(){}
+
+    /**
+     * @param nanos the duration (in nanoseconds) to record.
+     */
+    public void record(long nanos){
+        long micros = Math.max(0, nanos / 1000);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * @return the number of durations recorded.
+     */
+    public long getCount(){
+        long count = 0;
+
+        for(int i = 0; i < buckets.length(); i++)
+            count += buckets.get(i);
+
+        return count;
+    }
+
+    /**
+     * @param percentile the percentile (0-1) to get.
+     * @return the upper bound (in microseconds) of the given
+     * percentile of the recorded durations, or {@code 0} if
+     * none have been recorded.
+     */
+    public long getPercentile(double percentile){
+        long count = getCount();
+        if(count == 0)
+            return 0;
+
+        long target = (long) Math.ceil(count * percentile);
+        long seen = 0;
+
+        for(int i = 0; i < buckets.length(); i++){
+            seen += buckets.get(i);
+
+            if(seen >= target && seen > 0)
+                return i == 0 ? 0 : (1L << i) - 1;
+        }
+
+        return Long.MAX_VALUE;
+    }
+}
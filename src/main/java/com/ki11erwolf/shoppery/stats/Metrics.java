@@ -0,0 +1,437 @@
+package com.ki11erwolf.shoppery.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A registry of lightweight metrics: {@link Counter}s,
+ * {@link Gauge}s and {@link Timer}s. Recording to a metric
+ * is lock-free, so metrics can be updated from any thread
+ * on hot paths.
+ *
+ * <p/>Each metric has a name, and optionally a single label
+ * (e.g. {@code shop="basic_shop"}), so several metrics can
+ * share a name. Registering a metric that already exists
+ * returns the existing metric.
+ *
+ * <p/>Metrics are {@link #toPrometheus() written} in the
+ * Prometheus text format, and shown by the {@code /shoppery
+ * stats eco} command.
+ *
+ * @see EconomyMetrics for the economy metrics.
+ */
+public final class Metrics {
+
+    /**
+     * Every registered metric, by {@link Metric#getKey() key}.
+     * Sorted, so metrics sharing a name are kept together.
+     */
+    private static final Map<String, Metric> METRICS = new ConcurrentSkipListMap<>();
+
+    /**
+     * Private constructor.
+     */
+    private Metrics(){}
+
+    // **********
+    // Public API
+    // **********
+
+    /**
+     * @param name the metrics name.
+     * @param help a description of the metric.
+     * @return the registered counter.
+     */
+    public static Counter counter(String name, String help){
+        return counter(name, help, null, null);
+    }
+
+    /**
+     * @param name the metrics name.
+     * @param help a description of the metric.
+     * @param label the name of the metrics label.
+     * @param value the value of the metrics label.
+     * @return the registered counter.
+     */
+    public static Counter counter(String name, String help, String label, String value){
+        return register(new Counter(name, help, label, value));
+    }
+
+    /**
+     * @param name the metrics name.
+     * @param help a description of the metric.
+     * @param label the name of the metrics label.
+     * @param value the value of the metrics label.
+     * @param gauge the source of the gauges value.
+     *              Called on the server thread.
+     * @return the registered gauge.
+     */
+    public static Gauge gauge(String name, String help, String label, String value, LongSupplier gauge){
+        return register(new Gauge(name, help, label, value, gauge));
+    }
+
+    /**
+     * @param name the metrics name.
+     * @param help a description of the metric.
+     * @param label the name of the metrics label.
+     * @param value the value of the metrics label.
+     * @param tickTime {@code true} if the timer records time
+     *                 spent on the server thread, which is
+     *                 included in Shoppery's tick time.
+     * @return the registered timer.
+     */
+    public static Timer timer(String name, String help, String label, String value, boolean tickTime){
+        return register(new Timer(name, help, label, value, tickTime));
+    }
+
+    /**
+     * @return a snapshot of every registered
+     * metric, ordered by name.
+     */
+    public static List<Metric> getMetrics(){
+        return new ArrayList<>(METRICS.values());
+    }
+
+    /**
+     * @return every registered metric, in the
+     * Prometheus text exposition format.
+     */
+    public static String toPrometheus(){
+        StringBuilder out = new StringBuilder();
+        String lastName = null;
+
+        for(Metric metric : METRICS.values()){
+            if(!metric.getName().equals(lastName)){
+                out.append("# HELP ").append(metric.getName()).append(' ').append(metric.help).append('\n');
+                out.append("# TYPE ").append(metric.getName()).append(' ').append(metric.getType()).append('\n');
+                lastName = metric.getName();
+            }
+
+            metric.writePrometheus(out);
+        }
+
+        return out.toString();
+    }
+
+    // *********
+    // Internals
+    // *********
+
+    /**
+     * Registers the given metric, unless
+     * a metric with the same key exists.
+     *
+     * @return the registered metric.
+     */
+    @SuppressWarnings("unchecked")
+    private static <M extends Metric> M register(M metric){
+        return (M) METRICS.computeIfAbsent(metric.getKey(), key -> metric);
+    }
+
+    // *******
+    // Metrics
+    // *******
+
+    /**
+     * The parent of all metric types.
+     */
+    public static abstract class Metric {
+
+        /**
+         * The metrics name.
+         */
+        private final String name;
+
+        /**
+         * A description of the metric.
+         */
+        private final String help;
+
+        /**
+         * The name of the metrics label,
+         * or {@code null} if unlabeled.
+         */
+        private final String label;
+
+        /**
+         * The value of the metrics label,
+         * or {@code null} if unlabeled.
+         */
+        private final String value;
+
+        /**
+         * @param name the metrics name.
+         * @param help a description of the metric.
+         * @param label the name of the metrics label, or {@code null}.
+         * @param value the value of the metrics label, or {@code null}.
+         */
+        private Metric(String name, String help, String label, String value){
+            this.name = name;
+            this.help = help;
+            this.label = label;
+            this.value = value;
+        }
+
+        /**
+         * @return the metrics name and label, as shown
+         * to players (e.g. {@code trades [basic_shop]}).
+         */
+        public String getDisplayName(){
+            String name = this.name.replaceFirst("^shoppery_", "");
+            return label == null ? name : name + " [" + value + "]";
+        }
+
+        /**
+         * @return the metrics name.
+         */
+        public String getName(){
+            return name;
+        }
+
+        /**
+         * @return the metrics name & label, in
+         * the Prometheus format.
+         */
+        String getKey(){
+            return name + getLabels(null);
+        }
+
+        /**
+         * @param extra an extra label (e.g. {@code quantile="0.5"}),
+         *              or {@code null}.
+         * @return the metrics label, with the extra label, in the
+         * Prometheus format, or an empty string if neither exist.
+         */
+        String getLabels(String extra){
+            if(label == null)
+                return extra == null ? "" : "{" + extra + "}";
+
+            String labels = label + "=\"" + value + "\"";
+            return "{" + (extra == null ? labels : labels + "," + extra) + "}";
+        }
+
+        /**
+         * @return the Prometheus metric type.
+         */
+        abstract String getType();
+
+        /**
+         * Writes the metrics sample lines in the
+         * Prometheus format.
+         */
+        abstract void writePrometheus(StringBuilder out);
+    }
+
+    /**
+     * A count of events (e.g. trades), that only increases,
+     * with the rate of events over the last few seconds.
+     */
+    public static final class Counter extends Metric {
+
+        /**
+         * The number of events counted.
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * The count when the rate was last updated.
+         */
+        private long lastCount = 0;
+
+        /**
+         * The events per second, as of the last update.
+         */
+        private volatile double rate = 0;
+
+        private Counter(String name, String help, String label, String value){
+            super(name, help, label, value);
+        }
+
+        /**
+         * Counts a single event.
+         */
+        public void increment(){
+            count.increment();
+        }
+
+        /**
+         * @param events the number of events to count.
+         */
+        public void add(long events){
+            count.add(events);
+        }
+
+        /**
+         * @return the number of events counted.
+         */
+        public long get(){
+            return count.sum();
+        }
+
+        /**
+         * @return the events counted per second, over
+         * the last {@link EconomyStats rate interval}.
+         */
+        public double getRate(){
+            return rate;
+        }
+
+        /**
+         * Updates the rate from the events counted since
+         * the last update.
+         *
+         * @param seconds the seconds since the last update.
+         */
+        void updateRate(double seconds){
+            long count = get();
+            rate = (count - lastCount) / seconds;
+            lastCount = count;
+        }
+
+        @Override
+        String getType(){
+            return "counter";
+        }
+
+        @Override
+        void writePrometheus(StringBuilder out){
+            out.append(getKey()).append(' ').append(get()).append('\n');
+        }
+    }
+
+    /**
+     * A value read when needed (e.g. the money supply).
+     */
+    public static final class Gauge extends Metric {
+
+        /**
+         * The source of the gauges value.
+         */
+        private final LongSupplier gauge;
+
+        private Gauge(String name, String help, String label, String value, LongSupplier gauge){
+            super(name, help, label, value);
+            this.gauge = gauge;
+        }
+
+        /**
+         * @return the gauges current value.
+         */
+        public long get(){
+            return gauge.getAsLong();
+        }
+
+        @Override
+        String getType(){
+            return "gauge";
+        }
+
+        @Override
+        void writePrometheus(StringBuilder out){
+            out.append(getKey()).append(' ').append(get()).append('\n');
+        }
+    }
+
+    /**
+     * Records the durations of a task (e.g. a bank save), in
+     * a {@link Histogram}, and the total time spent on it.
+     */
+    public static final class Timer extends Metric {
+
+        /**
+         * The recorded durations.
+         */
+        private final Histogram histogram = new Histogram();
+
+        /**
+         * The total time recorded, in nanoseconds.
+         */
+        private final LongAdder totalTime = new LongAdder();
+
+        /**
+         * {@code true} if the time is spent on the server
+         * thread, and is part of Shoppery's tick time.
+         */
+        private final boolean tickTime;
+
+        private Timer(String name, String help, String label, String value, boolean tickTime){
+            super(name, help, label, value);
+            this.tickTime = tickTime;
+        }
+
+        /**
+         * @return the start time to give to {@link #stop(long)}.
+         */
+        public long start(){
+            return System.nanoTime();
+        }
+
+        /**
+         * Records the time since the given start time.
+         *
+         * @param start the time returned by {@link #start()}.
+         */
+        public void stop(long start){
+            record(System.nanoTime() - start);
+        }
+
+        /**
+         * @param nanos the duration (in nanoseconds) to record.
+         */
+        public void record(long nanos){
+            histogram.record(nanos);
+            totalTime.add(nanos);
+        }
+
+        /**
+         * @return the recorded durations.
+         */
+        public Histogram getHistogram(){
+            return histogram;
+        }
+
+        /**
+         * @return the total time recorded, in nanoseconds.
+         */
+        public long getTotalTime(){
+            return totalTime.sum();
+        }
+
+        /**
+         * @return {@code true} if the time is spent on the
+         * server thread, and is part of Shoppery's tick time.
+         */
+        public boolean isTickTime(){
+            return tickTime;
+        }
+
+        @Override
+        String getType(){
+            return "summary";
+        }
+
+        @Override
+        void writePrometheus(StringBuilder out){
+            for(double quantile : new double[]{0.5, 0.99})
+                out.append(getName()).append(getLabels("quantile=\"" + quantile + "\"")).append(' ')
+                        .append(toSeconds(histogram.getPercentile(quantile) * 1000)).append('\n');
+
+            out.append(getName()).append("_sum").append(getLabels(null)).append(' ')
+                    .append(toSeconds(getTotalTime())).append('\n');
+            out.append(getName()).append("_count").append(getLabels(null)).append(' ')
+                    .append(histogram.getCount()).append('\n');
+        }
+
+        /**
+         * @return the given nanoseconds, in seconds.
+         */
+        private static String toSeconds(long nanos){
+            return String.format(Locale.ROOT, "%.6f", nanos / 1_000_000_000D);
+        }
+    }
+}
@@ -2,8 +2,6 @@ package com.ki11erwolf.shoppery.tile;
 
 import com.ki11erwolf.shoppery.block.BasicShopBlock;
 import com.ki11erwolf.shoppery.block.ModBlocks;
-import com.ki11erwolf.shoppery.price.ItemPrice;
-import com.ki11erwolf.shoppery.price.ItemPrices;
 
 /**
  * The "Basic" Shops {@link ShopTile} implementation.
@@ -39,30 +37,13 @@ public class BasicShopTile extends ShopTile<ShopTileData> {
         super(BASIC_SHOP_REGISTRATION, ShopTileData::new);
     }
 
-    /**
-     * Makes this Shop trade a random item at a slightly higher or
-     * lower price.
-     *
-     * Chooses a random Item from the {@link ItemPrices price registry}
-     * that is acceptable to trade in the Shop, and forces this shop to
-     * trade the chosen Item at a slightly higher or lower price ({@link
-     * ItemPrice#withPriceFluctuation()}), regardless of whether or not
-     * it has previously been setup.
-     */
-    private void setupRandomTrade() {
-        ItemPrice randomSetPrice = ItemPrices.getRandomPrice().withPriceFluctuation();
-        if(!isValidTrade(randomSetPrice))
-            setupRandomTrade(); //Repeat until valid price is found
-
-        setShopsTrade(randomSetPrice);
-    }
-
     /**
      * Sets up this specific Shop to trade a randomly chosen
-     * Item at a price similar to the original.
+     * Item at a price similar to the original, through the
+     * {@link ShopSetupService}.
      */
     @Override
     protected void setup() {
-        setupRandomTrade();
+        ShopSetupService.setupRandomTrade(this);
     }
 }
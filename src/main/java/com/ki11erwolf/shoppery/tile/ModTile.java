@@ -2,10 +2,13 @@ package com.ki11erwolf.shoppery.tile;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.play.server.SUpdateTileEntityPacket;
 import net.minecraft.tileentity.TileEntity;
 import org.lwjgl.system.NonnullDefault;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Objects;
 
 /**
@@ -135,4 +138,108 @@ public abstract class ModTile extends TileEntity {
         super.read(state, tags);
         onRead(state, tags);
     }
+
+    // ******************
+    // Client update sync
+    // ******************
+
+    /**
+     * The Tile version of {@code getUpdateTag()}.
+     *
+     * <p>Allows inheriting classes to write the (ideally
+     * compact) subset of their data the <b>client</b>
+     * needs, as opposed to the complete data saved to
+     * disk. Sent when the Tile is first sent to a client
+     * (chunk load) and whenever a block update is sent.
+     *
+     * <p>Defaults to {@link #onWrite(CompoundNBT)}, which
+     * sends the full NBT data to the client.
+     *
+     * @param tags an empty CompoundNBT object to write
+     *             the client data to.
+     * @return the given {@code tags} written to, or any
+     * other CompoundNBT object that should be sent instead.
+     */
+    protected CompoundNBT onWriteUpdate(CompoundNBT tags){
+        CompoundNBT tagsNew = onWrite(tags);
+        return tagsNew == null ? tags : tagsNew;
+    }
+
+    /**
+     * The Tile version of {@code handleUpdateTag()}.
+     *
+     * <p>Allows inheriting classes to read back data
+     * written by {@link #onWriteUpdate(CompoundNBT)}, or
+     * any other update sent by the Tile, on the <b>client
+     * side</b>.
+     *
+     * <p>Defaults to {@link #onRead(BlockState, CompoundNBT)}.
+     *
+     * @param state the block providing the Tile as it
+     *              exists in the client world.
+     * @param tags the CompoundNBT object containing
+     *             the data sent from the server.
+     */
+    protected void onReadUpdate(BlockState state, CompoundNBT tags){
+        onRead(state, tags);
+    }
+
+    /**
+     * Captures the call from Forge to get the Tile data
+     * sent to clients when the chunk is sent and passes
+     * control over to {@link #onWriteUpdate(CompoundNBT)}.
+     *
+     * @return the client data written by {@code
+     * onWriteUpdate()}, including the Tiles position.
+     */
+    @Override @Nonnull
+    public CompoundNBT getUpdateTag() {
+        CompoundNBT tags = onWriteUpdate(new CompoundNBT());
+
+        //Required by the client to locate the Tile.
+        tags.putInt("x", pos.getX());
+        tags.putInt("y", pos.getY());
+        tags.putInt("z", pos.getZ());
+        return tags;
+    }
+
+    /**
+     * Captures the call from Forge to read the Tile data
+     * sent with the chunk and passes control over to
+     * {@link #onReadUpdate(BlockState, CompoundNBT)}.
+     *
+     * @param state the block instance in the world
+     *              that provides this Tile.
+     * @param tags the tags sent by the server.
+     */
+    @Override @NonnullDefault
+    public void handleUpdateTag(BlockState state, CompoundNBT tags) {
+        onReadUpdate(state, tags);
+    }
+
+    /**
+     * Captures the call from Forge to get the packet sent
+     * on a block update and fills it using {@link
+     * #onWriteUpdate(CompoundNBT)}.
+     *
+     * @return the update packet containing the client data
+     * written by {@code onWriteUpdate()}.
+     */
+    @Override @Nullable
+    public SUpdateTileEntityPacket getUpdatePacket() {
+        return new SUpdateTileEntityPacket(pos, -1, onWriteUpdate(new CompoundNBT()));
+    }
+
+    /**
+     * Captures the update packet on the client and passes
+     * control over to {@link #onReadUpdate(BlockState,
+     * CompoundNBT)}.
+     *
+     * @param net the network manager that received the packet.
+     * @param packet the update packet sent by the server.
+     */
+    @Override
+    public void onDataPacket(NetworkManager net, SUpdateTileEntityPacket packet) {
+        onReadUpdate(getBlockState(), packet.getNbtCompound());
+    }
 }
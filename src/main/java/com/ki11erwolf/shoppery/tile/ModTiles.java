@@ -55,6 +55,7 @@ public final class ModTiles extends QueueRegisterer<TileRegistration<? extends M
      */
     static {
         queue(BasicShopTile.BASIC_SHOP_REGISTRATION);
+        queue(OwnerShopTile.OWNER_SHOP_REGISTRATION);
     }
 
     /**
@@ -0,0 +1,269 @@
+package com.ki11erwolf.shoppery.tile;
+
+import com.ki11erwolf.shoppery.bank.Bank;
+import com.ki11erwolf.shoppery.bank.BankManager;
+import com.ki11erwolf.shoppery.bank.Wallet;
+import com.ki11erwolf.shoppery.block.ModBlocks;
+import com.ki11erwolf.shoppery.block.OwnerShopBlock;
+import com.ki11erwolf.shoppery.price.ItemPrice;
+import com.ki11erwolf.shoppery.price.ItemPrices;
+import net.minecraft.entity.item.ItemEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.Direction;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.UUID;
+
+/**
+ * The "Owner" Shops {@link ShopTile} implementation.
+ *
+ * <p/>A type of Shop that is owned and run by the player who placed it.
+ * Unlike the {@link BasicShopTile Basic Shop}, Owner Shops do not have
+ * unlimited Items and Money: Items are sold from, and bought into, the
+ * Shops limited stock inventory, and all Money is paid to, or by, the
+ * owner of the Shop.
+ *
+ * <p/>The owner sets up the Shop by sneak-using the Shop while holding
+ * the Item it should trade, which sets the Shop to trade the Item at
+ * its registered price. The owner can also take or add stock by hand
+ * without payment. The stock inventory is exposed as an {@link
+ * IItemHandler} capability, allowing hoppers and pipes to supply (or
+ * empty) the Shop - e.g. from an automated farm.
+ */
+public class OwnerShopTile extends ShopTile<OwnerShopTileData> {
+
+    /**
+     * The registration object used to register this specific Tile Type
+     * to the game.
+     */
+    public static final TileRegistration<?> OWNER_SHOP_REGISTRATION = new TileRegistration<>(
+            OwnerShopBlock.REGISTRY_NAME, OwnerShopTile::new, ModBlocks.OWNER_SHOP
+    );
+
+    /**
+     * The capability exposing the Shops stock inventory to hoppers & pipes.
+     */
+    private final LazyOptional<IItemHandler> stockCapability = LazyOptional.of(() -> getData().getStockHandler());
+
+    /**
+     * Creates a new "Owner" Shop Tile instance object, likely for a newly placed
+     * Owner Shop. Provides the necessary {@link TileRegistration} object and
+     * {@link OwnerShopTileData} implementation instance.
+     */
+    public OwnerShopTile() {
+        super(OWNER_SHOP_REGISTRATION, OwnerShopTileData::new);
+    }
+
+    // Owner
+
+    /**
+     * Sets the player who owns and runs this Shop.
+     *
+     * @param owner the unique ID of the owning player.
+     */
+    public void setOwner(UUID owner) {
+        getData().setOwner(owner);
+    }
+
+    /**
+     * @return the cached amount of the traded
+     * Item this Shop has in stock.
+     */
+    public int getStockCount() {
+        return getData().getStockCount();
+    }
+
+    /**
+     * @return the inventory holding this Shops stock.
+     */
+    public IItemHandler getStock() {
+        return getData().getStockHandler();
+    }
+
+    // Setup
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Owner Shops cannot setup themselves. They are only
+     * setup by their owner, see {@link #configure(World,
+     * PlayerEntity)}.
+     */
+    @Override
+    protected void setup() {
+        //No-op: setup by owner.
+    }
+
+    /**
+     * Sets up this Shop to trade the Item held by the
+     * given owner, at the Items registered price. The traded
+     * Item cannot be changed while the Shop has stock.
+     *
+     * @param world the world the player & shop are in.
+     * @param player the owner configuring the Shop.
+     * @return {@code true} if the Shop is now trading the
+     * held Item.
+     */
+    protected boolean configure(World world, PlayerEntity player) {
+        ResourceLocation held = player.getHeldItemMainhand().getItem().getRegistryName();
+        if(held == null || !ItemPrices.isLoaded())
+            return false;
+
+        if(held.equals(getItem()))
+            return true;
+
+        if(getData().hasStock())
+            return false;
+
+        ItemPrice price = ItemPrices.getPrice(held);
+        if(!isValidTrade(price))
+            return false;
+
+        setShopsTrade(price);
+        return true;
+    }
+
+    // Trading
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Allows the owner to sneak-use the Shop while holding an
+     * Item to configure it.
+     */
+    @Override
+    public boolean purchaseItem(World world, PlayerEntity player) {
+        if(!(player instanceof ServerPlayerEntity))
+            return false;
+
+        if(player.isSneaking() && getData().isOwner(player) && !player.getHeldItemMainhand().isEmpty()) {
+            if(configure(world, player)) {
+                playOpenedSoundEvent(world, player);
+                return true;
+            }
+
+            playFailSoundEvent(world, player);
+            return false;
+        }
+
+        return super.purchaseItem(world, player);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Sells an Item from the Shops stock, paying the Shops owner.
+     * The owner themself takes stock for free.
+     */
+    @Override
+    protected boolean sellToPlayer(World world, PlayerEntity player) {
+        if(!allowTrade(world, player)) return false;
+        if(getBuyPrice() <= 0 || !getData().hasStock()) return false;
+
+        boolean isOwner = getData().isOwner(player);
+
+        if(!isOwner) {
+            Bank bank = BankManager._getBank(world);
+            Wallet ownerWallet = getData().getOwner() == null ? null : bank.getWallet(getData().getOwner());
+
+            //Must have someone to pay.
+            if(ownerWallet == null) return false;
+            if(!ShopPayments.transfer(bank.getWallet(player), ownerWallet, getBuyPrice())) return false;
+        }
+
+        //Give Item
+        ItemStack item = getData().takeOne();
+        if(!player.addItemStackToInventory(item))
+            world.addEntity(new ItemEntity(world, player.getPosX(), player.getPosY(), player.getPosZ(), item));
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Buys an Item into the Shops stock, paid for by the Shops owner.
+     * The owner themself adds stock for free.
+     */
+    @Override
+    protected boolean buyFromPlayer(World world, PlayerEntity player) {
+        if(!allowTrade(world, player)) return false;
+        if(getSellPrice() <= 0 || getData().isStockFull()) return false;
+
+        ItemStack found = findTradedItem(player);
+        if(found.isEmpty()) return false;
+
+        //Make sure the stock takes it before any money moves.
+        if(!getData().canPutOne()) return false;
+
+        if(!getData().isOwner(player)) {
+            Bank bank = BankManager._getBank(world);
+            Wallet ownerWallet = getData().getOwner() == null ? null : bank.getWallet(getData().getOwner());
+
+            //Owner must be able to pay.
+            if(ownerWallet == null) return false;
+            if(!ShopPayments.transfer(ownerWallet, bank.getWallet(player), getSellPrice())) return false;
+        }
+
+        found.shrink(1);
+        getData().putOne();
+        return true;
+    }
+
+    /**
+     * @param player the player to search.
+     * @return the first stack of the traded Item in the
+     * players main inventory, or an empty stack. Only
+     * stacks that stack with the traded Item are found,
+     * so variants (e.g. renamed Items) aren't taken.
+     */
+    private ItemStack findTradedItem(PlayerEntity player) {
+        ItemStack traded = getData().getTradedStack();
+        if(traded.isEmpty())
+            return ItemStack.EMPTY;
+
+        for(ItemStack stack : player.inventory.mainInventory) {
+            if(ItemHandlerHelper.canItemStacksStack(stack, traded))
+                return stack;
+        }
+
+        return ItemStack.EMPTY;
+    }
+
+    // Capabilities
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Exposes the Shops stock inventory as an {@link
+     * IItemHandler} on all sides.
+     */
+    @Nonnull @Override
+    public <C> LazyOptional<C> getCapability(@Nonnull Capability<C> cap, @Nullable Direction side) {
+        if(cap == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY)
+            return stockCapability.cast();
+
+        return super.getCapability(cap, side);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Invalidates the stock inventory capability.
+     */
+    @Override
+    public void remove() {
+        super.remove();
+        stockCapability.invalidate();
+    }
+}
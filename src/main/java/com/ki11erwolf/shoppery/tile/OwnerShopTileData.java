@@ -0,0 +1,315 @@
+package com.ki11erwolf.shoppery.tile;
+
+import com.ki11erwolf.shoppery.config.ModConfig;
+import com.ki11erwolf.shoppery.config.categories.ShopsConfig;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+import net.minecraftforge.items.ItemStackHandler;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * The {@link ShopTileData} implementation used by {@link OwnerShopTile
+ * Owner Shops}. In addition to the traded Item and its prices, holds the
+ * player who owns the Shop and the Shops stock: a real inventory of the
+ * traded Item that players buy from and sell to.
+ *
+ * <p/>The stock is an {@link IItemHandler}, which allows hoppers and
+ * pipes to fill and empty the Shop. The total amount of stock is cached
+ * and updated whenever the inventory changes, so trades never need to
+ * recount the inventory.
+ */
+class OwnerShopTileData extends ShopTileData {
+
+    /**
+     * A String value that is used as a key to store a specific
+     * value within the NBT map.
+     */
+    protected static final String KEY_OWNER = "Owner", KEY_STOCK = "Stock";
+
+    /**
+     * The number of slots in every Owner Shops stock inventory.
+     */
+    private static final int STOCK_SLOTS = ModConfig.GENERAL_CONFIG.getCategory(ShopsConfig.class)
+            .getOwnerShopStockSlots();
+
+    /**
+     * The inventory holding the Shops stock.
+     */
+    private final StockHandler stock = new StockHandler();
+
+    /**
+     * The amount of the traded Item in each slot of the
+     * {@link #stock}, as of the last change to the slot.
+     */
+    private int[] slotCounts = new int[STOCK_SLOTS];
+
+    /**
+     * The cached total amount of the traded Item in the {@link #stock}.
+     */
+    private int stockCount;
+
+    /**
+     * The unique ID of the player who owns the Shop,
+     * or {@code null} if the Shop has no owner.
+     */
+    private UUID owner;
+
+    /**
+     * Creates a new OwnerShopTileData object to hold
+     * and manage the data for a specific Owner Shop.
+     *
+     * @param shopTile the specific ShopTile to hold
+     * and manage data for.
+     */
+    public OwnerShopTileData(ShopTile<?> shopTile) {
+        super(shopTile);
+    }
+
+    // Owner
+
+    /**
+     * @return the unique ID of the player who owns
+     * the Shop, or {@code null} if it has no owner.
+     */
+    public UUID getOwner() {
+        return owner;
+    }
+
+    /**
+     * Sets the player who owns the Shop.
+     *
+     * @param owner the unique ID of the new owner.
+     */
+    public void setOwner(UUID owner) {
+        this.owner = owner;
+        shopTile.markDirty();
+    }
+
+    /**
+     * @param player the player to check.
+     * @return {@code true} if the given player owns the Shop.
+     */
+    public boolean isOwner(PlayerEntity player) {
+        return owner != null && owner.equals(player.getUniqueID());
+    }
+
+    // Stock
+
+    /**
+     * @return the inventory holding the Shops stock,
+     * which only accepts the traded Item.
+     */
+    public IItemHandler getStockHandler() {
+        return stock;
+    }
+
+    /**
+     * @return the cached total amount of
+     * the traded Item the Shop has in stock.
+     */
+    public int getStockCount() {
+        return stockCount;
+    }
+
+    /**
+     * @return {@code true} if the Shop has at
+     * least one of the traded Item in stock.
+     */
+    public boolean hasStock() {
+        return stockCount > 0;
+    }
+
+    /**
+     * @return {@code true} if the Shops stock
+     * cannot hold any more of the traded Item.
+     */
+    public boolean isStockFull() {
+        ItemStack traded = getTradedStack();
+        if(traded.isEmpty())
+            return true;
+
+        return stockCount >= stock.getSlots() * Math.min(stock.getSlotLimit(0), traded.getMaxStackSize());
+    }
+
+    /**
+     * Takes a single traded Item out of the Shops stock.
+     *
+     * @return the taken Item, or an empty stack if
+     * the Shop has no stock.
+     */
+    public ItemStack takeOne() {
+        if(!hasStock())
+            return ItemStack.EMPTY;
+
+        for(int slot = 0; slot < slotCounts.length; slot++) {
+            if(slotCounts[slot] > 0)
+                return stock.extractItem(slot, 1, false);
+        }
+
+        return ItemStack.EMPTY;
+    }
+
+    /**
+     * Simulates putting a single traded Item into the Shops
+     * stock, without changing it. Unlike {@link #isStockFull()},
+     * this also accounts for slots holding other stacks.
+     *
+     * @return {@code true} if {@link #putOne()} will succeed.
+     */
+    public boolean canPutOne() {
+        ItemStack traded = getTradedStack();
+        if(traded.isEmpty())
+            return false;
+
+        return ItemHandlerHelper.insertItem(stock, traded, true).isEmpty();
+    }
+
+    /**
+     * Puts a single traded Item into the Shops stock.
+     *
+     * @return {@code true} if the Item was put into
+     * stock, {@code false} if the stock is full.
+     */
+    public boolean putOne() {
+        ItemStack traded = getTradedStack();
+        if(traded.isEmpty())
+            return false;
+
+        return ItemHandlerHelper.insertItem(stock, traded, false).isEmpty();
+    }
+
+    /**
+     * @return a stack of one of the traded
+     * Item, or an empty stack if the Shop
+     * isn't trading a valid Item.
+     */
+    public ItemStack getTradedStack() {
+        if(!isItemValid())
+            return ItemStack.EMPTY;
+
+        return new ItemStack(getItemObject());
+    }
+
+    /**
+     * Recounts the entire stock inventory. Only used
+     * when the inventory is loaded, which may also
+     * change its size (saved before a config change).
+     */
+    private void recountStock() {
+        stockCount = 0;
+
+        if(slotCounts.length != stock.getSlots())
+            slotCounts = new int[stock.getSlots()];
+
+        for(int slot = 0; slot < slotCounts.length; slot++) {
+            slotCounts[slot] = stock.getStackInSlot(slot).getCount();
+            stockCount += slotCounts[slot];
+        }
+    }
+
+    // To/From NBT
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Additionally reads the owner and stock inventory.
+     */
+    @Override
+    protected CompoundNBT readNBT(CompoundNBT nbt) {
+        super.readNBT(nbt);
+
+        this.owner = nbt.hasUniqueId(KEY_OWNER) ? nbt.getUniqueId(KEY_OWNER) : null;
+
+        if(nbt.contains(KEY_STOCK))
+            stock.deserializeNBT(nbt.getCompound(KEY_STOCK));
+
+        return nbt;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Additionally writes the owner and stock inventory.
+     */
+    @Override
+    protected CompoundNBT writeNBT(CompoundNBT nbt) {
+        super.writeNBT(nbt);
+
+        if(owner != null)
+            nbt.putUniqueId(KEY_OWNER, owner);
+
+        nbt.put(KEY_STOCK, stock.serializeNBT());
+        return nbt;
+    }
+
+    // Other
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a simple and human readable description
+     * of this object instance and the data contained within.
+     */
+    @Override
+    public String toString() {
+        return String.format("OwnerShopTileData[%s, owner=%s, stock=%s]", super.toString(), owner, stockCount);
+    }
+
+    /**
+     * The Owner Shops stock inventory. Only accepts the Item
+     * traded by the Shop, and keeps the cached stock count
+     * up to date as slots change.
+     */
+    private class StockHandler extends ItemStackHandler {
+
+        /**
+         * Creates the stock inventory with
+         * the configured number of slots.
+         */
+        private StockHandler() {
+            super(STOCK_SLOTS);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@code true} only if the given stack
+         * stacks with the Item traded by the Shop, so
+         * variants (e.g. renamed or damaged Items) can't
+         * take up the stock.
+         */
+        @Override
+        public boolean isItemValid(int slot, @Nonnull ItemStack stack) {
+            return ItemHandlerHelper.canItemStacksStack(stack, getTradedStack());
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p/>Updates the cached stock count using only the
+         * changed slot, and marks the Shop as changed.
+         */
+        @Override
+        protected void onContentsChanged(int slot) {
+            int count = getStackInSlot(slot).getCount();
+            stockCount += count - slotCounts[slot];
+            slotCounts[slot] = count;
+            shopTile.markDirty();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p/>Recounts the stock after being read from NBT.
+         */
+        @Override
+        protected void onLoad() {
+            recountStock();
+        }
+    }
+}
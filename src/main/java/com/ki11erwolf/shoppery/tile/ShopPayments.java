@@ -0,0 +1,86 @@
+package com.ki11erwolf.shoppery.tile;
+
+import com.ki11erwolf.shoppery.bank.Wallet;
+import com.ki11erwolf.shoppery.util.CurrencyUtil;
+
+/**
+ * The money side of {@link ShopTile Shop} trades: which price is
+ * paid, and which {@link Wallet Wallets} it moves between.
+ *
+ * <p/>Kept free of worlds, players and Items, so the exact same
+ * trade arithmetic the Shops use can be run without a game (e.g.
+ * by the economy simulation).
+ */
+public final class ShopPayments {
+
+    /**
+     * Private constructor.
+     */
+    private ShopPayments(){}
+
+    /**
+     * Takes payment from a player buying an Item from a Shop.
+     * A reversal (buying back an Item the player just sold to
+     * the Shop) costs the selling price the player was paid.
+     *
+     * @param buyer the buying players Wallet.
+     * @param buyPrice the Shops buying price.
+     * @param sellPrice the Shops selling price.
+     * @param reversal {@code true} if the trade reverses
+     *                 the players last trade.
+     * @return {@code true} if the payment was taken, {@code
+     * false} if the buyer doesn't have enough money.
+     */
+    public static boolean takePayment(Wallet buyer, double buyPrice, double sellPrice, boolean reversal){
+        return buyer.subtract((float) (reversal ? sellPrice : buyPrice));
+    }
+
+    /**
+     * Pays a player selling an Item to a Shop. A reversal
+     * (selling back an Item the player just bought from the
+     * Shop) pays the buying price the player paid.
+     *
+     * @param seller the selling players Wallet.
+     * @param buyPrice the Shops buying price.
+     * @param sellPrice the Shops selling price.
+     * @param reversal {@code true} if the trade reverses
+     *                 the players last trade.
+     */
+    public static void givePayment(Wallet seller, double buyPrice, double sellPrice, boolean reversal){
+        seller.add((float) (reversal ? buyPrice : sellPrice));
+    }
+
+    /**
+     * Moves the given price from one Wallet to another, such as
+     * between a player and the owner of an {@link OwnerShopTile}.
+     *
+     * @param from the paying Wallet.
+     * @param to the paid Wallet.
+     * @param price the price to move.
+     * @return {@code true} if the price was moved, {@code false}
+     * if the paying Wallet doesn't have enough money.
+     */
+    public static boolean transfer(Wallet from, Wallet to, double price){
+        if(!from.subtract((float) price))
+            return false;
+
+        to.add((float) price);
+        return true;
+    }
+
+    /**
+     * @param price a Shop price.
+     * @return the amount, in cents, a payment of the given price
+     * moves between Wallets. Converted the same way the Wallets
+     * convert the price.
+     */
+    public static long toCents(double price){
+        String currency = CurrencyUtil.floatToCurrency((float) price);
+        int point = currency.indexOf('.');
+
+        if(point < 0)
+            return Long.parseLong(currency) * 100;
+
+        return Long.parseLong(currency.substring(0, point)) * 100 + Long.parseLong(currency.substring(point + 1));
+    }
+}
@@ -0,0 +1,230 @@
+package com.ki11erwolf.shoppery.tile;
+
+import com.ki11erwolf.shoppery.ShopperyMod;
+import com.ki11erwolf.shoppery.price.ItemPrice;
+import com.ki11erwolf.shoppery.price.ItemPrices;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sets up {@link ShopTile Shops} to trade a randomly chosen Item
+ * at a slightly varied price.
+ *
+ * <p/>Random trades are drawn from a pool of prices that have
+ * already been checked to be tradeable, so no draw is ever wasted
+ * on a prohibited price. The pool is built once and only rebuilt
+ * when the {@link ItemPrices#getRegistryVersion() price registry
+ * changes}.
+ *
+ * <p/>Shops in server worlds are set up using a random seeded from
+ * the world seed and the Shops position, which means the same Shop
+ * in the same world will always be set up the same way (e.g. when a
+ * world is regenerated).
+ *
+ * <p/>Shops are normally set up lazily, when first used. Structures
+ * and world generation that place many Shops at once can instead set
+ * them all up in a single batch using {@link #setupAll(World,
+ * Iterable)}, which is the public API intended for them.
+ */
+public enum ShopSetupService {
+
+    /**
+     * Singleton instance of this class.
+     */
+    INSTANCE;
+
+    /**
+     * The logger for this class.
+     */
+    private static final Logger LOG = ShopperyMod.getNewLogger();
+
+    /**
+     * The pool of tradeable prices, or {@code null}
+     * if it hasn't been built yet.
+     */
+    private volatile TradePool pool;
+
+    // **********
+    // Public API
+    // **********
+
+    /**
+     * Sets up the given Shop to trade a random Item from the
+     * tradeable price pool at a slightly higher or lower price,
+     * regardless of whether or not it has previously been setup.
+     *
+     * @param shop the Shop to setup.
+     * @return {@code true} if the Shop was given a trade, {@code
+     * false} if no tradeable prices exist or the price registry
+     * is not yet usable.
+     */
+    public static boolean setupRandomTrade(ShopTile<?> shop) {
+        TradePool tradePool = INSTANCE.getPool();
+        if(tradePool == null)
+            return false;
+
+        return setupRandomTrade(shop, tradePool, getRandom(shop.getWorld(), shop.getPos()));
+    }
+
+    /**
+     * Sets up every {@link BasicShopTile Basic Shop} at the given
+     * positions which is not already setup, in a single batch
+     * sharing one snapshot of the tradeable price pool. Each Shop
+     * is seeded the same way it would be when set up lazily, so
+     * batching does not change the trade a Shop ends up with.
+     *
+     * <p/>Intended for structures and world generation that place
+     * many Shops at once. Positions without a Shop, and Shops that
+     * are not setup by this service (e.g. {@link OwnerShopTile
+     * Owner Shops}), are skipped.
+     *
+     * @param world the world the Shops are in.
+     * @param positions the positions of the Shops.
+     * @return the number of Shops that were setup.
+     */
+    public static int setupAll(World world, Iterable<BlockPos> positions) {
+        TradePool tradePool = INSTANCE.getPool();
+        if(tradePool == null)
+            return 0;
+
+        int setup = 0;
+        for(BlockPos pos : positions) {
+            TileEntity tile = world.getTileEntity(pos);
+
+            if(!(tile instanceof BasicShopTile))
+                continue;
+
+            BasicShopTile shop = (BasicShopTile) tile;
+            if(!shop.validateSetup() && setupRandomTrade(shop, tradePool, getRandom(world, pos)))
+                setup++;
+        }
+
+        return setup;
+    }
+
+    /**
+     * Performs the checks used to build the tradeable price pool,
+     * ensuring the given {@link ItemPrice} object is okay for a
+     * shop to trade.
+     *
+     * @param price the ItemPrice to check.
+     * @return {@code true} if it is okay to trade the item price
+     * as it is in a shop.
+     */
+    public static boolean isTradeable(ItemPrice price) {
+        if(price == null) return false;
+
+        //Don't allow unsellable/non-purchasable items.
+        if(!(price.allowsSelling() && price.allowsBuying()))
+            return false;
+
+        double minBuyPrice = price.getBuyPrice() -
+                (price.getBuyPrice() * (price.getPriceFluctuation() / 100));
+
+        //Don't allow selling for more than purchase price
+        return !(price.getSellPrice() >= minBuyPrice);
+    }
+
+    // *****
+    // Setup
+    // *****
+
+    /**
+     * Sets up the given Shop to trade a varied price drawn from
+     * the given pool using the given random. If the Shop does not
+     * accept the varied price, the original price is used instead.
+     */
+    private static boolean setupRandomTrade(ShopTile<?> shop, TradePool tradePool, Random random) {
+        ItemPrice price = tradePool.prices[random.nextInt(tradePool.prices.length)];
+        ItemPrice variedPrice = price.withPriceFluctuation(random);
+
+        //Pooled prices are always tradeable.
+        shop.setShopsTrade(shop.isValidTrade(variedPrice) ? variedPrice : price);
+        return true;
+    }
+
+    /**
+     * Creates the random used to setup the Shop at the given
+     * position. Seeded from the world seed and position in server
+     * worlds, unseeded otherwise.
+     */
+    private static Random getRandom(World world, BlockPos pos) {
+        if(world instanceof ServerWorld)
+            return new Random(((ServerWorld) world).getSeed() ^ MathHelper.getPositionRandom(pos));
+
+        return ThreadLocalRandom.current();
+    }
+
+    // ****
+    // Pool
+    // ****
+
+    /**
+     * Gets the tradeable price pool, rebuilding it if the price
+     * registry has changed since it was last built.
+     *
+     * @return the tradeable price pool, or {@code null} if the
+     * registry is not yet usable or contains no tradeable prices.
+     */
+    private TradePool getPool() {
+        if(!ItemPrices.isLoaded())
+            return null;
+
+        TradePool tradePool = pool;
+        int version = ItemPrices.getRegistryVersion();
+
+        if(tradePool == null || tradePool.version != version) {
+            synchronized (this) {
+                tradePool = pool;
+
+                if(tradePool == null || tradePool.version != version)
+                    pool = tradePool = new TradePool(version);
+            }
+        }
+
+        return tradePool.prices.length == 0 ? null : tradePool;
+    }
+
+    /**
+     * A snapshot of every tradeable price in the
+     * price registry, at a specific registry version.
+     */
+    private static final class TradePool {
+
+        /**
+         * The registry version the pool was built from.
+         */
+        private final int version;
+
+        /**
+         * The tradeable prices, in registry order.
+         */
+        private final ItemPrice[] prices;
+
+        /**
+         * Builds the pool from the current registry.
+         *
+         * @param version the current registry version.
+         */
+        private TradePool(int version) {
+            this.version = version;
+
+            List<ItemPrice> tradeable = new ArrayList<>();
+            for(ItemPrice price : ItemPrices.getAllPrices())
+                if(isTradeable(price))
+                    tradeable.add(price);
+
+            this.prices = tradeable.toArray(new ItemPrice[0]);
+            LOG.debug("Built shop trade pool: " + prices.length + " tradeable prices at version " + version);
+        }
+    }
+}
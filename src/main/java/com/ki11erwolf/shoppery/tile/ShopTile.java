@@ -5,7 +5,10 @@ import com.ki11erwolf.shoppery.bank.BankManager;
 import com.ki11erwolf.shoppery.bank.Wallet;
 import com.ki11erwolf.shoppery.config.ModConfig;
 import com.ki11erwolf.shoppery.config.categories.ShopsConfig;
+import com.ki11erwolf.shoppery.packets.TradeResultPacket;
 import com.ki11erwolf.shoppery.price.ItemPrice;
+import com.ki11erwolf.shoppery.stats.EconomyMetrics;
+import com.ki11erwolf.shoppery.stats.Metrics;
 import com.ki11erwolf.shoppery.util.MathUtil;
 import javafx.util.Callback;
 import net.minecraft.block.BlockState;
@@ -17,6 +20,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.IItemProvider;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.SoundEvent;
 import net.minecraft.world.World;
 
 import javax.annotation.CheckForNull;
@@ -79,6 +83,11 @@ public abstract class ShopTile<T extends ShopTileData> extends ModTile {
     @CheckForNull
     private T data;
 
+    /**
+     * Counts the trades made by Shops of this type.
+     */
+    private final Metrics.Counter trades;
+
     /**
      * The single constructor available when creating a new instance
      * of a ShopTile implementation.
@@ -102,6 +111,7 @@ public abstract class ShopTile<T extends ShopTileData> extends ModTile {
     public ShopTile(TileRegistration<? extends ModTile> registration, Callback<ShopTile<T>, T> dataProvider) {
         super(registration);
         this.dataProvider = Objects.requireNonNull(dataProvider);
+        this.trades = EconomyMetrics.trades(registration.getRegistryName());
     }
 
     // Setup
@@ -187,9 +197,7 @@ public abstract class ShopTile<T extends ShopTileData> extends ModTile {
         boolean isReversal = transactions.reverseTransaction(player, false);
 
         //Try Take Pay
-        if(!isReversal)
-            paid = wallet.subtract((float) getBuyPrice());
-        else paid = wallet.subtract((float) getSellPrice());
+        paid = ShopPayments.takePayment(wallet, getBuyPrice(), getSellPrice(), isReversal);
 
         //Must trade - pay taken!
         if(!paid) return false;
@@ -249,9 +257,7 @@ public abstract class ShopTile<T extends ShopTileData> extends ModTile {
             foundItem.shrink(1);
 
             //Give Pay
-            if(!isReversal)
-                wallet.add((float) getSellPrice());
-            else wallet.add((float) getBuyPrice());
+            ShopPayments.givePayment(wallet, getBuyPrice(), getSellPrice(), isReversal);
 
             //Log
             if(!isReversal)
@@ -311,11 +317,12 @@ public abstract class ShopTile<T extends ShopTileData> extends ModTile {
         }
 
         if(sellToPlayer(world, player)) {
-            playTradeSoundEvent(world, player);
+            trades.increment();
+            sendTradeResult(world, player, true);
             return true;
         }
 
-        playFailSoundEvent(world, player);
+        sendTradeResult(world, player, false);
         return false;
     }
 
@@ -347,11 +354,12 @@ public abstract class ShopTile<T extends ShopTileData> extends ModTile {
         }
 
         if(buyFromPlayer(world, player)) {
-            playTradeSoundEvent(world, player);
+            trades.increment();
+            sendTradeResult(world, player, true);
             return true;
         }
 
-        playFailSoundEvent(world, player);
+        sendTradeResult(world, player, false);
         return false;
     }
 
@@ -379,6 +387,15 @@ public abstract class ShopTile<T extends ShopTileData> extends ModTile {
         return getData().getSell();
     }
 
+    /**
+     * @return a number that changes every time this Shops data
+     * changes, on either the server or client side. Allows cheaply
+     * detecting changes, e.g. to rebuild cached render data.
+     */
+    public int getDataVersion() {
+        return getData().getVersion();
+    }
+
     // Setup
 
     /**
@@ -404,21 +421,12 @@ public abstract class ShopTile<T extends ShopTileData> extends ModTile {
      * and trading a valid item.
      *
      * @return {@code true} if the shop is setup &
-     * valid, {@code false} if not.
+     * valid, {@code false} if not. This is the cached
+     * result of validating the shops item when it was
+     * last changed, so is cheap to call on every use.
      */
     protected boolean validateSetup() {
-        if(getData().isItemSet()) {
-            // If setup and valid.
-            if(getData().isItemValid()) {
-                return true;
-            }
-
-            // If not validated.
-            getData().validateItemObject();
-            return getData().isItemValid();
-        }
-
-        return false;
+        return getData().isItemValid();
     }
 
     // ItemPrices & Trading
@@ -432,17 +440,7 @@ public abstract class ShopTile<T extends ShopTileData> extends ModTile {
      * as it is in a shop.
      */
     protected boolean isValidTrade(ItemPrice price) {
-        if(price == null) return false;
-
-        //Don't allow unsellable/non-purchasable items.
-        if(!(price.allowsSelling() && price.allowsBuying()))
-            return false;
-
-        double minBuyPrice = price.getBuyPrice() -
-                (price.getBuyPrice() * (price.getPriceFluctuation() / 100));
-
-        //Don't allow selling for more than purchase price
-        return !(price.getSellPrice() >= minBuyPrice);
+        return ShopSetupService.isTradeable(price);
     }
 
     /**
@@ -495,45 +493,142 @@ public abstract class ShopTile<T extends ShopTileData> extends ModTile {
         getData().readNBT(tags);
     }
 
+    // Client Sync
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Delegates the responsibility of writing the compact,
+     * client only, copy of the Shops data to the {@link
+     * #getData()} object.
+     *
+     * @param tags an empty CompoundNBT object to write
+     *             the client data to.
+     */
+    @Override
+    protected CompoundNBT onWriteUpdate(CompoundNBT tags) {
+        return getData().writeSyncNBT(tags, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Delegates the responsibility of reading the full
+     * or delta client sync data to the {@link #getData()}
+     * object.
+     *
+     * @param state the block providing the Tile as it
+     *              exists in the client world.
+     * @param tags the CompoundNBT object containing
+     *             the data sent from the server.
+     */
+    @Override
+    protected void onReadUpdate(BlockState state, CompoundNBT tags) {
+        getData().readSyncNBT(tags);
+    }
+
+    /**
+     * Applies a delta of this Shops data, sent by the server
+     * through the {@link ShopTileSyncer}, on the client side.
+     *
+     * @param tags the delta sync data sent from the server.
+     */
+    public void handleSyncDelta(CompoundNBT tags) {
+        onReadUpdate(getBlockState(), tags);
+    }
+
+    /**
+     * Writes the Shops data that has changed since it was
+     * last synced with clients, clearing the changes.
+     *
+     * @return the delta sync data, or {@code null} if
+     * nothing has changed.
+     */
+    CompoundNBT writeSyncDelta() {
+        if(!getData().hasChanges())
+            return null;
+
+        return getData().writeSyncNBT(new CompoundNBT(), false);
+    }
+
+    /**
+     * Called by the {@link #getData()} object whenever the
+     * Shops data changes on the server, in order to schedule
+     * the changes to be sent to clients watching the Shop.
+     */
+    void onDataChanged() {
+        if(world != null && !world.isRemote)
+            ShopTileSyncer.queue(this);
+    }
+
     // Sound
 
     /**
-     * Sends a packet to the given players Client requesting the 'shop
-     * opened' sound effective be played.
+     * Sends the 'shop opened' sound effect to the given players
+     * Client, along with their current balance, as a single
+     * {@link TradeResultPacket}.
      *
      * @param world the world the player is in.
-     * @param player the player to send the sound effect request to.
+     * @param player the player to send the sound effect to.
      */
     protected void playOpenedSoundEvent(World world, PlayerEntity player){
         if(ShopperySoundEvents.SOUND_CONFIG.playActivatedSoundEffect())
-            ShopperySoundEvents.sendSoundEvent(player, ShopperySoundEvents.CASH_REGISTER,
-                    1.0F, (float) MathUtil.getRandomDoubleInRange(0.8, 1.4));
+            sendResult(world, player, ShopperySoundEvents.CASH_REGISTER,
+                    (float) MathUtil.getRandomDoubleInRange(0.8, 1.4));
     }
 
     /**
-     * Sends a packet to the given players Client requesting the 'transaction
-     * failed/declined' sound effective be played.
+     * Sends the 'transaction failed/declined' sound effect to the
+     * given players Client, along with their current balance, as
+     * a single {@link TradeResultPacket}.
      *
      * @param world the world the player is in.
-     * @param player the player to send the sound effect request to.
+     * @param player the player to send the sound effect to.
      */
     protected void playFailSoundEvent(World world, PlayerEntity player){
         if(ShopperySoundEvents.SOUND_CONFIG.playTransactionDeclinedSoundEffect())
-            ShopperySoundEvents.sendSoundEvent(player, ShopperySoundEvents.DECLINE, 1.0F, 1.0F);
+            sendResult(world, player, ShopperySoundEvents.DECLINE, 1.0F);
     }
 
     /**
-     * Sends a packet to the given players Client requesting the 'trade'
-     * sound effective be played.
+     * Sends the result of a trade - the 'trade' or 'transaction
+     * failed/declined' sound effect and the players new balance -
+     * to the given players Client, as a single packet.
      *
      * @param world the world the player is in.
-     * @param player the player to send the sound effect request to.
-     */
-    protected void playTradeSoundEvent(World world, PlayerEntity player){
-        if(ShopperySoundEvents.SOUND_CONFIG.playTransactionSoundEffect())
-            ShopperySoundEvents.sendSoundEvent(player, ShopperySoundEvents.SOUND_CONFIG.useAltTransactionSound()
-                            ? ShopperySoundEvents.TRANSACT_ALT : ShopperySoundEvents.TRANSACT,
-                    1.0F, (float) MathUtil.getRandomDoubleInRange(0.9, 1.3)
-            );
+     * @param player the player who made the trade.
+     * @param success {@code true} if the trade was made.
+     */
+    protected void sendTradeResult(World world, PlayerEntity player, boolean success){
+        SoundEvent sound = null;
+        float pitch = 1.0F;
+
+        if(success && ShopperySoundEvents.SOUND_CONFIG.playTransactionSoundEffect()) {
+            sound = ShopperySoundEvents.SOUND_CONFIG.useAltTransactionSound()
+                    ? ShopperySoundEvents.TRANSACT_ALT : ShopperySoundEvents.TRANSACT;
+            pitch = (float) MathUtil.getRandomDoubleInRange(0.9, 1.3);
+        } else if(!success && ShopperySoundEvents.SOUND_CONFIG.playTransactionDeclinedSoundEffect())
+            sound = ShopperySoundEvents.DECLINE;
+
+        sendResult(world, player, sound, pitch);
+    }
+
+    /**
+     * Sends a {@link TradeResultPacket} with the given sound
+     * effect and the players current balance to the player.
+     *
+     * @param world the world the player is in.
+     * @param player the player to send the packet to.
+     * @param sound the sound effect to play, or {@code null} if none.
+     * @param pitch the pitch to play the sound effect at.
+     */
+    private void sendResult(World world, PlayerEntity player, SoundEvent sound, float pitch){
+        if(!(player instanceof ServerPlayerEntity))
+            return;
+
+        TradeResultPacket.send(
+                (ServerPlayerEntity) player, BankManager._getBank(world).getWallet(player),
+                sound, 1.0F, pitch, null
+        );
     }
 }
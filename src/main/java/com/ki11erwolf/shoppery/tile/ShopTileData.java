@@ -2,11 +2,13 @@ package com.ki11erwolf.shoppery.tile;
 
 import com.ki11erwolf.shoppery.ShopperyMod;
 import com.ki11erwolf.shoppery.price.ItemPrice;
+import net.minecraft.item.Item;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.IItemProvider;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.ForgeRegistry;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Objects;
@@ -42,6 +44,20 @@ class ShopTileData {
     protected static final String KEY_ITEM_NAMESPACE = "ItemNamespace", KEY_ITEM_PATH = "ItemPath",
                 KEY_ITEM_BUY = "ItemBuy", KEY_ITEM_SELL = "ItemSell";
 
+    /**
+     * A String value that is used as a key to store a specific
+     * value within the (deliberately short) client sync NBT map.
+     */
+    protected static final String KEY_SYNC_FIELDS = "F", KEY_SYNC_ITEM = "I",
+                KEY_SYNC_BUY = "B", KEY_SYNC_SELL = "S";
+
+    /**
+     * A bit flag identifying a single field that has changed
+     * since the last client sync.
+     */
+    protected static final int CHANGED_ITEM = 1, CHANGED_BUY = 1 << 1, CHANGED_SELL = 1 << 2,
+                CHANGED_ALL = CHANGED_ITEM | CHANGED_BUY | CHANGED_SELL;
+
     /**
      * The {@link ShopTile} that created this object
      * to hold its data.
@@ -62,6 +78,14 @@ class ShopTileData {
      */
     private IItemProvider itemObject;
 
+    /**
+     * The cached result of validating the {@link #item}:
+     * whether an item id is set, and whether it references
+     * a usable Item/Block. Only recalculated when the item id
+     * is changed, see {@link #clearAndValidateItemObject()}.
+     */
+    private boolean itemSet, itemValid;
+
     /**
      * The price that the {@link ShopTile} will sell
      * the {@link #item} to the player for.
@@ -74,6 +98,19 @@ class ShopTileData {
      */
     private double sell;
 
+    /**
+     * The bit flags of every field that has changed
+     * since the data was last synced with clients.
+     */
+    private int changedFields;
+
+    /**
+     * A number that is incremented every time the data
+     * changes, on either side. Allows consumers, such as
+     * renderers, to cheaply detect changes.
+     */
+    private int version;
+
     /**
      * Creates a new ShopTileData object to hold
      * and manage the data for a specific ShopTile.
@@ -103,6 +140,7 @@ class ShopTileData {
         this.sell = itemPrice.getSellPrice();
         clearAndValidateItemObject();
         shopTile.markDirty();
+        flagChanged(CHANGED_ALL);
     }
 
     /**
@@ -116,6 +154,7 @@ class ShopTileData {
         this.item = Objects.requireNonNull(item);
         clearAndValidateItemObject();
         shopTile.markDirty();
+        flagChanged(CHANGED_ITEM);
     }
 
     /**
@@ -129,6 +168,7 @@ class ShopTileData {
         if(buy < 0) buy = 0;
         this.buy = buy;
         shopTile.markDirty();
+        flagChanged(CHANGED_BUY);
     }
 
     /**
@@ -142,6 +182,7 @@ class ShopTileData {
         if(sell < 0) sell = 0;
         this.sell = sell;
         shopTile.markDirty();
+        flagChanged(CHANGED_SELL);
     }
 
     /**
@@ -154,6 +195,7 @@ class ShopTileData {
         this.buy = 0;
         this.sell = 0;
         clearAndValidateItemObject();
+        this.version++;
     }
 
     // Accessors
@@ -165,9 +207,12 @@ class ShopTileData {
      * false} if no item/ItemID has been set yet, if the ItemID
      * is invalid, or if no Item/Block is registered using the
      * ItemID.
+     *
+     * <p/>The result is cached and only recalculated when
+     * the item id changes.
      */
     public boolean isItemValid() {
-        return hasValidItemObject();
+        return itemValid;
     }
 
     /**
@@ -176,9 +221,12 @@ class ShopTileData {
      * the item id references a loaded mod.
      * Will return {@code false} if the item id
      * is blank or {@code null}.
+     *
+     * <p/>The result is cached and only recalculated when
+     * the item id changes.
      */
     public boolean isItemSet() {
-        return isItemIDSet();
+        return itemSet;
     }
 
     /**
@@ -217,6 +265,14 @@ class ShopTileData {
         return sell;
     }
 
+    /**
+     * @return a number that changes every time this
+     * data changes, on either the server or client side.
+     */
+    public int getVersion() {
+        return version;
+    }
+
     // Item & Price
 
     /**
@@ -276,11 +332,19 @@ class ShopTileData {
      * the registry. The obtained Item/Block object can
      * be used to prove the ItemID is usable. No object
      * proves the ItemID is unusable.
+     *
+     * <p/>The outcome is cached in {@link #itemSet} &
+     * {@link #itemValid}, which are what the Shop checks
+     * on every use, so this only needs to be called when
+     * the ItemID changes.
      */
     protected void validateItemObject() {
+        itemSet = isItemIDSet();
+
         //Clear instance if ID not set
-        if(!isItemIDSet()){
+        if(!itemSet){
             itemObject = null;
+            itemValid = false;
             return;
         }
 
@@ -292,13 +356,16 @@ class ShopTileData {
         //If object is set, check that it matches the ID.
         if(!hasValidItemObject())
             itemObject = null;
+
+        itemValid = itemObject != null;
     }
 
     /**
      * Clears the object instance reference to the Shops
      * item and then attempts to validate it once again.
      * Used whenever the ItemID is changed to keep the
-     * object instance up-to-date with the ItemID.
+     * object instance, and cached validation result,
+     * up-to-date with the ItemID.
      */
     protected void clearAndValidateItemObject() {
         this.itemObject = null;
@@ -311,7 +378,8 @@ class ShopTileData {
      * ({@link #item}) exists and can be used. Will return {@code
      * false} if no item/ItemID has been set yet, if the ItemID
      * is invalid, or if no Item/Block is registered using the
-     * ItemID.
+     * ItemID. Unlike {@link #isItemValid()}, this is
+     * not cached.
      */
     protected boolean hasValidItemObject() {
         if(itemObject == null) return false;
@@ -358,6 +426,7 @@ class ShopTileData {
         clearAndValidateItemObject();
         this.buy = nbt.getDouble(KEY_ITEM_BUY);
         this.sell = nbt.getDouble(KEY_ITEM_SELL);
+        this.version++;
         return nbt;
     }
 
@@ -381,4 +450,95 @@ class ShopTileData {
 
         return nbt;
     }
+
+    // Client Sync
+
+    /**
+     * Flags the given fields as changed since the last client
+     * sync, and notifies the {@link #shopTile} so that it may
+     * schedule the sync.
+     *
+     * @param fields the bit flags of the changed fields.
+     */
+    protected void flagChanged(int fields) {
+        this.changedFields |= fields;
+        this.version++;
+        shopTile.onDataChanged();
+    }
+
+    /**
+     * @return {@code true} if any field has changed
+     * since the data was last synced with clients.
+     */
+    protected boolean hasChanges() {
+        return changedFields != 0;
+    }
+
+    /**
+     * Writes a compact copy of the data needed by clients to
+     * the given {@link CompoundNBT}. Only the fields that have
+     * changed since the last sync are written when {@code full}
+     * is {@code false}, in which case the changes are cleared.
+     * The item is written as its numeric registry id rather
+     * than its namespace and path.
+     *
+     * @param nbt a {@link CompoundNBT} object that can be written to.
+     * @param full {@code true} to write every field (e.g. when a
+     *             client first loads the Shop), {@code false} to
+     *             write only the changed fields.
+     * @return the {@link CompoundNBT} passed as a parameter.
+     */
+    protected CompoundNBT writeSyncNBT(CompoundNBT nbt, boolean full) {
+        int fields = full ? CHANGED_ALL : changedFields;
+        if(!full) changedFields = 0;
+
+        nbt.putByte(KEY_SYNC_FIELDS, (byte) fields);
+
+        if((fields & CHANGED_ITEM) != 0)
+            nbt.putInt(KEY_SYNC_ITEM, item == null ? -1 : getItemRegistry().getID(item));
+        if((fields & CHANGED_BUY) != 0)
+            nbt.putDouble(KEY_SYNC_BUY, buy);
+        if((fields & CHANGED_SELL) != 0)
+            nbt.putDouble(KEY_SYNC_SELL, sell);
+
+        return nbt;
+    }
+
+    /**
+     * Reads back the fields written by {@link #writeSyncNBT(
+     * CompoundNBT, boolean)} on the client side. Fields not
+     * present in the given NBT are left untouched.
+     *
+     * @param nbt the sync data sent from the server.
+     * @return the {@link CompoundNBT} passed as a parameter.
+     */
+    protected CompoundNBT readSyncNBT(CompoundNBT nbt) {
+        int fields = nbt.getByte(KEY_SYNC_FIELDS);
+
+        if((fields & CHANGED_ITEM) != 0) {
+            int id = nbt.getInt(KEY_SYNC_ITEM);
+            Item itm = id < 0 ? null : getItemRegistry().getValue(id);
+
+            this.item = itm == null ? null : itm.getRegistryName();
+            clearAndValidateItemObject();
+        }
+
+        if((fields & CHANGED_BUY) != 0)
+            this.buy = nbt.getDouble(KEY_SYNC_BUY);
+        if((fields & CHANGED_SELL) != 0)
+            this.sell = nbt.getDouble(KEY_SYNC_SELL);
+
+        this.version++;
+        return nbt;
+    }
+
+    /**
+     * @return the Forge Item registry, which provides the
+     * numeric ids (synced between server and client) used
+     * to send the traded item.
+     */
+    @SuppressWarnings("unchecked")
+    private static ForgeRegistry<Item> getItemRegistry() {
+        return (ForgeRegistry<Item>) ForgeRegistries.ITEMS;
+    }
 }
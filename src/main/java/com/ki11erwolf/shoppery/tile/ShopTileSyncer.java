@@ -0,0 +1,119 @@
+package com.ki11erwolf.shoppery.tile;
+
+import com.ki11erwolf.shoppery.packets.Packet;
+import com.ki11erwolf.shoppery.packets.ShopDataSyncPacket;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sends changes made to {@link ShopTile} data on the server
+ * to the clients watching the Shops.
+ *
+ * <p/>Rather than sending every change as it happens, Shops
+ * with changed data are queued and grouped by the chunk they
+ * are in. At the end of each world tick, a single {@link
+ * ShopDataSyncPacket} is sent per chunk to the players tracking
+ * that chunk, containing only the changed fields of every Shop
+ * in the chunk. This keeps chunks full of Shops (markets) from
+ * flooding clients with full Tile NBT.
+ */
+enum ShopTileSyncer {
+
+    /**
+     * Singleton instance of this class.
+     */
+    INSTANCE;
+
+    /*
+     * Registers the syncer to the forge
+     * event bus when the class is first used.
+     */
+    static {
+        MinecraftForge.EVENT_BUS.register(INSTANCE);
+    }
+
+    /**
+     * The Shops waiting to be synced, grouped by
+     * chunk, for every world with changed Shops.
+     */
+    private final Map<World, Map<ChunkPos, Set<ShopTile<?>>>> pending = new HashMap<>();
+
+    /**
+     * Queues the given Shop to have its changed data
+     * sent to clients at the end of the current tick.
+     *
+     * @param shopTile the server side Shop with changed data.
+     */
+    static void queue(ShopTile<?> shopTile) {
+        INSTANCE.pending
+                .computeIfAbsent(shopTile.getWorld(), world -> new HashMap<>())
+                .computeIfAbsent(new ChunkPos(shopTile.getPos()), chunk -> new LinkedHashSet<>())
+                .add(shopTile);
+    }
+
+    /**
+     * Sends the data of every queued Shop in the ticked
+     * world, one packet per chunk, once the tick ends.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+        if(event.phase != TickEvent.Phase.END || event.side != LogicalSide.SERVER)
+            return;
+
+        Map<ChunkPos, Set<ShopTile<?>>> chunks = pending.remove(event.world);
+        if(chunks == null)
+            return;
+
+        chunks.forEach((chunk, shops) -> sendChunk(event.world, chunk, shops));
+    }
+
+    /**
+     * Drops any queued Shops belonging to the
+     * world being unloaded.
+     *
+     * @param event forge event.
+     */
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        if(event.getWorld() instanceof World)
+            pending.remove(event.getWorld());
+    }
+
+    /**
+     * Sends the changed data of the given Shops to
+     * every player tracking the given chunk.
+     *
+     * @param world the world the chunk is in.
+     * @param chunk the chunk the Shops are in.
+     * @param shops the Shops in the chunk with changed data.
+     */
+    private static void sendChunk(World world, ChunkPos chunk, Set<ShopTile<?>> shops) {
+        ShopDataSyncPacket packet = new ShopDataSyncPacket();
+
+        for(ShopTile<?> shop : shops) {
+            if(shop.isRemoved())
+                continue;
+
+            CompoundNBT delta = shop.writeSyncDelta();
+            if(delta != null)
+                packet.add(shop.getPos(), delta);
+        }
+
+        if(!packet.isEmpty())
+            Packet.send(PacketDistributor.TRACKING_CHUNK.with(() -> world.getChunk(chunk.x, chunk.z)), packet);
+    }
+}
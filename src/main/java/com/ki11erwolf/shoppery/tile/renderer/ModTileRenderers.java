@@ -1,17 +1,11 @@
 package com.ki11erwolf.shoppery.tile.renderer;
 
-import com.ki11erwolf.shoppery.ShopperyMod;
 import com.ki11erwolf.shoppery.tile.BasicShopTile;
+import com.ki11erwolf.shoppery.tile.OwnerShopTile;
 import com.ki11erwolf.shoppery.util.QueueRegisterer;
-import com.mojang.blaze3d.matrix.MatrixStack;
-import net.minecraft.client.renderer.IRenderTypeBuffer;
-import net.minecraft.client.renderer.tileentity.TileEntityRenderer;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.fml.client.registry.ClientRegistry;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 
-import javax.annotation.Nonnull;
-
 /**
  * Holds all instances of shoppery tile (entity) renderers
  * and handles the registration of them.
@@ -28,15 +22,23 @@ public final class ModTileRenderers extends QueueRegisterer<ModTileRenderer> {
     //          Renders
     //############################
 
-    public static final ModTileRenderer A = ((ModTileRenderer) () ->
-            ClientRegistry.bindTileEntityRenderer(BasicShopTile.BASIC_SHOP_REGISTRATION.getTileType(), (a) ->
-                    new TileEntityRenderer<TileEntity>(a) {
-                        @Override
-                        public void render(@Nonnull TileEntity tileEntity, float v, @Nonnull MatrixStack matrixStack,
-                                           @Nonnull IRenderTypeBuffer iRenderTypeBuffer, int i, int i1) {
-                            ShopperyMod.getNewLogger().info("render()!");
-                        }
-                    }
+    /**
+     * The renderer displaying the traded Item & prices above Basic Shops.
+     */
+    @SuppressWarnings("unchecked")
+    public static final ModTileRenderer BASIC_SHOP_RENDERER = ((ModTileRenderer) () ->
+            ClientRegistry.bindTileEntityRenderer(
+                    BasicShopTile.BASIC_SHOP_REGISTRATION.getTypelessTileType(), ShopTileRenderer::new
+            )
+    ).register();
+
+    /**
+     * The renderer displaying the traded Item & prices above Owner Shops.
+     */
+    @SuppressWarnings("unchecked")
+    public static final ModTileRenderer OWNER_SHOP_RENDERER = ((ModTileRenderer) () ->
+            ClientRegistry.bindTileEntityRenderer(
+                    OwnerShopTile.OWNER_SHOP_REGISTRATION.getTypelessTileType(), ShopTileRenderer::new
             )
     ).register();
 
@@ -0,0 +1,280 @@
+package com.ki11erwolf.shoppery.tile.renderer;
+
+import com.ki11erwolf.shoppery.config.ModConfig;
+import com.ki11erwolf.shoppery.config.categories.AppearanceConfig;
+import com.ki11erwolf.shoppery.tile.ShopTile;
+import com.ki11erwolf.shoppery.util.CurrencyUtil;
+import com.ki11erwolf.shoppery.util.LocaleDomain;
+import com.ki11erwolf.shoppery.util.LocaleDomains;
+import com.mojang.blaze3d.matrix.MatrixStack;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.IRenderTypeBuffer;
+import net.minecraft.client.renderer.WorldRenderer;
+import net.minecraft.client.renderer.model.ItemCameraTransforms;
+import net.minecraft.client.renderer.tileentity.TileEntityRenderer;
+import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.vector.Matrix4f;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.util.math.vector.Vector3f;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Renders the Item a Shop trades, slowly spinning above the
+ * Shop, along with the prices the Shop buys and sells the Item
+ * for.
+ *
+ * <p/>Built to handle markets with hundreds of Shops:
+ * <ul>
+ *     <li>Shops further than the {@link AppearanceConfig#getShopDisplayDistance()
+ *     configured distance} are not rendered at all, and prices are only
+ *     rendered within half that distance.</li>
+ *     <li>The Item stack, price text, and text layout are cached per
+ *     Shop and only rebuilt when the Shops {@link ShopTile#getDataVersion()
+ *     data changes}, never per frame.</li>
+ *     <li>All text is written straight into the shared render buffer
+ *     under a single transform, so it's batched with every other Shop
+ *     and drawn together at the end of the frame.</li>
+ * </ul>
+ *
+ * @param <T> the type of Shop rendered.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ShopTileRenderer<T extends ShopTile<?>> extends TileEntityRenderer<T> {
+
+    /**
+     * The locale domain holding the price text displayed above Shops.
+     */
+    private static final LocaleDomain SHOP_TEXT = LocaleDomains.TEXT.sub(() -> "shop");
+
+    /**
+     * The colors of the buy & sell price text.
+     */
+    private static final int BUY_COLOR = 0xFFFF5555, SELL_COLOR = 0xFF55FF55;
+
+    /**
+     * The height (in pixels before scaling) of a single line of price text.
+     */
+    private static final int LINE_HEIGHT = 10;
+
+    /**
+     * The squared distance (in blocks) within which Shops display their Item.
+     */
+    private final double itemDistanceSq;
+
+    /**
+     * The squared distance (in blocks) within which Shops display their prices.
+     */
+    private final double priceDistanceSq;
+
+    /**
+     * The cached display of each rendered Shop. Weak so that
+     * unloaded Shops are dropped with the Tile.
+     */
+    private final Map<ShopTile<?>, ShopDisplay> displays = new WeakHashMap<>();
+
+    /**
+     * Creates a new Shop renderer.
+     *
+     * @param dispatcher the dispatcher the renderer is bound to.
+     */
+    public ShopTileRenderer(TileEntityRendererDispatcher dispatcher) {
+        super(dispatcher);
+
+        int distance = ModConfig.GENERAL_CONFIG.getCategory(AppearanceConfig.class).getShopDisplayDistance();
+        this.itemDistanceSq = (double) distance * distance;
+        this.priceDistanceSq = itemDistanceSq / 4;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Renders the Shops Item and, when close enough, its
+     * prices using the Shops cached display.
+     */
+    @Override
+    public void render(@Nonnull T tile, float partialTicks, @Nonnull MatrixStack matrixStack,
+                       @Nonnull IRenderTypeBuffer buffer, int light, int overlay) {
+        Vector3d view = renderDispatcher.renderInfo.getProjectedView();
+        double distanceSq = tile.getPos().distanceSq(view.x, view.y, view.z, true);
+
+        if(distanceSq > itemDistanceSq)
+            return;
+
+        ShopDisplay display = getDisplay(tile);
+        if(display.stack.isEmpty())
+            return;
+
+        //Shops are solid, use the light above them instead.
+        int displayLight = tile.getWorld() == null ? light
+                : WorldRenderer.getCombinedLight(tile.getWorld(), tile.getPos().up());
+
+        renderItem(tile, display, partialTicks, matrixStack, buffer, displayLight, overlay);
+
+        if(distanceSq <= priceDistanceSq)
+            renderPrices(display, matrixStack, buffer, displayLight);
+    }
+
+    /**
+     * Renders the Shops Item spinning above the Shop.
+     */
+    private void renderItem(T tile, ShopDisplay display, float partialTicks, MatrixStack matrixStack,
+                            IRenderTypeBuffer buffer, int light, int overlay) {
+        long time = tile.getWorld() == null ? 0 : tile.getWorld().getGameTime();
+        float angle = ((time % 360) + partialTicks) * 2;
+
+        matrixStack.push();
+        matrixStack.translate(0.5D, 1.3D, 0.5D);
+        matrixStack.rotate(Vector3f.YP.rotationDegrees(angle));
+        matrixStack.scale(0.6F, 0.6F, 0.6F);
+        Minecraft.getInstance().getItemRenderer().renderItem(
+                display.stack, ItemCameraTransforms.TransformType.FIXED, light, overlay, matrixStack, buffer
+        );
+        matrixStack.pop();
+    }
+
+    /**
+     * Renders the Shops cached price text lines above the
+     * Shops Item, facing the camera.
+     */
+    private void renderPrices(ShopDisplay display, MatrixStack matrixStack,
+                              IRenderTypeBuffer buffer, int light) {
+        if(display.lines.length == 0)
+            return;
+
+        FontRenderer font = renderDispatcher.getFontRenderer();
+
+        matrixStack.push();
+        matrixStack.translate(0.5D, 1.9D, 0.5D);
+        matrixStack.rotate(renderDispatcher.renderInfo.getRotation());
+        matrixStack.scale(-0.025F, -0.025F, 0.025F);
+
+        Matrix4f matrix = matrixStack.getLast().getMatrix();
+        for(PriceLine line : display.lines)
+            font.renderString(line.text, line.x, line.y, line.color, false, matrix, buffer, false, 0, light);
+
+        matrixStack.pop();
+    }
+
+    /**
+     * Gets the cached display for the given Shop,
+     * rebuilding it only if the Shops data has changed.
+     */
+    private ShopDisplay getDisplay(T tile) {
+        ShopDisplay display = displays.get(tile);
+
+        if(display == null || display.version != tile.getDataVersion()) {
+            display = new ShopDisplay(tile, renderDispatcher.getFontRenderer());
+            displays.put(tile, display);
+        }
+
+        return display;
+    }
+
+    // ****************
+    // Cached Rendering
+    // ****************
+
+    /**
+     * The pre-built, per Shop, render data: the Item stack and
+     * laid out price text, valid for a single data version.
+     */
+    private static final class ShopDisplay {
+
+        /**
+         * The {@link ShopTile#getDataVersion() data version}
+         * the display was built from.
+         */
+        private final int version;
+
+        /**
+         * The Item stack traded by the Shop, or an empty stack.
+         */
+        private final ItemStack stack;
+
+        /**
+         * The laid out price text lines.
+         */
+        private final PriceLine[] lines;
+
+        /**
+         * Builds the display from the Shops current data.
+         *
+         * @param tile the Shop.
+         * @param font the font used to lay out the text.
+         */
+        private ShopDisplay(ShopTile<?> tile, FontRenderer font) {
+            this.version = tile.getDataVersion();
+
+            ResourceLocation itemID = tile.getItem();
+            Item item = itemID == null ? null : ForgeRegistries.ITEMS.getValue(itemID);
+            this.stack = item == null ? ItemStack.EMPTY : new ItemStack(item);
+
+            List<String> text = new ArrayList<>(2);
+            List<Integer> colors = new ArrayList<>(2);
+
+            if(tile.getBuyPrice() > 0) {
+                text.add(SHOP_TEXT.format("buy", CurrencyUtil.CURRENCY_SYMBOL
+                        + CurrencyUtil.toFullString(tile.getBuyPrice())));
+                colors.add(BUY_COLOR);
+            }
+
+            if(tile.getSellPrice() > 0) {
+                text.add(SHOP_TEXT.format("sell", CurrencyUtil.CURRENCY_SYMBOL
+                        + CurrencyUtil.toFullString(tile.getSellPrice())));
+                colors.add(SELL_COLOR);
+            }
+
+            this.lines = new PriceLine[text.size()];
+            for(int i = 0; i < lines.length; i++) {
+                String line = text.get(i);
+                lines[i] = new PriceLine(line, -font.getStringWidth(line) / 2F, i * LINE_HEIGHT, colors.get(i));
+            }
+        }
+    }
+
+    /**
+     * A single, laid out, line of price text.
+     */
+    private static final class PriceLine {
+
+        /**
+         * The formatted text.
+         */
+        private final String text;
+
+        /**
+         * The position of the text, centered.
+         */
+        private final float x, y;
+
+        /**
+         * The color of the text.
+         */
+        private final int color;
+
+        /**
+         * @param text the formatted text.
+         * @param x the x position of the text.
+         * @param y the y position of the text.
+         * @param color the color of the text.
+         */
+        private PriceLine(String text, float x, float y, int color) {
+            this.text = text;
+            this.x = x;
+            this.y = y;
+            this.color = color;
+        }
+    }
+}
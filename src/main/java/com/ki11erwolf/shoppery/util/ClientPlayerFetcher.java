@@ -1,6 +1,7 @@
 package com.ki11erwolf.shoppery.util;
 
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.world.World;
 
 /**
  * A wrapper class that allows us to reference (but not call)
@@ -16,4 +17,10 @@ public class ClientPlayerFetcher {
         return net.minecraft.client.Minecraft.getInstance().player;
     }
 
+    /**
+     * @return {@link net.minecraft.client.Minecraft#world}
+     */
+    public static World getClientWorld(){
+        return net.minecraft.client.Minecraft.getInstance().world;
+    }
 }
@@ -3,11 +3,6 @@ package com.ki11erwolf.shoppery.util;
 import com.ki11erwolf.shoppery.config.ModConfig;
 import com.ki11erwolf.shoppery.config.categories.GeneralConfig;
 
-import java.text.NumberFormat;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
-
 /**
  * A set of utilities that aid in working with
  * currencies.
@@ -32,23 +27,7 @@ public class CurrencyUtil {
      * @return the given amount as a price.
      */
     public static String toFullString(double amount){
-        String[] balance = (amount + "").replace(".", "-").split("-");
-
-        if(balance.length == 0){
-            return toFullString(Long.parseLong(String.valueOf(amount)), (byte) 0);
-        } else if(balance.length == 1){
-            balance = new String[] {String.valueOf(balance[0]), "00"};
-        } else {
-            char[] bal = balance[1].toCharArray();
-
-            if(bal.length == 1) balance[1] = bal[0] + "0";
-            else balance[1] = String.valueOf(bal[0]) + bal[1];
-        }
-
-        return toFullString(
-                Long.parseLong(balance[0]),
-                Byte.parseByte(balance[1])
-        );
+        return appendFull(scratch(), toCents(amount)).toString();
     }
 
     /**
@@ -84,8 +63,7 @@ public class CurrencyUtil {
      * @return the given amount as a price.
      */
     public static String toFullString(long balance, byte cents){
-        if(cents < 10) return NumberFormat.getInstance().format(balance) + ".0" + cents;
-        else return NumberFormat.getInstance().format(balance) + "." + cents;
+        return appendFull(scratch(), balance, cents).toString();
     }
 
     /**
@@ -97,27 +75,8 @@ public class CurrencyUtil {
      *
      * @return the given amount as a price.
      */
-    @SuppressWarnings("SuspiciousRegexArgument") //Hasn't been a problem (yet?)
     public static String toShortString(double amount){
-        String[] balance = (amount + "").split(".");
-
-        if(balance.length == 0){
-            return toShortString(Long.parseLong(String.valueOf(amount)), (byte) 0);
-        } else if(balance.length == 1){
-            balance = new String[] {String.valueOf(balance[0]), "00"};
-        } else {
-            char[] bal = balance[1].toCharArray();
-            balance[1] = String.valueOf(bal[0] + bal[1]);
-
-            if(balance[1].length() == 1){
-                balance[1] = balance[1] + "0";
-            }
-        }
-
-        return toShortString(
-                Long.parseLong(balance[0]),
-                Byte.parseByte(balance[1])
-        );
+        return appendShort(scratch(), toCents(amount)).toString();
     }
 
     /**
@@ -131,70 +90,187 @@ public class CurrencyUtil {
      * @return the given amount as a price.
      */
     public static String toShortString(long balance, byte cents){
-        if(balance == 0)
-            if(cents < 10){
-                return "0.0" + cents + 'c';
-            } else {
-                return "0." + cents + 'c';
-            }
+        return appendShort(scratch(), balance, cents).toString();
+    }
 
-        return format(balance);
+    /**
+     * @param amount an amount of money.
+     * @return the given amount in cents, rounded
+     * to the nearest cent.
+     */
+    public static long toCents(double amount){
+        return Math.round(amount * 100);
     }
 
     //***************************************************************************************************************
-    // Currency Formatting Code
-    // Copied from:
-    // https://stackoverflow.com/questions/4753251/how-to-go-about-formatting-1200-to-1-2k-in-java/30661479#30661479
-    // THE BELOW CODE HAS BEEN EDITED
+    // Currency Formatting Engine
+    //
+    // Writes prices into a given StringBuilder, one char at a time, from
+    // the lookup tables below. Nothing is allocated unless the builder
+    // grows, so callers that keep a builder (e.g. screens drawing a
+    // balance every frame) can format prices for free.
     //***************************************************************************************************************
 
     /**
-     * Map of numbers to their shorthand version.
+     * Every power of ten that fits in a long,
+     * indexed by exponent.
+     */
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    /**
+     * The letters used to shorten prices, in
+     * ascending order of {@link #SUFFIX_VALUES}.
      */
-    private static final NavigableMap<Long, String> SUFFIXES = new TreeMap<>();
+    private static final char[] SUFFIXES = {'K', 'M', 'B', 'T', 'Q'};
+
+    /**
+     * The value each of the {@link #SUFFIXES} stands for.
+     */
+    private static final long[] SUFFIX_VALUES = {
+            1_000L, 1_000_000L, 1_000_000_000L, 1_000_000_000_000L, 1_000_000_000_000_000L
+    };
+
+    /**
+     * A builder per thread, reused by the methods
+     * that return the price as a String.
+     */
+    private static final ThreadLocal<StringBuilder> SCRATCH = ThreadLocal.withInitial(() -> new StringBuilder(32));
 
     /*
-     * Initializes suffixes the map.
+     * Initializes the powers of ten.
      */
     static {
-        SUFFIXES.put(1_000L, "K");
-        SUFFIXES.put(1_000_000L, "M");
-        SUFFIXES.put(1_000_000_000L, "B");
-        SUFFIXES.put(1_000_000_000_000L, "T");
-        SUFFIXES.put(1_000_000_000_000_000L, "Q");
+        long power = 1;
+
+        for(int i = 0; i < POWERS_OF_TEN.length; i++, power *= 10)
+            POWERS_OF_TEN[i] = power;
     }
 
     /**
-     * Shortens the given number to the most
-     * significant value(s) followed by a letter
-     * to denote the amount of trailing zeros (0).
+     * Writes the given amount of cents to the given
+     * builder as a price, with separating commas
+     * (e.g. {@code 1,234.05}).
+     *
+     * @param out the builder to write to.
+     * @param cents the amount of money, in cents.
+     * @return the given builder.
+     */
+    public static StringBuilder appendFull(StringBuilder out, long cents){
+        if(cents < 0)
+            out.append('-');
+
+        return appendFull(out, Math.abs(cents / 100), (byte) Math.abs(cents % 100));
+    }
+
+    /**
+     * Writes the given {@code balance} and {@code cents}
+     * to the given builder as a price, with separating
+     * commas (e.g. {@code 1,234.05}).
+     *
+     * @param out the builder to write to.
+     * @param balance the balance (excluding cents).
+     * @param cents the cents balance.
+     * @return the given builder.
+     */
+    public static StringBuilder appendFull(StringBuilder out, long balance, byte cents){
+        if(balance < 0){
+            out.append('-');
+            //Long.MIN_VALUE == -Long.MIN_VALUE so we need an adjustment here
+            balance = balance == Long.MIN_VALUE ? Long.MAX_VALUE : -balance;
+        }
+
+        int digits = 1;
+        while(digits < POWERS_OF_TEN.length && balance >= POWERS_OF_TEN[digits])
+            digits++;
+
+        for(int i = digits - 1; i >= 0; i--){
+            out.append((char) ('0' + (balance / POWERS_OF_TEN[i]) % 10));
+
+            if(i != 0 && i % 3 == 0)
+                out.append(',');
+        }
+
+        return appendCents(out.append('.'), cents);
+    }
+
+    /**
+     * Writes the given amount of cents to the given builder as a
+     * shortened price (e.g. {@code 5.8K}). See {@link
+     * #appendShort(StringBuilder, long, byte)}.
+     *
+     * @param out the builder to write to.
+     * @param cents the amount of money, in cents.
+     * @return the given builder.
+     */
+    public static StringBuilder appendShort(StringBuilder out, long cents){
+        if(cents < 0)
+            out.append('-');
+
+        return appendShort(out, Math.abs(cents / 100), (byte) Math.abs(cents % 100));
+    }
+
+    /**
+     * Writes the given {@code balance} and {@code cents} to
+     * the given builder as a shortened price - that is - the
+     * most significant value(s) followed by a letter to denote
+     * the amount of trailing zeros (0). Balances under one are
+     * written as cents.
      *
      * Examples:
-     * 1000 to 1k
-     * 5821 to 5.8k
-     * 10500 to 10k
-     * 101800 to 101k
-     * 2000000 to 2m
-     * 7800000 to 7.8m
-     * 92150000 to 92m
-     * 123200000 to 123m
+     * 0.05 to 0.05c
+     * 1000 to 1K
+     * 5821 to 5.8K
+     * 10500 to 10K
+     * 101800 to 101K
+     * 2000000 to 2M
+     * 7800000 to 7.8M
+     * 92150000 to 92M
+     * 123200000 to 123M
      *
-     * @param value the value to shorten.
-     * @return the shorten value.
-     */
-    private static String format(long value) {
-        //Long.MIN_VALUE == -Long.MIN_VALUE so we need an adjustment here
-        if (value == Long.MIN_VALUE) return format(Long.MIN_VALUE + 1);
-        if (value < 0) return "-" + format(-value);
-        if (value < 1000) return Long.toString(value); //deal with easy case
-
-        Map.Entry<Long, String> e = SUFFIXES.floorEntry(value);
-        Long divideBy = e.getKey();
-        String suffix = e.getValue();
-
-        long truncated = value / (divideBy / 10); //the number part of the output times 10
-        //noinspection IntegerDivisionInFloatingPointContext
-        boolean hasDecimal = truncated < 100 && (truncated / 10d) != (truncated / 10);
-        return hasDecimal ? (truncated / 10d) + suffix : (truncated / 10) + suffix;
+     * @param out the builder to write to.
+     * @param balance the balance (excluding cents).
+     * @param cents the cents balance.
+     * @return the given builder.
+     */
+    public static StringBuilder appendShort(StringBuilder out, long balance, byte cents){
+        if(balance == 0)
+            return appendCents(out.append("0."), cents).append('c');
+
+        if(balance < 0){
+            out.append('-');
+            //Long.MIN_VALUE == -Long.MIN_VALUE so we need an adjustment here
+            balance = balance == Long.MIN_VALUE ? Long.MAX_VALUE : -balance;
+        }
+
+        if(balance < SUFFIX_VALUES[0])
+            return out.append(balance);
+
+        int suffix = SUFFIX_VALUES.length - 1;
+        while(balance < SUFFIX_VALUES[suffix])
+            suffix--;
+
+        long truncated = balance / (SUFFIX_VALUES[suffix] / 10); //the number part of the output times 10
+        out.append(truncated / 10);
+
+        if(truncated < 100 && truncated % 10 != 0)
+            out.append('.').append((char) ('0' + truncated % 10));
+
+        return out.append(SUFFIXES[suffix]);
+    }
+
+    /**
+     * Writes the given cents as two digits.
+     */
+    private static StringBuilder appendCents(StringBuilder out, byte cents){
+        return out.append((char) ('0' + cents / 10)).append((char) ('0' + cents % 10));
+    }
+
+    /**
+     * @return the calling threads builder, emptied.
+     */
+    private static StringBuilder scratch(){
+        StringBuilder builder = SCRATCH.get();
+        builder.setLength(0);
+        return builder;
     }
 }
@@ -2,6 +2,9 @@ package com.ki11erwolf.shoppery.util;
 
 import net.minecraft.client.resources.I18n;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Allows defining additional, external locale
  * domains.
@@ -9,6 +12,12 @@ import net.minecraft.client.resources.I18n;
  * <p/>A locale domain is a grouping of
  * related I18n translation key prefixes,
  * e.g. {@code item.shoppery.*}
+ *
+ * <p/>Translations are looked up through
+ * {@link LocaleTemplate}s, cached by domain
+ * and identifier, and sub domains are cached
+ * by parent and child, so domains can be used
+ * every frame.
  */
 public interface LocaleDomain {
 
@@ -24,7 +33,7 @@ public interface LocaleDomain {
      * trailing separator.</b>
      */
     default String getDomain() {
-        return String.format("%s%s.", LocaleDomains.DEFAULT.getDomain(), getName());
+        return LocaleDomains.DEFAULT.getDomain() + getName() + ".";
     }
 
     /**
@@ -40,7 +49,7 @@ public interface LocaleDomain {
      * Object...) Formatted} with the given
      * parameters first.
      *
-     * <p/>Wrapper for {@link I18n#format(String, Object...)}.
+     * <p/>Equivalent to {@link I18n#format(String, Object...)}.
      *
      * @param identifier the translations identifier within the grouping.
      * @param params parameters used to
@@ -49,7 +58,7 @@ public interface LocaleDomain {
      * detailing why no translation was returned.
      */
     default String format(String identifier, Object... params){
-        return I18n.format(this.getDomain() + identifier, params);
+        return LocaleTemplate.get(this, identifier).format(params);
     }
 
     /**
@@ -57,7 +66,7 @@ public interface LocaleDomain {
      * identifier, from the currently selected language
      * translations file.
      *
-     * <p/>Wrapper for {@link I18n#format(String, Object...)} without
+     * <p/>Equivalent to {@link I18n#format(String, Object...)} without
      * arguments.
      *
      * @param identifier the translations identifier within the grouping.
@@ -65,7 +74,7 @@ public interface LocaleDomain {
      * detailing why no translation was returned.
      */
     default String get(String identifier){
-        return I18n.format(this.getDomain() + identifier);
+        return LocaleTemplate.get(this, identifier).format();
     }
 
     /**
@@ -73,13 +82,17 @@ public interface LocaleDomain {
      * sub domains. The sub domain is always append to the
      * right of the parent domain.
      *
+     * <p/>The sub domain is created once, and the same
+     * instance returned by every later call with a parent
+     * and sub domain of the same domain and name.
+     *
      * @param subDomain the domain that will be grouped
      *                  under this domain as a sub domain
-     * @return the new domain title made of the parent and
+     * @return the domain made of the parent and
      * sub domain.
      */
     default LocaleDomain sub(LocaleDomain subDomain){
-        return new LocaleDomainString(this, subDomain);
+        return LocaleDomainString.of(this, subDomain);
     }
 
     /**
@@ -91,15 +104,25 @@ public interface LocaleDomain {
     class LocaleDomainString implements LocaleDomain {
 
         /**
-         * The higher priority domain grouping.
+         * Every created domain string, mapped to its child
+         * domains name, mapped to its parent domains key
+         * prefix. Keyed by value rather than domain object,
+         * so domains created per call (e.g. capturing lambdas)
+         * share one entry.
          */
-        private final LocaleDomain parent;
+        private static final Map<String, Map<String, LocaleDomainString>> DOMAIN_STRINGS
+                = new ConcurrentHashMap<>();
 
         /**
-         * The lower priority domain grouped under
-         * the parent domain.
+         * The domain key prefix, built once and interned.
          */
-        private final LocaleDomain child;
+        private final String domain;
+
+        /**
+         * The parent and child names, concatenated
+         * together with a "$".
+         */
+        private final String name;
 
         /**
          * Creates a single new domain comprised of a string
@@ -109,7 +132,25 @@ public interface LocaleDomain {
          * @param sub the lower level grouping sub domain.
          */
         private LocaleDomainString(LocaleDomain parent, LocaleDomain sub){
-            this.parent = parent; this.child = sub;
+            this.domain = (parent.getDomain() + sub.getName() + ".").intern();
+            this.name = parent.getName() + "$" + sub.getName();
+        }
+
+        /**
+         * Gets the domain string of the given parent and
+         * sub domain, creating it if it doesn't exist.
+         *
+         * @param parent the top level parent domain - the higher level grouping.
+         * @param sub the lower level grouping sub domain.
+         * @return the single domain string of the given domains.
+         */
+        private static LocaleDomainString of(LocaleDomain parent, LocaleDomain sub){
+            Map<String, LocaleDomainString> children
+                    = DOMAIN_STRINGS.computeIfAbsent(parent.getDomain(), p -> new ConcurrentHashMap<>());
+            LocaleDomainString domain = children.get(sub.getName());
+
+            return domain != null ? domain
+                    : children.computeIfAbsent(sub.getName(), name -> new LocaleDomainString(parent, sub));
         }
 
         /**
@@ -117,7 +158,7 @@ public interface LocaleDomain {
          */
         @Override
         public String getDomain() {
-            return parent.getDomain() + child.getName() + ".";
+            return domain;
         }
 
         /**
@@ -128,7 +169,7 @@ public interface LocaleDomain {
          */
         @Override
         public String getName() {
-            return parent.getName() + "$" + child.getName();
+            return name;
         }
     }
 }
\ No newline at end of file
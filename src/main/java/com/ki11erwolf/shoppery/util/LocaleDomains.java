@@ -8,19 +8,7 @@ public enum LocaleDomains implements LocaleDomain {
     /**
      * No domain grouping.
      */
-    DEFAULT("shoppery"){
-
-        /**
-         * {@inheritDoc}
-         *
-         * </p>Special case handles the
-         * highest level domain.
-         */
-        @Override
-        public String getDomain(){
-            return this.getName() + ".";
-        }
-    },
+    DEFAULT("shoppery", "shoppery."),
 
     /**
      * Used to group all translations of titles.
@@ -76,12 +64,28 @@ public enum LocaleDomains implements LocaleDomain {
      */
     TEXT("text");
 
+    /**
+     * The key prefix of the {@link #DEFAULT} domain,
+     * which every other domain is grouped under.
+     */
+    private static final String DEFAULT_DOMAIN = "shoppery.";
+
     /**
      * @param name the single identifying
      * name of this domain.
      */
     LocaleDomains(String name){
+        this(name, DEFAULT_DOMAIN + name + ".");
+    }
+
+    /**
+     * @param name the single identifying
+     * name of this domain.
+     * @param domain the domain key prefix.
+     */
+    LocaleDomains(String name, String domain){
         this.name = name;
+        this.domain = domain.intern();
     }
 
     /**
@@ -89,6 +93,11 @@ public enum LocaleDomains implements LocaleDomain {
      */
     final String name;
 
+    /**
+     * The domain key prefix, built once and interned.
+     */
+    private final String domain;
+
     /**
      * @return The single identifying name of this domain.
      */
@@ -97,6 +106,14 @@ public enum LocaleDomains implements LocaleDomain {
         return name;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getDomain(){
+        return domain;
+    }
+
     /**
      * Equivalent to {@link #getDomain()}.
      *
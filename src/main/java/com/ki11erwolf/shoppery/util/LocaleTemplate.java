@@ -0,0 +1,230 @@
+package com.ki11erwolf.shoppery.util;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.resources.I18n;
+import net.minecraft.resources.IReloadableResourceManager;
+import net.minecraft.resources.IResourceManager;
+import net.minecraftforge.resource.IResourceType;
+import net.minecraftforge.resource.ISelectiveResourceReloadListener;
+import net.minecraftforge.resource.VanillaResourceType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A translation, from the currently selected language, compiled
+ * into its literal text and parameter positions, so it can be
+ * formatted any number of times without looking up the translation
+ * or parsing its format again.
+ *
+ * <p/>Templates are cached by translation key, and by {@link
+ * LocaleDomain} & identifier, so a {@link LocaleDomain} lookup
+ * is a map read. The caches are cleared whenever the language
+ * resources are reloaded, which includes selecting another
+ * language.
+ *
+ * <p/>Client side only.
+ */
+public final class LocaleTemplate {
+
+    /**
+     * The maximum number of parameters a
+     * compiled translation can contain.
+     */
+    private static final int MAX_PARAMETERS = 9;
+
+    /**
+     * Marks the start and end of a parameter
+     * position in a translation while compiling.
+     */
+    private static final char MARKER = '\u0000';
+
+    /**
+     * Every compiled template, mapped to its translation key.
+     */
+    private static final Map<String, LocaleTemplate> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Every compiled template, mapped to its identifier, mapped
+     * to its {@link LocaleDomain#getDomain() domain}. Concurrent,
+     * as domains are also used by the integrated server.
+     */
+    private static final Map<String, Map<String, LocaleTemplate>> DOMAIN_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * The number of times the caches have been cleared.
+     */
+    private static int generation = 0;
+
+    /**
+     * The translation key of the template.
+     */
+    private final String key;
+
+    /**
+     * The literal text before, between, and after each parameter,
+     * or {@code null} if the translation could not be compiled.
+     */
+    private final String[] literals;
+
+    /**
+     * The index of the parameter that follows each literal.
+     */
+    private final int[] parameters;
+
+    /**
+     * @param key the translation key of the template.
+     * @param literals the literal text before, between, and
+     *                 after each parameter, or {@code null}.
+     * @param parameters the index of the parameter that
+     *                   follows each literal.
+     */
+    private LocaleTemplate(String key, String[] literals, int[] parameters){
+        this.key = key;
+        this.literals = literals;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Registers the resource reload listener that clears
+     * the cached templates. Called on the client thread
+     * during client setup.
+     */
+    public static void init(){
+        ((IReloadableResourceManager) Minecraft.getInstance().getResourceManager()).addReloadListener(
+                (ISelectiveResourceReloadListener) LocaleTemplate::onResourceReload
+        );
+    }
+
+    /**
+     * Gets the compiled template of the given translation key,
+     * in the currently selected language, compiling it if it
+     * hasn't been already.
+     *
+     * @param key the translation key.
+     * @return the translations compiled template.
+     */
+    public static LocaleTemplate get(String key){
+        return CACHE.computeIfAbsent(key, LocaleTemplate::compile);
+    }
+
+    /**
+     * Gets the compiled template of the translation of the given
+     * identifier within the given domain, in the currently
+     * selected language, compiling it if it hasn't been already.
+     *
+     * <p/>Unlike {@link #get(String)}, the translation key is
+     * only built the first time it's compiled.
+     *
+     * @param domain the domain of the translation.
+     * @param identifier the translations identifier within the domain.
+     * @return the translations compiled template.
+     */
+    public static LocaleTemplate get(LocaleDomain domain, String identifier){
+        String prefix = domain.getDomain();
+        Map<String, LocaleTemplate> templates = DOMAIN_CACHE.computeIfAbsent(prefix, p -> new ConcurrentHashMap<>());
+        LocaleTemplate template = templates.get(identifier);
+
+        return template != null ? template : templates.computeIfAbsent(identifier, id -> compile(prefix + id));
+    }
+
+    /**
+     * @return the number of times the cached templates have been
+     * cleared. Lets text built from translations be rebuilt only
+     * when the translations change.
+     */
+    public static int getGeneration(){
+        return generation;
+    }
+
+    /**
+     * Formats the template with the given parameters.
+     * Equivalent to {@link I18n#format(String, Object...)}.
+     *
+     * @param params the parameters to format the template with.
+     * @return the formatted translation.
+     */
+    public String format(Object... params){
+        if(literals == null)
+            return I18n.format(key, params);
+
+        if(parameters.length == 0)
+            return literals[0];
+
+        StringBuilder builder = new StringBuilder(literals[0]);
+
+        for(int i = 0; i < parameters.length; i++){
+            int parameter = parameters[i];
+
+            if(parameter < params.length)
+                builder.append(params[parameter]);
+
+            builder.append(literals[i + 1]);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Clears the cached templates when the language
+     * resources are reloaded.
+     */
+    private static void onResourceReload(IResourceManager manager, Predicate<IResourceType> types){
+        if(!types.test(VanillaResourceType.LANGUAGES))
+            return;
+
+        CACHE.clear();
+        DOMAIN_CACHE.clear();
+        generation++;
+    }
+
+    /**
+     * Compiles the translation of the given key, by formatting
+     * it with markers in place of the parameters and splitting
+     * the result around the markers.
+     *
+     * @param key the translation key.
+     * @return the compiled template, which falls back to
+     * {@link I18n#format(String, Object...)} if the
+     * translation cannot be compiled.
+     */
+    private static LocaleTemplate compile(String key){
+        Object[] markers = new Object[MAX_PARAMETERS];
+        for(int i = 0; i < MAX_PARAMETERS; i++)
+            markers[i] = MARKER + Integer.toString(i) + MARKER;
+
+        String translation = I18n.format(key, markers);
+        if(translation.startsWith("Format error: "))
+            return new LocaleTemplate(key, null, null);
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> parameters = new ArrayList<>();
+
+        int start = 0;
+        int marker;
+
+        while((marker = translation.indexOf(MARKER, start)) != -1){
+            int end = translation.indexOf(MARKER, marker + 1);
+
+            if(end == -1)
+                return new LocaleTemplate(key, null, null);
+
+            try {
+                parameters.add(Integer.parseInt(translation.substring(marker + 1, end)));
+            } catch (NumberFormatException e) {
+                return new LocaleTemplate(key, null, null);
+            }
+
+            literals.add(translation.substring(start, marker));
+            start = end + 1;
+        }
+
+        literals.add(translation.substring(start));
+        return new LocaleTemplate(
+                key, literals.toArray(new String[0]), parameters.stream().mapToInt(Integer::intValue).toArray()
+        );
+    }
+}
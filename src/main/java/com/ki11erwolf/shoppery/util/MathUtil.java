@@ -77,6 +77,18 @@ public final class MathUtil {
         return ThreadLocalRandom.current().nextDouble(min, max + 0.01);
     }
 
+    /**
+     * @param random the random object instance to use.
+     * @param min minimum possible value.
+     * @param max maximum possible value.
+     * @return a new random double within
+     * the range (inclusive) of {@code min}
+     * and {@code max}.
+     */
+    public static double getRandomDoubleInRange(Random random, double min, double max){
+        return min + (random.nextDouble() * ((max + 0.01) - min));
+    }
+
     /**
      * @return a random boolean obtained from
      * {@link #RANDOM_INSTANCE}.
@@ -85,6 +97,15 @@ public final class MathUtil {
         return RANDOM_INSTANCE.nextBoolean();
     }
 
+    /**
+     * @param random the random object instance to use.
+     * @return a random boolean obtained from
+     * the given random object instance.
+     */
+    public static boolean getRandomBoolean(Random random){
+        return random.nextBoolean();
+    }
+
     /**
      * @param d the double to round.
      * @return the given double rounded to
@@ -3,8 +3,6 @@ package com.ki11erwolf.shoppery.util;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
-import java.util.Objects;
-
 /**
  * A set of utility methods and classes that aid in
  * working with most rendering and graphics tasks.
@@ -15,148 +13,90 @@ public final class RenderUtil {
     //No Instantiate
     private RenderUtil() {}
 
-    /**
-     * Converts Minecraft frame render() times from
-     * floats to milliseconds as an integer.
-     *
-     * @param frameRenderTime time taken for Minecraft
-     * render method to render the frame, as a decimal.
-     * @return the time taken to render the frame, in
-     * milliseconds.
-     */
-    public static int frameTimeToMs(float frameRenderTime){
-        return (int) (frameRenderTime * 50);
-    }
-
     // ####################
     // Classes & Interfaces
     // ####################
 
     /**
-     * A utility object for animation renderers that render
-     * animations by repeatedly cycling through a predefined
-     * set of animation frames, where each frame is rendered
-     * for a specific amount of time (in milliseconds) before
-     * the next is cycled and rendered.
+     * A clock that animations on a screen are timed by, shared
+     * by every widget on the screen, so each widget does not keep
+     * time itself.
      *
-     * <p>Simply define a new TimedAnimationStepper and pass
-     * in a frame count, frame render time, and a {@link
-     * FrameChangedListener} callback. Once done, the renderer
-     * simply needs to render the frame number it's told to by
-     * the FrameChangedListener callback.
+     * <p>The clock is driven by client ticks, rather than render
+     * calls, so animations play at the same speed at any frame
+     * rate. The screen owning the clock calls {@link #tick()}
+     * every client tick, and {@link #onRender(float)} once per
+     * frame with the partial tick, which is used to interpolate
+     * between ticks.
      *
-     * <p>Then to play the animation, ensure {@link #onRender
-     * (float)} is called every render cycle from the {@code
-     * render()} method. The animation will pause on its current
-     * frame as soon as {@code onRender()} is  no longer being
-     * called.
+     * <p>Widgets then read the time, or the frame of an animation
+     * that repeatedly cycles through a set of frames, each shown
+     * for a specific amount of time (see {@link #getFrame(long,
+     * int, int)}).
      */
-    public static class TimedAnimationStepper {
-
-        /**
-         * Change listener that enables the renderer to be
-         * notified when to change frames and to what frame.
-         */
-        private final FrameChangedListener frameChangedListener;
+    public static final class AnimationClock {
 
         /**
-         * The amount of milliseconds a frame should be rendered
-         * on screen for before the next is cycled.
+         * The number of milliseconds in a client tick.
          */
-        private final int millisecondsPerFrame;
+        private static final int MILLISECONDS_PER_TICK = 50;
 
         /**
-         * The total number of frames in the animation sequence.
+         * Client ticks since the clock was created.
          */
-        private final int amountOfFrames;
+        private long ticks = 0;
 
         /**
-         * Internal: amount of time spent rendering the current
-         * frame so far.
+         * The time passed since the last tick as a
+         * fraction of a tick, as of the last frame.
          */
-        private int millisecondsOnFrame = 0;
+        private float partialTicks = 0;
 
         /**
-         * Internal: the specific frame of the animation currently
-         * being rendered.
-         */
-        private int frame = 0;
-
-        /**
-         * @param millisecondsPerFrame The amount of milliseconds a
-         * frame should be rendered on screen for before the next
-         * is cycled and rendered.
-         * @param amountOfFrames number of frames in the
-         * animation sequence. Must be 2 or more.
-         * @param changeListener callback that enables the
-         * renderer to be notified when to change frames and to
-         * what frame.
+         * Advances the clock by one client tick. Called
+         * by the screen owning the clock every client tick.
          */
-        public TimedAnimationStepper(int millisecondsPerFrame, int amountOfFrames, FrameChangedListener changeListener){
-            if(amountOfFrames <= 1)
-                throw new IllegalArgumentException("Minimum of 2 frames needed in render cycle.");
-            if(millisecondsPerFrame <= 0)
-                throw new IllegalArgumentException("Frame render time cannot be 0 or below.");
-
-            this.frameChangedListener = Objects.requireNonNull(changeListener);
-            this.millisecondsPerFrame = millisecondsPerFrame;
-            this.amountOfFrames = amountOfFrames;
+        public void tick(){
+            ticks++;
         }
 
         /**
-         * <b>Needs to be called by the animation renderer, from the
-         * renderers {@code render()} method.</b> for as long as the
-         * animation should play.
-         *
-         * <p>Stop calling this method to pause or stop the animation.
+         * Interpolates the clock between ticks. Called by the
+         * screen owning the clock before rendering each frame.
          *
-         * @param frameRenderTime the decimal float value given by
-         * Minecraft's render methods that specifies how long every
-         * frame took to render.
+         * @param partialTicks the partial tick given to the
+         *                     screens {@code render()} method.
          */
-        public void onRender(float frameRenderTime){
-            //Count milliseconds elapsed during render
-            millisecondsOnFrame += frameTimeToMs(frameRenderTime);
-
-            //If set time has passed
-            if(millisecondsOnFrame > millisecondsPerFrame) {
-                frame++;//Increment animation frame
-                millisecondsOnFrame = 0;//and reset frame time
-
-                //Then reset frame if over frame count
-                if(frame >= amountOfFrames) { frame = 0; }
-
-                //Before finally notifying the actual rendering code of a frame change.
-                frameChangedListener.onFrameChanged(frame);
-            }
+        public void onRender(float partialTicks){
+            this.partialTicks = partialTicks;
         }
 
         /**
-         * Resets the animation back to its default starting frame.
+         * @return the time, in milliseconds, since the clock was
+         * created, interpolated between ticks. Only used to
+         * measure time passed.
          */
-        public void reset(){
-            this.millisecondsOnFrame = 0;
-            this.frame = 0;
+        public long getTime(){
+            return (long) ((ticks + partialTicks) * MILLISECONDS_PER_TICK);
         }
-    }
-
-    /**
-     * Interface used to receive callbacks from the
-     * {@link TimedAnimationStepper} when the next
-     * animation frame needs rendering.
-     */
-    public interface FrameChangedListener {
 
         /**
-         * Called when the specific amount of render
-         * time has passed and the next frame of the
-         * animation needs rendering.
+         * Gets the frame of an animation that repeatedly cycles
+         * through its frames, showing each frame for a specific
+         * amount of time.
          *
-         * @param frame the frame of the animation
-         * to render.
+         * @param start the {@link #getTime() time} the animation
+         *              started (e.g. when the widget was hovered).
+         * @param millisecondsPerFrame The amount of milliseconds a
+         *                             frame is shown for.
+         * @param amountOfFrames number of frames in the
+         *                       animation sequence.
+         * @return the frame of the animation to render, from
+         * {@code 0} to {@code amountOfFrames - 1}.
          */
-        void onFrameChanged(int frame);
-
+        public int getFrame(long start, int millisecondsPerFrame, int amountOfFrames){
+            long elapsed = Math.max(0, getTime() - start);
+            return (int) ((elapsed / millisecondsPerFrame) % amountOfFrames);
+        }
     }
-
 }